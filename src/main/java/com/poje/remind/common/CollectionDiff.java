@@ -0,0 +1,59 @@
+package com.poje.remind.common;
+
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 기존 목록과 수정 요청 목록의 차이
+ * key 를 기준으로 두 목록을 한 번씩만 순회해서 삭제할 기존 요소와 추가할 요청 요소를 구함 (O(n + m))
+ * @param <E> 기존 요소 (엔티티)
+ * @param <R> 수정 요청 요소
+ */
+@Getter
+public class CollectionDiff<E, R> {
+
+    private final List<E> removedList;    // 수정 요청에 없는 기존 요소
+    private final List<R> addedList;      // 기존 목록에 없는 요청 요소 (요청 순서 유지, key 가 같은 요청은 처음 것만)
+
+    private CollectionDiff(List<E> removedList, List<R> addedList) {
+        this.removedList = removedList;
+        this.addedList = addedList;
+    }
+
+    /**
+     * 기존 목록과 수정 요청 목록 비교
+     * @param existings 기존 목록
+     * @param existingKey 기존 요소의 key
+     * @param requests 수정 요청 목록
+     * @param requestKey 요청 요소의 key
+     * @return
+     */
+    public static <E, R, K> CollectionDiff<E, R> of(Collection<E> existings, Function<E, K> existingKey,
+                                                    Collection<R> requests, Function<R, K> requestKey) {
+        Map<K, R> requestMap = new LinkedHashMap<>();
+        for(R request : requests) {
+            requestMap.putIfAbsent(requestKey.apply(request), request);
+        }
+
+        Map<K, R> addedMap = new LinkedHashMap<>(requestMap);
+        List<E> removedList = new ArrayList<>();
+
+        for(E existing : existings) {
+            K key = existingKey.apply(existing);
+
+            if(requestMap.containsKey(key)) {
+                addedMap.remove(key);
+            } else {
+                removedList.add(existing);
+            }
+        }
+
+        return new CollectionDiff<>(removedList, new ArrayList<>(addedMap.values()));
+    }
+
+    public boolean isEmpty() {
+        return removedList.isEmpty() && addedList.isEmpty();
+    }
+}
@@ -11,9 +11,14 @@ public enum ErrorCode {
     BAD_REQUEST(HttpStatus.BAD_REQUEST.value(), "잘못된 요청입니다."),
     // 405 METHOD_NOT_ALLOWED: 허용되지 않은 Request Method 호출
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED.value(), "허용되지 않은 요청입니다."),
+    // 429 TOO_MANY_REQUESTS: 처리할 수 있는 요청 수 초과
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     // 500 INTERNAL_SERVER_ERROR: 서버 에러
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "내부 서버 오류입니다."),
 
+    // Paging
+    CURSOR_NOT_VALID(HttpStatus.BAD_REQUEST.value(), "올바르지 않은 페이지 커서입니다."),
+
     // Token
     TOKEN_NOT_VALIDATE(HttpStatus.BAD_REQUEST.value(), "올바르지 않은 토큰입니다."),
     REFRESH_TOKEN_NOT_MATCHED(HttpStatus.BAD_REQUEST.value(), "리프레시 토큰이 일치하지 않습니다."),
@@ -40,6 +45,11 @@ public enum ErrorCode {
     // Project
     PROJECT_NOT_FOUND(HttpStatus.BAD_REQUEST.value(), "프로젝트를 찾을 수 없습니다."),
     PROJECT_NOT_MATCH(HttpStatus.BAD_REQUEST.value(), "프로젝트 정보가 일치하지 않습니다."),
+
+    // Image
+    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "이미지를 찾을 수 없습니다."),
+    INVALID_IMAGE_TYPE(HttpStatus.BAD_REQUEST.value(), "지원하지 않는 이미지 형식입니다. (png, jpg, gif, webp)"),
+    IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR.value(), "이미지 저장에 실패했습니다."),
     ;
 
 
@@ -0,0 +1,51 @@
+package com.poje.remind.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징 위치 (생성일, id)
+ * 클라이언트에는 Base64 로 인코딩된 불투명한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class PagingCursor {
+
+    public static final int SIZE = 12;  // 한 번에 조회할 데이터 수
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor
+     * @return 첫 페이지 요청(빈 문자열)인 경우 null
+     */
+    public static PagingCursor decode(String cursor) {
+        if(!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIdx = raw.lastIndexOf(DELIMITER);
+
+            return new PagingCursor(LocalDateTime.parse(raw.substring(0, delimiterIdx)), Long.parseLong(raw.substring(delimiterIdx + 1)));
+        } catch(IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new GlobalException(ErrorCode.CURSOR_NOT_VALID);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.poje.remind.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+    private TransactionUtil() {}
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후 작업 실행 (트랜잭션이 없으면 즉시 실행)
+     * @param task
+     */
+    public static void afterCommit(Runnable task) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
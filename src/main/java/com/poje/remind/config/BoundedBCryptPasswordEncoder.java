@@ -0,0 +1,50 @@
+package com.poje.remind.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 해싱 스레드 풀에서 BCrypt 연산을 실행하는 PasswordEncoder
+ * 요청 스레드는 결과만 기다리므로 로그인이 몰려도 동시에 실행되는 해싱 수는 제한됨
+ */
+public class BoundedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public BoundedBCryptPasswordEncoder(int strength, PasswordHashingExecutor passwordHashingExecutor) {
+        super(strength);
+        this.strength = strength;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 설정값과 다르면 다시 해싱 (BCryptPasswordEncoder 는 cost 가 낮아진 경우만 다시 해싱)
+     * @param encodedPassword
+     * @return
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if(encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
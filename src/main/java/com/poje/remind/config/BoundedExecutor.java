@@ -0,0 +1,62 @@
+package com.poje.remind.config;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.*;
+
+/**
+ * 스레드 수와 대기 수를 제한한 전용 스레드 풀
+ * 대기열이 가득 찼을 때의 처리는 하위 클래스가 RejectedExecutionHandler 로 지정
+ */
+public abstract class BoundedExecutor {
+
+    protected final ThreadPoolExecutor executor;
+
+    protected BoundedExecutor(int threads, int queueCapacity, String threadNamePrefix,
+                              RejectedExecutionHandler rejectedExecutionHandler) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(threadNamePrefix),
+                rejectedExecutionHandler);
+    }
+
+    /**
+     * 작업 실행
+     * @param task
+     * @return
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * 작업 결과를 기다림 (작업에서 발생한 예외는 그대로 던짐)
+     * @param future
+     * @return
+     */
+    public <T> T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if(e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package com.poje.remind.config;
+
+import com.poje.remind.domain.Member.RoleType;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+
+/**
+ * 인증된 회원 정보 (요청마다 SecurityContext 의 principal 로 사용)
+ * access token 클레임으로 생성되므로 서비스에서 회원을 다시 조회하지 않고 id 를 사용할 수 있음
+ */
+@Getter
+public class CurrentMember extends User {
+
+    private final Long id;
+    private final RoleType role;
+
+    public CurrentMember(Long id, String loginId, String password, RoleType role) {
+        super(loginId, password, Collections.singleton(new SimpleGrantedAuthority(role.toString())));
+        this.id = id;
+        this.role = role;
+    }
+
+    public String getLoginId() {
+        return getUsername();
+    }
+}
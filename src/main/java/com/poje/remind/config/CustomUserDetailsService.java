@@ -1,22 +1,20 @@
 package com.poje.remind.config;
 
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-
 @RequiredArgsConstructor
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -28,9 +26,26 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
     }
 
-    private UserDetails createUserDetails(Member member) {
-        GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(member.getRole().toString());
+    /**
+     * 로그인 성공 시 저장된 해시의 cost 가 설정값과 다르면 새 해시로 저장 (DaoAuthenticationProvider 에서 호출)
+     * @param user
+     * @param newPassword 새 cost 로 다시 해싱한 비밀번호
+     * @return
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findById(((CurrentMember) user).getId()).orElseThrow(
+                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
+        );
 
-        return new User(member.getLoginId(), member.getPassword(), Collections.singleton(grantedAuthority));
+        member.updatePassword(newPassword);
+
+        return createUserDetails(member);
+    }
+
+    private UserDetails createUserDetails(Member member) {
+        // 토큰에 회원 id 를 담을 수 있도록 회원 id 까지 포함
+        return new CurrentMember(member.getId(), member.getLoginId(), member.getPassword(), member.getRole());
     }
 }
@@ -0,0 +1,9 @@
+package com.poje.remind.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@Configuration
+@EnableJpaAuditing  // BaseEntity 의 생성일, 수정일 자동 기록
+public class JpaAuditingConfig {
+}
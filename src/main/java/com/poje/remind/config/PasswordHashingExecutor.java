@@ -0,0 +1,47 @@
+package com.poje.remind.config;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀
+ * BCrypt 연산이 요청 스레드를 모두 점유하지 않도록 동시에 실행되는 해싱 수와 대기 수를 제한
+ * 대기열이 가득 차면 기다리지 않고 바로 429 응답 (password.hashing.threads, password.hashing.queue-capacity)
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor extends BoundedExecutor {
+
+    public PasswordHashingExecutor(@Value("${password.hashing.threads:0}") int threads,
+                                   @Value("${password.hashing.queue-capacity:64}") int queueCapacity) {
+        // 해싱은 CPU 연산이므로 기본값은 CPU 코어 수
+        super(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity,
+                "password-hashing-", new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 해싱 스레드 풀에서 작업을 실행하고 결과를 기다림
+     * @param task
+     * @return
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 대기열이 가득 찼습니다. - 대기 중인 요청 수: {}", executor.getQueue().size());
+            throw new GlobalException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        return get(future);
+    }
+}
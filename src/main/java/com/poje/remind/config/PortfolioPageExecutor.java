@@ -0,0 +1,20 @@
+package com.poje.remind.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 포트폴리오 전체 페이지 조회 시 서로 독립적인 영역(스킬, 수상, 프로젝트)을 동시에 조회하는 스레드 풀
+ * 작업마다 DB 커넥션을 사용하므로 스레드 수와 대기 수를 제한 (portfolio.page.threads, portfolio.page.queue-capacity)
+ * 대기열이 가득 차면 요청 스레드에서 직접 실행 (동시 조회 대신 순차 조회)
+ */
+@Component
+public class PortfolioPageExecutor extends BoundedExecutor {
+
+    public PortfolioPageExecutor(@Value("${portfolio.page.threads:4}") int threads,
+                                 @Value("${portfolio.page.queue-capacity:32}") int queueCapacity) {
+        super(threads, queueCapacity, "portfolio-page-", new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
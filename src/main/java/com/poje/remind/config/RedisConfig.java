@@ -1,5 +1,9 @@
 package com.poje.remind.config;
 
+import com.poje.remind.config.jwt.RevokedTokenCache;
+import com.poje.remind.service.portfolio.PortfolioAuthorizer;
+import com.poje.remind.service.portfolio.PortfolioLikeIndex;
+import com.poje.remind.service.portfolio.PortfolioSearchEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
@@ -8,6 +12,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @RequiredArgsConstructor
@@ -29,7 +35,33 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
 
         return redisTemplate;
     }
+
+    /**
+     * 로그아웃 토큰, 좋아요 변경, 검색 색인 변경, 작성자 캐시 제거 전파용 pub/sub 구독
+     * @param revokedTokenCache
+     * @param portfolioLikeIndex
+     * @param portfolioSearchEngine
+     * @param portfolioAuthorizer
+     * @return
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RevokedTokenCache revokedTokenCache,
+                                                                       PortfolioLikeIndex portfolioLikeIndex,
+                                                                       PortfolioSearchEngine portfolioSearchEngine,
+                                                                       PortfolioAuthorizer portfolioAuthorizer) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(revokedTokenCache, new ChannelTopic(RevokedTokenCache.CHANNEL));
+        container.addMessageListener(portfolioLikeIndex, new ChannelTopic(PortfolioLikeIndex.CHANNEL));
+        container.addMessageListener(portfolioSearchEngine, new ChannelTopic(PortfolioSearchEngine.CHANNEL));
+        container.addMessageListener(portfolioAuthorizer, new ChannelTopic(PortfolioAuthorizer.CHANNEL));
+
+        return container;
+    }
 }
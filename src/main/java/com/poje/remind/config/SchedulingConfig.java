@@ -0,0 +1,9 @@
+package com.poje.remind.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling   // 좋아요 수 보정 등 주기 작업 실행
+public class SchedulingConfig {
+}
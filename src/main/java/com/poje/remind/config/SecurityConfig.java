@@ -4,10 +4,12 @@ import com.poje.remind.config.jwt.JwtAccessDeniedHandler;
 import com.poje.remind.config.jwt.JwtAuthenticationEntryPoint;
 import com.poje.remind.config.jwt.JwtAuthenticationFilter;
 import com.poje.remind.config.jwt.JwtTokenProvider;
+import com.poje.remind.config.jwt.RevokedTokenCache;
+import com.poje.remind.config.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -26,12 +28,21 @@ public class SecurityConfig {
     private final JwtTokenProvider tokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RevokedTokenCache revokedTokenCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
 
+    /**
+     * BCrypt 연산은 해싱 전용 스레드 풀에서 실행
+     * cost 를 변경하면 로그인 시 기존 해시를 새 cost 로 다시 저장 (CustomUserDetailsService.updatePassword)
+     * @param passwordHashingExecutor
+     * @param strength
+     * @return
+     */
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                                       @Value("${password.bcrypt.strength:10}") int strength) {
+        return new BoundedBCryptPasswordEncoder(strength, passwordHashingExecutor);
     }
 
     @Bean
@@ -49,7 +60,7 @@ public class SecurityConfig {
                                 .requestMatchers("/admin/**").hasRole("ADMIN")
                                 .requestMatchers("/member/**").authenticated()
                                 .anyRequest().permitAll()
-                ).addFilterBefore(new JwtAuthenticationFilter(tokenProvider, redisTemplate), UsernamePasswordAuthenticationFilter.class);
+                ).addFilterBefore(new JwtAuthenticationFilter(tokenProvider, revokedTokenCache, verifiedTokenCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -1,8 +1,11 @@
 package com.poje.remind.config;
 
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Optional;
+
 public class SecurityUtil {
     private SecurityUtil() {}
 
@@ -15,4 +18,42 @@ public class SecurityUtil {
 
         return authentication.getName();
     }
+
+    /**
+     * 로그인하지 않은 요청도 허용하는 API 에서 현재 사용자 조회
+     * @return 비로그인 요청이면 빈 값
+     */
+    public static Optional<String> findCurrentMember() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if(authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(authentication.getName());
+    }
+
+    /**
+     * 현재 사용자의 회원 id 조회 (access token 클레임 기준이므로 회원을 조회하지 않음)
+     * @return
+     */
+    public static Long getCurrentMemberId() {
+        return findCurrentMemberId().orElseThrow(
+                () -> new RuntimeException("인증 정보가 존재하지 않습니다.")
+        );
+    }
+
+    /**
+     * 로그인하지 않은 요청도 허용하는 API 에서 현재 사용자의 회원 id 조회
+     * @return 비로그인 요청이면 빈 값
+     */
+    public static Optional<Long> findCurrentMemberId() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if(authentication == null || !(authentication.getPrincipal() instanceof CurrentMember currentMember)) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(currentMember.getId());
+    }
 }
@@ -1,15 +1,15 @@
 package com.poje.remind.config.jwt;
 
+import com.poje.remind.config.CurrentMember;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -19,21 +19,18 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final JwtTokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RevokedTokenCache revokedTokenCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         // AccessToken 추출
         String token = resolveToken((HttpServletRequest) request);
 
-        // 토큰이 유효한지 확인
-        if(token != null && tokenProvider.validateToken(token)) {
-            // Redis 에서 해당 토큰의 logout 여부를 확인
-            String isLogout = redisTemplate.opsForValue().get(token);
+        if(token != null) {
+            Authentication authentication = authenticate(token);
 
-            // 로그아웃된 토큰이 아니면 정상 처리
-            if(ObjectUtils.isEmpty(isLogout)) {
-                Authentication authentication = tokenProvider.getAuthentication(token);
+            if(authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
@@ -41,6 +38,48 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         chain.doFilter(request, response);
     }
 
+    /**
+     * 토큰으로 인증 객체 생성
+     * 이미 검증한 토큰이면 서명 검증과 클레임 파싱 없이 캐시에서 인증 객체 생성
+     * @param token
+     * @return 유효하지 않거나 로그아웃된 토큰이면 null
+     */
+    private Authentication authenticate(String token) {
+        VerifiedTokenCache.VerifiedToken verifiedToken = verifiedTokenCache.get(token);
+
+        if(verifiedToken != null) {
+            // 다른 서버에서 로그아웃한 토큰일 수 있으므로 로그아웃 여부는 매번 확인 (로컬 캐시에서 먼저 확인)
+            return revokedTokenCache.isRevoked(verifiedToken.getTokenId()) ? null : verifiedToken.toAuthentication();
+        }
+
+        // 토큰 검증과 클레임 파싱을 한 번에 수행
+        TokenVerification verification = tokenProvider.verify(token);
+
+        // 토큰이 유효한지 확인
+        if(!verification.isValid()) {
+            return null;
+        }
+
+        Claims claims = verification.getClaims();
+        String tokenId = claims.getId();
+        Authentication authentication = tokenProvider.getAuthentication(claims);
+
+        // 회원 id 가 없는 이전 토큰은 인증하지 않음 (토큰 재발급 시 회원 id 포함)
+        // 회원 id 가 있는 토큰은 항상 jti 도 있으므로 jti 가 없는 토큰도 여기서 걸러짐
+        if(tokenId == null || ((CurrentMember) authentication.getPrincipal()).getId() == null) {
+            return null;
+        }
+
+        // 로그아웃된 토큰인지 확인 (로컬 캐시에서 먼저 확인)
+        if(revokedTokenCache.isRevoked(tokenId)) {
+            return null;
+        }
+
+        verifiedTokenCache.put(token, tokenId, claims.getExpiration().getTime(), authentication);
+
+        return authentication;
+    }
+
     /**
      * Request Header에서 JWT 토큰 추출
      * @param request
@@ -1,5 +1,7 @@
 package com.poje.remind.config.jwt;
 
+import com.poje.remind.config.CurrentMember;
+import com.poje.remind.domain.Member.RoleType;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -8,29 +10,32 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     private static final String AUTHORITIES_KEY = "auth";
-    private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
+    private static final String MEMBER_ID_KEY = "mid";
+    public static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 *60 * 60 * 24 * 7;
 
     private final Key key;
 
+    // 서명 키가 고정이므로 한 번만 생성해서 재사용 (JwtParser 는 불변 객체라 여러 스레드에서 공유 가능)
+    private final JwtParser jwtParser;
+
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
@@ -47,18 +52,26 @@ public class JwtTokenProvider {
 
         long now = (new Date()).getTime();
 
-        // AccessToken 생성
+        // AccessToken 생성 (요청마다 회원을 조회하지 않도록 회원 id 포함)
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        String accessToken = Jwts.builder()
+        JwtBuilder accessTokenBuilder = Jwts.builder()
                 .setSubject(authentication.getName())
+                .setId(UUID.randomUUID().toString())
                 .claim(AUTHORITIES_KEY, authorities)
-                .setExpiration(accessTokenExpiresIn)
+                .setExpiration(accessTokenExpiresIn);
+
+        if(authentication.getPrincipal() instanceof CurrentMember currentMember && currentMember.getId() != null) {
+            accessTokenBuilder.claim(MEMBER_ID_KEY, currentMember.getId());
+        }
+
+        String accessToken = accessTokenBuilder
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
         // RefreshToken 생성
         String refreshToken = Jwts.builder()
                 .setSubject(authentication.getName())
+                .setId(UUID.randomUUID().toString())
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
@@ -72,23 +85,28 @@ public class JwtTokenProvider {
      * @return
      */
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    /**
+     * 검증된 클레임으로부터 인증 객체를 반환하는 메서드 (토큰을 다시 파싱하지 않음)
+     * @param claims
+     * @return
+     */
+    public Authentication getAuthentication(Claims claims) {
         if(claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
-        // Claim 에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        // Claim 에서 권한과 회원 id 가져오기 (회원 id 가 없는 이전 토큰이면 null)
+        RoleType role = RoleType.valueOf(claims.get(AUTHORITIES_KEY).toString());
+        Long memberId = claims.get(MEMBER_ID_KEY) instanceof Number number ? number.longValue() : null;
 
-        // UserDetails 객체로 인증 객체 리턴
+        // CurrentMember 객체로 인증 객체 리턴
         // 이전에 jwtAuthenticationFilter에서 검증했기 때문에 비밀번호는 없어도 상관 없음
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        CurrentMember principal = new CurrentMember(memberId, claims.getSubject(), "", role);
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     /**
@@ -97,31 +115,39 @@ public class JwtTokenProvider {
      * @return
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        return verify(token).isValid();
+    }
 
-            return true;
+    /**
+     * 토큰 검증 및 클레임 파싱 (서명 검증과 파싱을 한 번만 수행)
+     * @param token
+     * @return 검증 결과 (성공 시 클레임, 실패 시 실패 사유)
+     */
+    public TokenVerification verify(String token) {
+        try {
+            return TokenVerification.valid(jwtParser.parseClaimsJws(token).getBody());
         } catch (SecurityException | MalformedJwtException e) {
             log.info("유효하지 않은 토큰입니다.", e);
+            return TokenVerification.fail(TokenVerification.Status.INVALID);
         } catch (ExpiredJwtException e) {
             log.info("만료된 토큰입니다.", e);
+            return TokenVerification.expired(e.getClaims());
         } catch (UnsupportedJwtException e) {
             log.info("지원하지 않는 토큰입니다.", e);
+            return TokenVerification.fail(TokenVerification.Status.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
             log.info("JWT 클레임 문자열이 비었습니다.", e);
+            return TokenVerification.fail(TokenVerification.Status.EMPTY);
+        } catch (JwtException e) {
+            // 서명이 일치하지 않는 토큰 등
+            log.info("유효하지 않은 토큰입니다.", e);
+            return TokenVerification.fail(TokenVerification.Status.INVALID);
         }
-        return false;
     }
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
+            return jwtParser.parseClaimsJws(accessToken)
                     .getBody();
         } catch(ExpiredJwtException e) {
             return e.getClaims();
@@ -129,6 +155,15 @@ public class JwtTokenProvider {
     }
 
 
+    /**
+     * 토큰 id (jti) 반환
+     * @param token
+     * @return jti 발급 이전에 생성된 토큰이면 null
+     */
+    public String getTokenId(String token) {
+        return parseClaims(token).getId();
+    }
+
     /**
      * 토큰 만료 시간 반환
      * @param accessToken
@@ -0,0 +1,117 @@
+package com.poje.remind.config.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 토큰 저장소
+ * 여러 명령이 필요한 작업은 Lua 스크립트로 한 번에 실행 (스크립트 실행 중에는 다른 명령이 끼어들지 않음)
+ */
+@RequiredArgsConstructor
+@Component
+public class RedisTokenStore implements TokenStore {
+
+    private static final String REFRESH_TOKEN_PREFIX = "rt:";       // rt:{loginId} -> refresh token id (jti) 별 만료 시간 (hash)
+    private static final String BLACKLIST_PREFIX = "bl:";           // bl:{토큰 id 해시} -> 로그아웃 여부 (토큰 만료 시간까지 유지)
+    private static final String REVOKED_KEY = "logout:tokens";    // 로그아웃된 토큰 id 해시 -> 만료 시간 (sorted set)
+
+    // 사용한 refresh token 확인/삭제 (ARGV[1]: jti, ARGV[2]: 이전 방식 토큰 원문, 확인하지 않으면 빈 문자열),
+    // 만료된 refresh token 정리 후 새 refresh token 저장 (ARGV[3]: jti, ARGV[4]: 만료 시간, ARGV[5]: 현재 시간)
+    // 사용한 refresh token 이 저장되어 있지 않으면 0 반환
+    private static final RedisScript<Long> SAVE_REFRESH_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[1] ~= '' then " +
+            "  if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+            "elseif ARGV[2] ~= '' then " +
+            "  if redis.call('GET', KEYS[2]) ~= ARGV[2] then return 0 end " +
+            "  redis.call('DEL', KEYS[2]) " +
+            "end " +
+            "local now = tonumber(ARGV[5]) " +
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #entries, 2 do " +
+            "  if tonumber(entries[i + 1]) <= now then redis.call('HDEL', KEYS[1], entries[i]) end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], ARGV[3], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[4]) - now) " +
+            "return 1", Long.class);
+
+    // refresh token 삭제 후 만료되지 않은 토큰이면 로그아웃 등록, 다른 서버에 전파
+    // (ARGV[1]: 토큰 해시, ARGV[2]: 만료 시간, ARGV[3]: 현재 시간, ARGV[4]: 전파 채널)
+    private static final RedisScript<Long> LOGOUT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "local ttl = tonumber(ARGV[2]) - tonumber(ARGV[3]) " +
+            "if ttl <= 0 then return 0 end " +
+            "redis.call('SET', KEYS[3], 'logout', 'PX', ttl) " +
+            "redis.call('ZADD', KEYS[4], ARGV[2], ARGV[1]) " +
+            "redis.call('PUBLISH', ARGV[4], ARGV[1] .. ':' .. ARGV[2]) " +
+            "return 1", Long.class);
+
+    // 이미 만료된 로그아웃 토큰 정리 후 {토큰 해시, 만료 시간, ...} 반환 (ARGV[1]: 현재 시간)
+    // WITHSCORES 결과는 모두 문자열 (점수도 문자열로 반환)
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<String>> REVOKED_TOKENS_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "return redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], '+inf', 'WITHSCORES')", (Class<List<String>>) (Class<?>) List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void saveRefreshToken(String loginId, String tokenId, long expiresAt) {
+        saveRefreshToken(loginId, "", "", tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean rotateRefreshToken(String loginId, String usedTokenId, String tokenId, long expiresAt) {
+        return saveRefreshToken(loginId, usedTokenId, "", tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean rotateLegacyRefreshToken(String loginId, String usedRefreshToken, String tokenId, long expiresAt) {
+        return saveRefreshToken(loginId, "", usedRefreshToken, tokenId, expiresAt);
+    }
+
+    @Override
+    public void logout(String loginId, String tokenHash, long expiresAt) {
+        redisTemplate.execute(LOGOUT_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + loginId, loginId, BLACKLIST_PREFIX + tokenHash, REVOKED_KEY),
+                tokenHash, String.valueOf(expiresAt), String.valueOf(System.currentTimeMillis()), RevokedTokenCache.CHANNEL);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenHash) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + tokenHash));
+    }
+
+    @Override
+    public Map<String, Long> findRevokedTokens(long now) {
+        // [토큰 해시, 만료 시간, 토큰 해시, 만료 시간, ...]
+        List<String> resultList = redisTemplate.execute(REVOKED_TOKENS_SCRIPT, List.of(REVOKED_KEY), String.valueOf(now));
+
+        Map<String, Long> revokedMap = new HashMap<>();
+        if(resultList != null) {
+            for(int i = 0; i + 1 < resultList.size(); i += 2) {
+                revokedMap.put(resultList.get(i), (long) Double.parseDouble(resultList.get(i + 1)));
+            }
+        }
+
+        return revokedMap;
+    }
+
+    /**
+     * 사용한 refresh token 확인/삭제, 만료된 refresh token 정리, 새 refresh token 저장을 한 번에 실행
+     * @return 사용한 refresh token 이 저장되어 있지 않으면 false
+     */
+    private boolean saveRefreshToken(String loginId, String usedTokenId, String usedRefreshToken, String tokenId, long expiresAt) {
+        Long result = redisTemplate.execute(SAVE_REFRESH_TOKEN_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + loginId, loginId),
+                usedTokenId, usedRefreshToken, tokenId, String.valueOf(expiresAt), String.valueOf(System.currentTimeMillis()));
+
+        return result != null && result == 1L;
+    }
+}
@@ -0,0 +1,196 @@
+package com.poje.remind.config.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 access token 로컬 캐시 (토큰 id 해시 기준)
+ * 요청마다 토큰 저장소(Redis)를 조회하지 않도록 Bloom filter 와 작은 exact set 으로 로그아웃 여부를 먼저 판단하고,
+ * Bloom filter 에 걸렸지만 exact set 에 없는 경우에만 Redis 를 조회
+ * 로그아웃은 Redis pub/sub 으로 다른 서버에 전파하고, 서버 시작 시 Redis 에서 로그아웃 목록을 불러옴
+ */
+@Slf4j
+@Component
+public class RevokedTokenCache implements MessageListener {
+
+    public static final String CHANNEL = "token:revoked";
+    private static final String DELIMITER = ":";
+    private static final double FPP = 0.01;
+
+    private final TokenStore tokenStore;
+    private final int expectedInsertions;
+    private final int exactMaxSize;
+
+    // 토큰 해시 -> 만료 시간 (exactMaxSize 를 넘으면 Bloom filter 에만 추가)
+    private final Map<String, Long> exactMap = new ConcurrentHashMap<>();
+
+    // access token 유효 시간 단위로 교체되는 Bloom filter (이전 구간에 추가된 토큰도 만료 전까지 확인할 수 있도록 두 개 유지)
+    private volatile TokenBloomFilter currentFilter;
+    private volatile TokenBloomFilter previousFilter;
+    private volatile long rotateAt;
+
+    // Redis 에서 로그아웃 목록을 불러오기 전에는 모든 요청을 Redis 로 확인
+    private volatile boolean warmedUp;
+
+    public RevokedTokenCache(TokenStore tokenStore,
+                             @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                             @Value("${jwt.revocation.exact-max-size:10000}") int exactMaxSize) {
+        this.tokenStore = tokenStore;
+        this.expectedInsertions = expectedInsertions;
+        this.exactMaxSize = exactMaxSize;
+
+        this.currentFilter = new TokenBloomFilter(expectedInsertions, FPP);
+        this.previousFilter = new TokenBloomFilter(expectedInsertions, FPP);
+        this.rotateAt = System.currentTimeMillis() + JwtTokenProvider.ACCESS_TOKEN_EXPIRE_TIME;
+    }
+
+    /**
+     * 로그아웃 처리
+     * 회원의 refresh token 삭제, 로그아웃 토큰 등록, 다른 서버로 전파를 토큰 저장소에 한 번에 요청한 뒤 로컬에 등록
+     * @param loginId
+     * @param tokenId 토큰 id (jti 가 없는 이전 토큰은 토큰 원문)
+     * @param expiresAt 토큰 만료 시간 (epoch millis)
+     */
+    public void revoke(String loginId, String tokenId, long expiresAt) {
+        String hash = hash(tokenId);
+
+        tokenStore.logout(loginId, hash, expiresAt);
+
+        add(hash, expiresAt);
+    }
+
+    /**
+     * 로그아웃된 토큰인지 확인
+     * @param tokenId 토큰 id (jti)
+     * @return
+     */
+    public boolean isRevoked(String tokenId) {
+        String hash = hash(tokenId);
+
+        if(!warmedUp) {
+            return tokenStore.isRevoked(hash);
+        }
+
+        if(exactMap.containsKey(hash)) {
+            return true;
+        }
+
+        long[] bloomHash = bloomHash(hash);
+        if(!currentFilter.mightContain(bloomHash[0], bloomHash[1]) && !previousFilter.mightContain(bloomHash[0], bloomHash[1])) {
+            return false;
+        }
+
+        // exact set 이 가득 찼거나 false positive 인 경우
+        return tokenStore.isRevoked(hash);
+    }
+
+    /**
+     * 다른 서버에서 전파된 로그아웃 토큰 등록
+     * @param message "토큰 해시:만료 시간"
+     * @param pattern
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIdx = body.lastIndexOf(DELIMITER);
+
+        try {
+            add(body.substring(0, delimiterIdx), Long.parseLong(body.substring(delimiterIdx + 1)));
+        } catch(IndexOutOfBoundsException | IllegalArgumentException | BufferUnderflowException e) {
+            log.warn("잘못된 로그아웃 토큰 메시지입니다. message: {}", body);
+        }
+    }
+
+    /**
+     * 서버 시작 시 만료되지 않은 로그아웃 토큰을 Redis 에서 불러옴
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long now = System.currentTimeMillis();
+
+        try {
+            Map<String, Long> revokedMap = tokenStore.findRevokedTokens(now);
+            revokedMap.forEach(this::add);
+
+            warmedUp = true;
+            log.info("로그아웃 토큰 캐시 로딩 완료 - 토큰 수: {}", revokedMap.size());
+        } catch(RuntimeException e) {
+            log.warn("로그아웃 토큰 캐시 로딩 실패, 다시 시도할 때까지 Redis 로 확인합니다.", e);
+        }
+    }
+
+    /**
+     * 만료된 토큰 정리 및 Bloom filter 교체
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void maintain() {
+        long now = System.currentTimeMillis();
+
+        exactMap.values().removeIf(expiresAt -> expiresAt <= now);
+
+        synchronized (this) {
+            // 이전 구간의 토큰은 모두 만료되었으므로 버리고 새 구간 시작
+            if(now >= rotateAt) {
+                previousFilter = currentFilter;
+                currentFilter = new TokenBloomFilter(expectedInsertions, FPP);
+                rotateAt = now + JwtTokenProvider.ACCESS_TOKEN_EXPIRE_TIME;
+            }
+        }
+
+        if(!warmedUp) {
+            warmUp();
+        }
+    }
+
+    private void add(String hash, long expiresAt) {
+        if(expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        long[] bloomHash = bloomHash(hash);
+        currentFilter.put(bloomHash[0], bloomHash[1]);
+
+        if(exactMap.size() < exactMaxSize) {
+            exactMap.put(hash, expiresAt);
+        }
+    }
+
+    /**
+     * 토큰 id 의 SHA-256 해시 앞 128비트 (Base64, 22자)
+     * Redis key, 메모리, pub/sub 메시지에 토큰 원문을 남기지 않음
+     * @param tokenId
+     * @return
+     */
+    static String hash(String tokenId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenId.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Bloom filter 용 해시 값 두 개 (토큰 해시 상위 64비트, 하위 64비트)
+    private static long[] bloomHash(String hash) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(hash));
+
+        return new long[]{buffer.getLong(), buffer.getLong()};
+    }
+}
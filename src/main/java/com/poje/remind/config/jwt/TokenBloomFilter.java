@@ -0,0 +1,71 @@
+package com.poje.remind.config.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 해시용 Bloom filter
+ * 포함되지 않은 토큰은 확실하게 걸러내고, 포함된 토큰은 false positive 확률(fpp) 만큼 잘못 판단할 수 있음
+ * 비트 배열을 AtomicLongArray 로 관리하므로 lock 없이 여러 스레드에서 추가/조회 가능
+ */
+public class TokenBloomFilter {
+
+    private final AtomicLongArray bitArray;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 저장 개수
+     * @param fpp 허용할 false positive 확률
+     */
+    public TokenBloomFilter(int expectedInsertions, double fpp) {
+        long optimalBitSize = (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+
+        this.bitArray = new AtomicLongArray((int) ((Math.max(optimalBitSize, 64) + 63) / 64));
+        this.bitSize = bitArray.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 토큰 해시 추가
+     * @param hash1 토큰 해시 상위 64비트
+     * @param hash2 토큰 해시 하위 64비트
+     */
+    public void put(long hash1, long hash2) {
+        for(int i = 0; i < hashCount; i++) {
+            long bitIdx = bitIndex(hash1, hash2, i);
+            int arrayIdx = (int) (bitIdx >>> 6);
+            long mask = 1L << bitIdx;
+
+            long word;
+            do {
+                word = bitArray.get(arrayIdx);
+                if((word & mask) != 0) {
+                    break;
+                }
+            } while(!bitArray.compareAndSet(arrayIdx, word, word | mask));
+        }
+    }
+
+    /**
+     * 토큰 해시 포함 여부
+     * @param hash1
+     * @param hash2
+     * @return false 면 확실히 포함되지 않음, true 면 포함되었을 가능성이 있음
+     */
+    public boolean mightContain(long hash1, long hash2) {
+        for(int i = 0; i < hashCount; i++) {
+            long bitIdx = bitIndex(hash1, hash2, i);
+
+            if((bitArray.get((int) (bitIdx >>> 6)) & (1L << bitIdx)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // 두 해시 값으로 k 개의 해시를 만드는 double hashing
+    private long bitIndex(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, bitSize);
+    }
+}
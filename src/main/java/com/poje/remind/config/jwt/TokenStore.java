@@ -0,0 +1,60 @@
+package com.poje.remind.config.jwt;
+
+import java.util.Map;
+
+/**
+ * refresh token 과 로그아웃 토큰 저장소
+ * 인증 작업(로그인, 재발급, 로그아웃) 하나는 저장소에 한 번의 요청으로 원자적으로 처리
+ */
+public interface TokenStore {
+
+    /**
+     * refresh token 저장 (로그아웃 없이 만료된 refresh token 정리 포함)
+     * @param loginId
+     * @param tokenId refresh token id (jti)
+     * @param expiresAt refresh token 만료 시간 (epoch millis)
+     */
+    void saveRefreshToken(String loginId, String tokenId, long expiresAt);
+
+    /**
+     * 사용한 refresh token 을 삭제하고 새 refresh token 저장
+     * @param loginId
+     * @param usedTokenId 사용한 refresh token id (jti)
+     * @param tokenId 새 refresh token id (jti)
+     * @param expiresAt 새 refresh token 만료 시간 (epoch millis)
+     * @return 사용한 refresh token 이 저장되어 있지 않으면 새 refresh token 을 저장하지 않고 false
+     */
+    boolean rotateRefreshToken(String loginId, String usedTokenId, String tokenId, long expiresAt);
+
+    /**
+     * jti 가 없는 이전 refresh token (loginId key 에 토큰 원문 저장) 을 삭제하고 새 refresh token 저장
+     * @param loginId
+     * @param usedRefreshToken 사용한 refresh token 원문
+     * @param tokenId 새 refresh token id (jti)
+     * @param expiresAt 새 refresh token 만료 시간 (epoch millis)
+     * @return 사용한 refresh token 이 저장된 값과 다르면 새 refresh token 을 저장하지 않고 false
+     */
+    boolean rotateLegacyRefreshToken(String loginId, String usedRefreshToken, String tokenId, long expiresAt);
+
+    /**
+     * 회원의 refresh token 삭제, 로그아웃 토큰 등록 후 다른 서버에 전파
+     * @param loginId
+     * @param tokenHash 로그아웃한 access token id 해시
+     * @param expiresAt access token 만료 시간 (epoch millis), 이미 만료되었으면 refresh token 만 삭제
+     */
+    void logout(String loginId, String tokenHash, long expiresAt);
+
+    /**
+     * 로그아웃된 토큰인지 확인
+     * @param tokenHash 토큰 id 해시
+     * @return
+     */
+    boolean isRevoked(String tokenHash);
+
+    /**
+     * 이미 만료된 로그아웃 토큰을 정리하고 만료되지 않은 로그아웃 토큰 조회
+     * @param now
+     * @return 토큰 id 해시 -> 만료 시간
+     */
+    Map<String, Long> findRevokedTokens(long now);
+}
@@ -0,0 +1,42 @@
+package com.poje.remind.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 검증 결과
+ * 서명 검증과 클레임 파싱을 한 번만 수행하고, 성공하면 클레임을, 실패하면 실패 사유를 담음
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+    public enum Status {
+        VALID,          // 유효한 토큰
+        INVALID,        // 서명이 다르거나 형식이 잘못된 토큰
+        EXPIRED,        // 만료된 토큰
+        UNSUPPORTED,    // 지원하지 않는 토큰
+        EMPTY           // 빈 토큰
+    }
+
+    private final Status status;
+    private final Claims claims;    // 유효하지 않은 토큰이면 null (만료된 토큰은 만료 전 클레임)
+
+    public static TokenVerification valid(Claims claims) {
+        return new TokenVerification(Status.VALID, claims);
+    }
+
+    public static TokenVerification expired(Claims claims) {
+        return new TokenVerification(Status.EXPIRED, claims);
+    }
+
+    public static TokenVerification fail(Status status) {
+        return new TokenVerification(status, null);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
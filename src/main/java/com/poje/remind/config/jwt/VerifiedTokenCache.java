@@ -0,0 +1,205 @@
+package com.poje.remind.config.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증이 끝난 access token 캐시 (토큰 해시 -> 인증 정보)
+ * 같은 access token 으로 들어오는 요청은 서명 검증과 클레임 파싱 없이 해시 조회 한 번으로 인증 객체를 만듦
+ * 조회는 lock 없이 처리하고, 가득 차면 CLOCK(second chance) 방식으로 최근 조회되지 않은 토큰부터 제거
+ * (토큰 추가 시 필요한 만큼만 큐 앞에서부터 확인하므로 전체 정렬이나 전역 lock 이 없음)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+
+    private final Map<String, VerifiedToken> tokenMap = new ConcurrentHashMap<>();
+
+    // 제거 후보 순서 (추가된 순서, 조회된 토큰은 한 번 더 기회를 주고 뒤로 보냄)
+    // 제거되거나 교체된 토큰은 큐에 남아 있다가 꺼낼 때 또는 만료 토큰 정리 시 버림
+    private final Queue<VerifiedToken> clockQueue = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 검증된 토큰 조회
+     * @param token access token 원문
+     * @return 캐시에 없거나 만료된 토큰이면 null
+     */
+    public VerifiedToken get(String token) {
+        String hash = RevokedTokenCache.hash(token);
+        VerifiedToken verifiedToken = tokenMap.get(hash);
+        long now = System.currentTimeMillis();
+
+        if(verifiedToken == null || verifiedToken.expiresAt <= now) {
+            if(verifiedToken != null) {
+                tokenMap.remove(hash, verifiedToken);
+            }
+
+            missCount.increment();
+            return null;
+        }
+
+        // 이미 표시된 경우 쓰지 않음 (조회마다 같은 메모리에 쓰지 않도록)
+        if(!verifiedToken.referenced) {
+            verifiedToken.referenced = true;
+        }
+
+        hitCount.increment();
+        return verifiedToken;
+    }
+
+    /**
+     * 검증된 토큰 등록
+     * @param token access token 원문
+     * @param tokenId 토큰 id (jti)
+     * @param expiresAt 토큰 만료 시간 (epoch millis)
+     * @param authentication 토큰 클레임으로 만든 인증 객체
+     */
+    public void put(String token, String tokenId, long expiresAt, Authentication authentication) {
+        if(maxSize <= 0 || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        while(tokenMap.size() >= maxSize) {
+            if(!evictOne()) {
+                break;
+            }
+        }
+
+        VerifiedToken verifiedToken = new VerifiedToken(RevokedTokenCache.hash(token), tokenId, expiresAt, authentication);
+        tokenMap.put(verifiedToken.hash, verifiedToken);
+        clockQueue.offer(verifiedToken);
+    }
+
+    /**
+     * 로그아웃한 토큰 제거
+     * @param token access token 원문
+     */
+    public void remove(String token) {
+        tokenMap.remove(RevokedTokenCache.hash(token));
+    }
+
+    /**
+     * 캐시 통계
+     * @return
+     */
+    public Stats getStats() {
+        long hit = hitCount.sum();
+        long miss = missCount.sum();
+
+        return new Stats(tokenMap.size(), maxSize, hit, miss, hit + miss == 0 ? 0 : (double) hit / (hit + miss), evictionCount.sum());
+    }
+
+    /**
+     * 만료된 토큰 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+
+        tokenMap.values().removeIf(verifiedToken -> verifiedToken.expiresAt <= now);
+        clockQueue.removeIf(this::isStale);
+    }
+
+    /**
+     * 큐 앞에서부터 토큰을 꺼내 하나 제거
+     * 최근 조회된 토큰은 표시를 지우고 큐 뒤로 보내며, 큐를 한 바퀴 넘게 돌면 조회 여부와 관계없이 제거
+     * @return 제거할 토큰이 없으면 false
+     */
+    private boolean evictOne() {
+        long now = System.currentTimeMillis();
+        int limit = maxSize * 2;
+
+        for(int i = 0; ; i++) {
+            VerifiedToken candidate = clockQueue.poll();
+            if(candidate == null) {
+                return false;
+            }
+
+            if(isStale(candidate)) {
+                continue;
+            }
+
+            if(candidate.referenced && candidate.expiresAt > now && i < limit) {
+                candidate.referenced = false;
+                clockQueue.offer(candidate);
+                continue;
+            }
+
+            if(tokenMap.remove(candidate.hash, candidate)) {
+                if(candidate.expiresAt > now) {
+                    evictionCount.increment();
+                }
+
+                return true;
+            }
+        }
+    }
+
+    // 이미 제거되었거나 같은 토큰이 다시 등록되어 교체된 큐 항목
+    private boolean isStale(VerifiedToken verifiedToken) {
+        return tokenMap.get(verifiedToken.hash) != verifiedToken;
+    }
+
+    /**
+     * 검증된 토큰 정보 (불변)
+     * 인증 객체는 요청마다 새로 만들어서 요청 간에 공유하지 않음
+     */
+    public static class VerifiedToken {
+        @Getter
+        private final String tokenId;
+        private final long expiresAt;
+        private final Object principal;
+        private final Collection<? extends GrantedAuthority> authorities;
+
+        private final String hash;
+
+        // 마지막으로 제거 후보가 된 이후 조회되었는지 여부
+        private volatile boolean referenced;
+
+        private VerifiedToken(String hash, String tokenId, long expiresAt, Authentication authentication) {
+            this.hash = hash;
+            this.tokenId = tokenId;
+            this.expiresAt = expiresAt;
+            this.principal = authentication.getPrincipal();
+            this.authorities = List.copyOf(authentication.getAuthorities());
+        }
+
+        public Authentication toAuthentication() {
+            return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private int size;
+        private int maxSize;
+        private long hitCount;
+        private long missCount;
+        private double hitRate;
+        private long evictionCount;
+    }
+}
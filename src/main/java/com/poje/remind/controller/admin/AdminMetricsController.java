@@ -0,0 +1,42 @@
+package com.poje.remind.controller.admin;
+
+import com.poje.remind.common.BasicResponse;
+import com.poje.remind.config.jwt.VerifiedTokenCache;
+import com.poje.remind.service.image.ImageVariantService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/admin/metrics")
+@RestController
+public class AdminMetricsController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * 검증된 access token 캐시 통계 (크기, 적중률, 제거 수)
+     * @return
+     */
+    @GetMapping("/token-cache")
+    public ResponseEntity<BasicResponse> getTokenCacheStats() {
+        VerifiedTokenCache.Stats stats = verifiedTokenCache.getStats();
+
+        return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "토큰 캐시 통계를 불러왔습니다.", stats));
+    }
+
+    /**
+     * 이미지 축소본 생성 통계 (대기열 크기, 처리 중인 작업 수, 생성/건너뜀/거절/실패 수)
+     * @return
+     */
+    @GetMapping("/image-variant")
+    public ResponseEntity<BasicResponse> getImageVariantStats() {
+        ImageVariantService.Stats stats = imageVariantService.getStats();
+
+        return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "이미지 축소본 생성 통계를 불러왔습니다.", stats));
+    }
+}
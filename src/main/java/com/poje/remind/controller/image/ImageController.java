@@ -0,0 +1,152 @@
+package com.poje.remind.controller.image;
+
+import com.poje.remind.common.BasicResponse;
+import com.poje.remind.domain.image.ImageVariant;
+import com.poje.remind.domain.image.dto.ImageDTO;
+import com.poje.remind.service.image.ImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class ImageController {
+
+    // 이미지 id 가 내용의 해시이므로 같은 url 의 내용은 바뀌지 않음
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // 축소본이 생성되기 전 원본으로 응답한 경우 (ETag 로 재검증)
+    private static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+
+    // Tomcat sendfile 지원 여부와 전송할 파일 정보를 전달하는 request attribute
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageService imageService;
+
+    /**
+     * 이미지 업로드
+     * @param image
+     * @return
+     */
+    @PostMapping("/member/image")
+    public ResponseEntity<BasicResponse> uploadImage(@RequestParam("image") MultipartFile image) {
+        ImageDTO.ImageUploadResp imageUploadResp = imageService.upload(image);
+
+        return ResponseEntity.ok(new BasicResponse(HttpStatus.CREATED.value(), "이미지가 업로드되었습니다.", imageUploadResp));
+    }
+
+    /**
+     * 이미지 조회 (단일 Range 요청 지원)
+     * Tomcat sendfile 을 지원하면 커널에서 바로 전송하고, 아니면 FileChannel.transferTo 로 전송
+     * @param imageId
+     * @param ifNoneMatch
+     * @param range
+     * @param request
+     * @param response
+     * @throws IOException
+     */
+    @GetMapping("/images/{image_id}")
+    public void getImage(@PathVariable("image_id") String imageId,
+                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                         @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        sendImage(imageService.getImageFile(imageId), ifNoneMatch, range, request, response);
+    }
+
+    /**
+     * 이미지 축소본 조회 (thumbnail, card, full)
+     * @param imageId
+     * @param variant
+     * @param ifNoneMatch
+     * @param range
+     * @param request
+     * @param response
+     * @throws IOException
+     */
+    @GetMapping("/images/{image_id}/{variant}")
+    public void getImageVariant(@PathVariable("image_id") String imageId,
+                                @PathVariable("variant") String variant,
+                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        sendImage(imageService.getImageFile(imageId, ImageVariant.of(variant)), ifNoneMatch, range, request, response);
+    }
+
+    private void sendImage(ImageService.ImageFile imageFile, String ifNoneMatch, String range,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String eTag = "\"" + imageFile.getTag() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, imageFile.isImmutable() ? CACHE_CONTROL : CACHE_CONTROL_REVALIDATE);
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if(eTag.equals(ifNoneMatch)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long size = imageFile.getSize();
+        long start = 0;
+        long end = size - 1;
+
+        if(range != null) {
+            try {
+                List<HttpRange> httpRangeList = HttpRange.parseRanges(range);
+
+                // 여러 구간 요청은 전체 이미지로 응답
+                if(httpRangeList.size() == 1) {
+                    start = httpRangeList.get(0).getRangeStart(size);
+                    end = httpRangeList.get(0).getRangeEnd(size);
+
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(imageFile.getContentType());
+        response.setContentLengthLong(count);
+
+        if(Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 컨트롤러가 반환된 뒤 Tomcat 이 sendfile 로 전송
+            request.setAttribute(SENDFILE_FILENAME, imageFile.getPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try(FileChannel fileChannel = FileChannel.open(imageFile.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel outChannel = Channels.newChannel(response.getOutputStream());
+
+            long position = start;
+            long remaining = count;
+            while(remaining > 0) {
+                long transferred = fileChannel.transferTo(position, remaining, outChannel);
+                if(transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
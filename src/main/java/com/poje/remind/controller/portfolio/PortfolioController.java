@@ -2,17 +2,29 @@ package com.poje.remind.controller.portfolio;
 
 import com.poje.remind.common.BasicResponse;
 import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
+import com.poje.remind.service.portfolio.PortfolioPageService;
 import com.poje.remind.service.portfolio.PortfolioService;
+import com.poje.remind.service.portfolio.PortfolioSnapshotService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+
 @RequiredArgsConstructor
 @RestController
 public class PortfolioController {
 
     private final PortfolioService portfolioService;
+    private final PortfolioPageService portfolioPageService;
+    private final PortfolioSnapshotService portfolioSnapshotService;
+
+    // 스냅샷 JSON 을 다시 직렬화하지 않고 BasicResponse 형식으로 감싸기 위한 앞뒤 문자열
+    private static final byte[] SNAPSHOT_PREFIX = ("{\"code\":" + HttpStatus.OK.value() + ",\"message\":\"포트폴리오 스냅샷 반환\",\"result\":").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SNAPSHOT_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
 
     /**
      * 기본 포트폴리오 생성
@@ -40,15 +52,18 @@ public class PortfolioController {
 
     /**
      * 직무 별 포트폴리오 목록 조회
+     * cursor 파라미터가 있으면 커서 기반 조회 (첫 페이지는 빈 값), 없으면 페이지 번호 기반 조회
      * @param jobName
      * @param keyword
      * @param page
+     * @param cursor
      * @return
      */
     @GetMapping("/portfolios")
     public ResponseEntity<BasicResponse> getPortfolios(@RequestParam("name") String jobName,
                                                        @RequestParam(value = "keyword", required = false) String keyword,
-                                                       @RequestParam(value = "page", required = false) Integer page) {
+                                                       @RequestParam(value = "page", required = false) Integer page,
+                                                       @RequestParam(value = "cursor", required = false) String cursor) {
         if(page == null || page < 1) {
             page = 1;
         }
@@ -57,6 +72,12 @@ public class PortfolioController {
             keyword = "";
         }
 
+        if(cursor != null) {
+            PortfolioDTO.PortfolioAndMemberCursorResp portfolioAndMemberCursorResp = portfolioService.getPortfolioListByCursor(jobName, cursor, keyword);
+
+            return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "직무별 포트폴리오 목록 반환", portfolioAndMemberCursorResp));
+        }
+
         PortfolioDTO.PortfolioAndMemberListResp portfolioAndMemberListResp = portfolioService.getPortfolioList(jobName, page, keyword);
 
         return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "직무별 포트폴리오 목록 반환", portfolioAndMemberListResp));
@@ -74,6 +95,52 @@ public class PortfolioController {
         return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "포트폴리오 About Me 정보 반환", portfolioAboutMe));
     }
 
+    /**
+     * 포트폴리오 전체 페이지 조회 (정보, About Me, 스킬, 수상, 프로젝트)
+     * @param portfolioId
+     * @return
+     */
+    @GetMapping("/portfolio/{portfolio_id}/full")
+    public ResponseEntity<BasicResponse> getPortfolioFull(@PathVariable("portfolio_id") Long portfolioId) {
+        PortfolioDTO.PortfolioFullResp portfolioFullResp = portfolioPageService.getPortfolioFull(portfolioId);
+
+        return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "포트폴리오 전체 정보 반환", portfolioFullResp));
+    }
+
+    /**
+     * 포트폴리오 스냅샷 조회 (좋아요 정보 제외)
+     * 미리 직렬화된 JSON 을 그대로 반환하고, version 이 같으면 304 응답
+     * @param portfolioId
+     * @param ifNoneMatch
+     * @return
+     */
+    @GetMapping("/portfolio/{portfolio_id}/snapshot")
+    public ResponseEntity<byte[]> getPortfolioSnapshot(@PathVariable("portfolio_id") Long portfolioId,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PortfolioSnapshotService.Snapshot snapshot = portfolioSnapshotService.getSnapshot(portfolioId);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if(snapshot.getVersion() != null) {
+            String eTag = "\"" + portfolioId + "-" + snapshot.getVersion() + "\"";
+
+            if(eTag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
+            builder.eTag(eTag);
+        }
+
+        byte[] content = snapshot.getContent();
+        byte[] body = new byte[SNAPSHOT_PREFIX.length + content.length + SNAPSHOT_SUFFIX.length];
+        System.arraycopy(SNAPSHOT_PREFIX, 0, body, 0, SNAPSHOT_PREFIX.length);
+        System.arraycopy(content, 0, body, SNAPSHOT_PREFIX.length, content.length);
+        System.arraycopy(SNAPSHOT_SUFFIX, 0, body, SNAPSHOT_PREFIX.length + content.length, SNAPSHOT_SUFFIX.length);
+
+        return builder.body(body);
+    }
+
     /**
      * 사용자 포트폴리오 목록 조회
      * @return
@@ -30,15 +30,24 @@ public class PortfolioLikeController {
 
     /**
      * 좋아요 누른 포트폴리오 목록 조회
+     * cursor 파라미터가 있으면 커서 기반 조회 (첫 페이지는 빈 값), 없으면 페이지 번호 기반 조회
      * @param page
+     * @param cursor
      * @return
      */
     @GetMapping("/like/portfolio")
-    public ResponseEntity<BasicResponse> getPortfolioWhichLikes(@RequestParam(value = "page", required = false) Integer page) {
+    public ResponseEntity<BasicResponse> getPortfolioWhichLikes(@RequestParam(value = "page", required = false) Integer page,
+                                                                @RequestParam(value = "cursor", required = false) String cursor) {
         if(page == null || page < 1) {
             page = 1;
         }
 
+        if(cursor != null) {
+            PortfolioDTO.PortfolioAndMemberCursorResp portfolioAndMemberCursorResp = portfolioLikeService.getPortfolioWhichLikesByCursor(cursor);
+
+            return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "좋아요 누른 포트폴리오 목록 정보 조회", portfolioAndMemberCursorResp));
+        }
+
         PortfolioDTO.PortfolioAndMemberListResp portfolioAndMemberListResp = portfolioLikeService.getPortfolioWhichLikes(page);
 
         return ResponseEntity.ok(new BasicResponse(HttpStatus.OK.value(), "좋아요 누른 포트폴리오 목록 정보 조회", portfolioAndMemberListResp));
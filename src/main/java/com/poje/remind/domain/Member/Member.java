@@ -18,7 +18,8 @@ import java.util.List;
 @Table(name = "member")
 @Entity
 public class Member extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 50)
     @Column(name = "member_id")
     private Long id;
 
@@ -48,9 +49,10 @@ public class Member extends BaseEntity {
     private List<Like> likeList = new ArrayList<>();
 
     @Builder
-    private Member(String loginId, String password, String nickName, String email, String phoneNum,
+    private Member(Long id, String loginId, String password, String nickName, String email, String phoneNum,
                    String gender, String academic, String dept, String birth, String profileImg,
                    String gitHubLink, String blogLink, RoleType role) {
+        this.id = id;
         this.loginId = loginId;
         this.password = password;
         this.nickName = nickName;
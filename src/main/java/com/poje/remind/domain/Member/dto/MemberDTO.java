@@ -40,6 +40,7 @@ public class MemberDTO {
         private String dept;
         private String gitHubLink;
         private String blogLink;
+        private String profileImage;    // 업로드된 이미지 id (POST /member/image), 없으면 기존 프로필 이미지 유지
     }
 
     @Getter
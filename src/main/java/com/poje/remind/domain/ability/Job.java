@@ -16,7 +16,8 @@ import java.util.List;
 @Table(name = "job")
 @Entity
 public class Job extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_seq_generator")
+    @SequenceGenerator(name = "job_seq_generator", sequenceName = "job_seq", allocationSize = 50)
     @Column(name = "job_id")
     private Long id;
 
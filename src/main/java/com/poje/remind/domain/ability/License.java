@@ -16,7 +16,8 @@ import java.time.LocalDate;
 @Entity
 public class License extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "license_seq_generator")
+    @SequenceGenerator(name = "license_seq_generator", sequenceName = "license_seq", allocationSize = 50)
     @Column(name = "license_id")
     private Long id;
 
@@ -34,8 +35,6 @@ public class License extends BaseEntity {
         this.issueInstitution = issueInstitution;
         this.issueDate = issueDate;
         this.owner = owner;
-
-        owner.getLicenseList().add(this);
     }
 
     public void updateLicense(String name, String issueInstitution, LocalDate issueDate) {
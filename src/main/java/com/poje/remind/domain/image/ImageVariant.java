@@ -0,0 +1,52 @@
+package com.poje.remind.domain.image;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지의 축소본 종류 (원본보다 작을 때만 축소하고, 비율은 유지)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL("thumbnail", 160),   // 프로필 이미지
+    CARD("card", 480),             // 포트폴리오 카드 배경 이미지
+    FULL("full", 1600);            // 상세 페이지
+
+    private static final Pattern STORED_IMAGE_URL_PATTERN = Pattern.compile(StoredImage.URL_PREFIX + "([0-9a-f]{64})");
+
+    private final String key;
+    private final int maxWidth;
+
+    public static ImageVariant of(String key) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new GlobalException(ErrorCode.IMAGE_NOT_FOUND));
+    }
+
+    /**
+     * 이미지 url 의 축소본 url
+     * @param imageUrl
+     * @return 업로드된 이미지가 아니면 (기본 이미지, 외부 url 등) 원래 url
+     */
+    public String urlOf(String imageUrl) {
+        if(imageUrl == null) {
+            return null;
+        }
+
+        Matcher matcher = STORED_IMAGE_URL_PATTERN.matcher(imageUrl);
+        if(!matcher.matches()) {
+            return imageUrl;
+        }
+
+        return StoredImage.urlOf(matcher.group(1)) + "/" + key;
+    }
+}
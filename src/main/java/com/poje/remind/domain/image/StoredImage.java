@@ -0,0 +1,41 @@
+package com.poje.remind.domain.image;
+
+import com.poje.remind.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드된 이미지 (id 는 파일 내용의 SHA-256 hex 이므로 같은 파일은 한 번만 저장)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_image")
+@Entity
+public class StoredImage extends BaseEntity {
+
+    public static final String URL_PREFIX = "/images/";
+
+    @Id
+    @Column(name = "stored_image_id", length = 64)
+    private String id;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Builder
+    private StoredImage(String id, String contentType, long size) {
+        this.id = id;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    public static String urlOf(String imageId) {
+        return URL_PREFIX + imageId;
+    }
+}
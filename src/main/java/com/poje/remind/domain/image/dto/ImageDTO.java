@@ -0,0 +1,14 @@
+package com.poje.remind.domain.image.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class ImageDTO {
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImageUploadResp {
+        private String imageId;
+        private String url;
+    }
+}
@@ -6,13 +6,23 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_member_portfolio", columnNames = {"member_id", "portfolio_id"})
+}, indexes = {
+        @Index(name = "idx_likes_member_created", columnList = "member_id, created_date, portfolio_id")
+})
+@EntityListeners(AuditingEntityListener.class)
 @Entity
 public class Like {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "likes_seq_generator")
+    @SequenceGenerator(name = "likes_seq_generator", sequenceName = "likes_seq", allocationSize = 50)
     @Column(name = "likes_id")
     private Long id;
 
@@ -24,13 +34,18 @@ public class Like {
     @JoinColumn(name = "portfolio_id")
     private Portfolio portfolio;
 
+    // 좋아요 누른 시간 (좋아요 누른 포트폴리오 목록 정렬 기준)
+    @CreatedDate
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
     @Builder
     private Like(Member member, Portfolio portfolio) {
         this.member = member;
         this.portfolio = portfolio;
 
+        // 포트폴리오의 좋아요 컬렉션은 초기화하지 않음 (좋아요 수는 Portfolio.likeCount 사용)
         member.getLikeList().add(this);
-        portfolio.getLikeList().add(this);
     }
 
 }
@@ -9,16 +9,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "portfolio")
+@Table(name = "portfolio", indexes = {
+        @Index(name = "idx_portfolio_job_created", columnList = "job_id, created_date, portfolio_id")
+})
 @Entity
 public class Portfolio extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "portfolio_seq_generator")
+    @SequenceGenerator(name = "portfolio_seq_generator", sequenceName = "portfolio_seq", allocationSize = 50)
     @Column(name = "portfolio_id")
     private Long id;
 
@@ -26,6 +30,11 @@ public class Portfolio extends BaseEntity {
     private String description;
     private String backgroundImg;
 
+    // 좋아요 수 (likes 테이블 집계 대신 사용, 변경은 PortfolioRepository 의 원자적 update 로만 수행)
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private int likeCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member writer;
@@ -55,12 +64,15 @@ public class Portfolio extends BaseEntity {
         this.writer = writer;
         this.job = job;
 
-        writer.getPortfolioList().add(this);
-        job.getPortfolioList().add(this);
+        // 작성자, 직무의 포트폴리오 컬렉션은 사용하지 않으므로 초기화하지 않음 (생성할 때마다 전체 포트폴리오 조회 방지)
     }
 
     public void update(String title, String description) {
         this.title = title;
         this.description = description;
     }
+
+    public void updateBackgroundImg(String backgroundImg) {
+        this.backgroundImg = backgroundImg;
+    }
 }
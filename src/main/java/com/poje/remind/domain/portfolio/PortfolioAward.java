@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @Entity
 public class PortfolioAward extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "portfolio_award_seq_generator")
+    @SequenceGenerator(name = "portfolio_award_seq_generator", sequenceName = "portfolio_award_seq", allocationSize = 50)
     @Column(name = "portfolio_award_id")
     private Long id;
 
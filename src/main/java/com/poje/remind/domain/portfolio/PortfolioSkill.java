@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @Entity
 public class PortfolioSkill extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "portfolio_skill_seq_generator")
+    @SequenceGenerator(name = "portfolio_skill_seq_generator", sequenceName = "portfolio_skill_seq", allocationSize = 50)
     @Column(name = "portfolio_skill_id")
     private Long id;
     private String name;
@@ -0,0 +1,41 @@
+package com.poje.remind.domain.portfolio;
+
+import com.poje.remind.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포트폴리오 전체 페이지를 미리 직렬화한 JSON (포트폴리오 id 로 한 번에 조회)
+ * 포트폴리오가 수정될 때마다 다시 생성하고 version 을 증가
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "portfolio_snapshot")
+@Entity
+public class PortfolioSnapshot extends BaseEntity {
+    @Id
+    @Column(name = "portfolio_id")
+    private Long portfolioId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "longblob")
+    private byte[] content;
+
+    @Builder
+    private PortfolioSnapshot(Long portfolioId, byte[] content) {
+        this.portfolioId = portfolioId;
+        this.version = 1L;
+        this.content = content;
+    }
+
+    public void update(byte[] content) {
+        this.version++;
+        this.content = content;
+    }
+}
@@ -1,14 +1,18 @@
 package com.poje.remind.domain.portfolio.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.poje.remind.common.PagingCursor;
 import com.poje.remind.common.PagingUtil;
+import com.poje.remind.domain.image.ImageVariant;
 import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.project.dto.ProjectDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class PortfolioDTO {
 
@@ -18,6 +22,7 @@ public class PortfolioDTO {
     public static class UpdateReq {
         private String title;
         private String description;
+        private String backgroundImage;     // 업로드된 이미지 id (POST /member/image), 없으면 기존 배경 이미지 유지
     }
 
     @Getter
@@ -33,14 +38,14 @@ public class PortfolioDTO {
         private int likeCount;
 
         @Builder
-        private PortfolioInfoResp(Portfolio portfolio, boolean likeStatus) {
+        private PortfolioInfoResp(Portfolio portfolio, boolean likeStatus, int likeCount) {
             this.id = portfolio.getId();
             this.title = portfolio.getTitle();
             this.description = portfolio.getDescription();
             this.backgroundImg = portfolio.getBackgroundImg();
             this.jobName = portfolio.getJob().getName();
             this.likeStatus = likeStatus;
-            this.likeCount = portfolio.getLikeList().size();
+            this.likeCount = likeCount;
         }
     }
 
@@ -57,24 +62,39 @@ public class PortfolioDTO {
         private String title;
         private String description;
         private String backgroundImg;
+        private String backgroundImgCard;       // 카드 크기 축소본 url
 
         // Member
         private String nickName;
         private String profileImg;
+        private String profileImgThumbnail;     // 썸네일 축소본 url
 
         // PortfolioLike
         private int likeCount;
+        private boolean likeStatus;     // 로그인한 사용자의 좋아요 여부 (비로그인이면 false)
+
+        // 커서 생성용, 좋아요 누른 포트폴리오 목록에서는 좋아요 누른 시간 (응답에는 포함하지 않음)
+        @JsonIgnore
+        private LocalDateTime createdDate;
+
+        public PortfolioAndMemberResp(Long portfolioId, String title, String description, String backgroundImg,
+                                      String nickName, String profileImg, int likeCount, LocalDateTime createdDate) {
+            this.portfolioId = portfolioId;
+            this.title = title;
+            this.description = description;
+            this.backgroundImg = backgroundImg;
+            this.backgroundImgCard = ImageVariant.CARD.urlOf(backgroundImg);
+
+            this.nickName = nickName;
+            this.profileImg = profileImg;
+            this.profileImgThumbnail = ImageVariant.THUMBNAIL.urlOf(profileImg);
+
+            this.likeCount = likeCount;
+            this.createdDate = createdDate;
+        }
 
-        private PortfolioAndMemberResp(Portfolio portfolio){
-            this.portfolioId = portfolio.getId();
-            this.title = portfolio.getTitle();
-            this.description = portfolio.getDescription();
-            this.backgroundImg = portfolio.getBackgroundImg();
-
-            this.nickName = portfolio.getWriter().getNickName();
-            this.profileImg = portfolio.getWriter().getProfileImg();
-
-            this.likeCount = portfolio.getLikeList().size();
+        public void updateLikeStatus(boolean likeStatus) {
+            this.likeStatus = likeStatus;
         }
     }
 
@@ -84,14 +104,32 @@ public class PortfolioDTO {
         private List<PortfolioAndMemberResp> portfolioAndMemberRespList;
 
         @Builder
-        private PortfolioAndMemberListResp(List<Portfolio> portfolioList, PagingUtil pagingUtil) {
-            this.portfolioAndMemberRespList = portfolioList.stream()
-                    .map(portfolio -> new PortfolioAndMemberResp(portfolio))
-                    .collect(Collectors.toList());
+        private PortfolioAndMemberListResp(List<PortfolioAndMemberResp> portfolioAndMemberRespList, PagingUtil pagingUtil) {
+            this.portfolioAndMemberRespList = portfolioAndMemberRespList;
             this.pagingUtil = pagingUtil;
         }
     }
 
+    @Getter
+    public static class PortfolioAndMemberCursorResp {
+        private List<PortfolioAndMemberResp> portfolioAndMemberRespList;
+        private String next;    // 다음 페이지 커서 (마지막 페이지면 null)
+
+        /**
+         * @param portfolioAndMemberRespList 다음 페이지 존재 여부 확인을 위해 size + 1 개까지 조회한 목록
+         * @param size
+         */
+        @Builder
+        private PortfolioAndMemberCursorResp(List<PortfolioAndMemberResp> portfolioAndMemberRespList, int size) {
+            this.portfolioAndMemberRespList = portfolioAndMemberRespList.size() > size ? portfolioAndMemberRespList.subList(0, size) : portfolioAndMemberRespList;
+
+            if(portfolioAndMemberRespList.size() > size) {
+                PortfolioAndMemberResp last = this.portfolioAndMemberRespList.get(size - 1);
+                this.next = new PagingCursor(last.getCreatedDate(), last.getPortfolioId()).encode();
+            }
+        }
+    }
+
     @Getter
     public static class PortfolioAboutMeResp {
         private String nickName;
@@ -119,4 +157,59 @@ public class PortfolioDTO {
             this.blogLink = portfolio.getWriter().getBlogLink();
         }
     }
+
+    @Getter
+    public static class PortfolioFullResp {
+        private PortfolioInfoResp portfolio;
+        private PortfolioAboutMeResp aboutMe;
+        private List<PortfolioSkillDTO.PortfolioSKillResp> skills;
+        private List<PortfolioAwardDTO.PortfolioAwardResp> awards;
+        private List<ProjectDTO.ProjectResp> projects;
+
+        @Builder
+        private PortfolioFullResp(PortfolioInfoResp portfolio, PortfolioAboutMeResp aboutMe,
+                                  List<PortfolioSkillDTO.PortfolioSKillResp> skills,
+                                  List<PortfolioAwardDTO.PortfolioAwardResp> awards,
+                                  List<ProjectDTO.ProjectResp> projects) {
+            this.portfolio = portfolio;
+            this.aboutMe = aboutMe;
+            this.skills = skills;
+            this.awards = awards;
+            this.projects = projects;
+        }
+    }
+
+    /**
+     * 좋아요 정보를 제외한 포트폴리오 전체 페이지 (스냅샷으로 저장)
+     */
+    @Getter
+    public static class PortfolioSnapshotResp {
+        private Long id;
+        private String title;
+        private String description;
+        private String backgroundImg;
+        private String jobName;
+        private PortfolioAboutMeResp aboutMe;
+        private List<PortfolioSkillDTO.PortfolioSKillResp> skills;
+        private List<PortfolioAwardDTO.PortfolioAwardResp> awards;
+        private List<ProjectDTO.ProjectResp> projects;
+
+        @Builder
+        private PortfolioSnapshotResp(Portfolio portfolio,
+                                      List<PortfolioSkillDTO.PortfolioSKillResp> skills,
+                                      List<PortfolioAwardDTO.PortfolioAwardResp> awards,
+                                      List<ProjectDTO.ProjectResp> projects) {
+            this.id = portfolio.getId();
+            this.title = portfolio.getTitle();
+            this.description = portfolio.getDescription();
+            this.backgroundImg = portfolio.getBackgroundImg();
+            this.jobName = portfolio.getJob().getName();
+            this.aboutMe = PortfolioAboutMeResp.builder()
+                    .portfolio(portfolio)
+                    .build();
+            this.skills = skills;
+            this.awards = awards;
+            this.projects = projects;
+        }
+    }
 }
@@ -11,4 +11,15 @@ public class PortfolioLikeDTO {
         private boolean likeStatus;
         private Long likeCount;
     }
+
+    /**
+     * Redis 에 쌓인 좋아요 변경 사항 (likes 테이블 반영용)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LikeChange {
+        private Long portfolioId;
+        private Long memberId;
+        private boolean liked;
+    }
 }
@@ -17,7 +17,8 @@ import java.util.Set;
 @Entity
 public class Project extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq_generator")
+    @SequenceGenerator(name = "project_seq_generator", sequenceName = "project_seq", allocationSize = 50)
     @Column(name = "project_id")
     private Long id;
 
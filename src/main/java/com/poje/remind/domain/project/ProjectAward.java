@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @Entity
 public class ProjectAward extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_award_seq_generator")
+    @SequenceGenerator(name = "project_award_seq_generator", sequenceName = "project_award_seq", allocationSize = 50)
     @Column(name = "project_award_id")
     private Long id;
 
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "project_img")
 @Entity
 public class ProjectImg extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_img_seq_generator")
+    @SequenceGenerator(name = "project_img_seq_generator", sequenceName = "project_img_seq", allocationSize = 50)
     @Column(name = "project_img_id")
     private Long id;
 
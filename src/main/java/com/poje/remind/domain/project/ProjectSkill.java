@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "project_skill")
 @Entity
 public class ProjectSkill extends BaseEntity {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_skill_seq_generator")
+    @SequenceGenerator(name = "project_skill_seq_generator", sequenceName = "project_skill_seq", allocationSize = 50)
     @Column(name = "project_skill_id")
     private Long id;
 
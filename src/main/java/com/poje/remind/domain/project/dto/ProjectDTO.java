@@ -2,10 +2,12 @@ package com.poje.remind.domain.project.dto;
 
 import com.poje.remind.domain.project.Project;
 import com.poje.remind.domain.project.ProjectImg;
+import com.poje.remind.domain.project.ProjectSkill;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +24,7 @@ public class ProjectDTO {
 
         private ProjectAwardDTO.UpdateReq award;
         private List<ProjectSkillDTO.UpdateReq> skills;
+        // 업로드된 이미지 id 목록 (POST /member/image)
         private List<String> images;
 
         @Builder
@@ -51,6 +54,16 @@ public class ProjectDTO {
         private List<String> images;
 
         public ProjectResp(Project project) {
+            this(project, new ArrayList<>(project.getProjectSkillSet()), new ArrayList<>(project.getProjectImgSet()));
+        }
+
+        /**
+         * 사용 기술과 이미지를 따로 조회한 경우 사용
+         * @param project
+         * @param projectSkillList
+         * @param projectImgList
+         */
+        public ProjectResp(Project project, List<ProjectSkill> projectSkillList, List<ProjectImg> projectImgList) {
             this.projectId = project.getId();
             this.name = project.getName();
             this.duration = project.getDuration();
@@ -64,11 +77,11 @@ public class ProjectDTO {
                 this.award = new ProjectAwardDTO.ProjectAwardResp(project.getProjectAward().getSupervision(), project.getProjectAward().getGrade(), project.getProjectAward().getDescription());
             }
 
-            this.skills = project.getProjectSkillSet().stream()
+            this.skills = projectSkillList.stream()
                     .map(skill -> new ProjectSkillDTO.ProjectSkillResp(skill.getName()))
                     .collect(Collectors.toList());
 
-            this.images = project.getProjectImgSet().stream()
+            this.images = projectImgList.stream()
                     .map(ProjectImg::getUrl)
                     .collect(Collectors.toList());
         }
@@ -0,0 +1,63 @@
+package com.poje.remind.repository.image;
+
+import com.poje.remind.domain.image.StoredImage;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Repository
+public class StoredImageRepository {
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미지 저장 (이미 저장된 이미지면 무시)
+     * 같은 이미지가 동시에 업로드되면 stored_image_id 기본키에 의해 한 쪽만 저장됨
+     * persist 는 커밋 시점에 flush 되어 중복 예외가 업로드 실패로 이어지므로 바로 insert 하고 중복이면 무시
+     * @param storedImage
+     * @return 저장된 이미지 수 (이미 존재하면 0)
+     */
+    @Transactional
+    public int saveIfAbsent(StoredImage storedImage) {
+        try {
+            return jdbcTemplate.update("insert into stored_image (stored_image_id, content_type, size, created_date, last_modified_date) " +
+                            "values (?, ?, ?, current_timestamp(6), current_timestamp(6))",
+                    storedImage.getId(), storedImage.getContentType(), storedImage.getSize());
+        } catch (DuplicateKeyException e) {
+            // 트랜잭션 밖으로 예외가 전파되지 않도록 여기서 처리 (rollback-only 방지)
+            return 0;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<StoredImage> findById(String imageId) {
+        return Optional.ofNullable(em.find(StoredImage.class, imageId));
+    }
+
+    /**
+     * 이미지 id 목록 중 저장된 이미지 id 조회
+     * @param imageIdList
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<String> findExistingIdList(Collection<String> imageIdList) {
+        if(imageIdList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return em.createQuery("select si.id " +
+                        "from StoredImage si " +
+                        "where si.id in :imageIdList", String.class)
+                .setParameter("imageIdList", imageIdList)
+                .getResultList();
+    }
+}
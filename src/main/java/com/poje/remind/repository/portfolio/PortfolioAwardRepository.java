@@ -32,6 +32,15 @@ public class PortfolioAwardRepository {
                 .getResultList();
     }
 
+    public List<PortfolioAward> findAllByPortfolioId(Long portfolioId) {
+        return em.createQuery("select pa " +
+                        "from PortfolioAward pa " +
+                        "where pa.portfolio.id = :portfolioId " +
+                        "order by pa.id", PortfolioAward.class)
+                .setParameter("portfolioId", portfolioId)
+                .getResultList();
+    }
+
     public PortfolioAward findPortfolioAwardWithWriter(Long portfolioAwardId, Long memberId) {
         return em.createQuery("select pa " +
                         "from PortfolioAward pa " +
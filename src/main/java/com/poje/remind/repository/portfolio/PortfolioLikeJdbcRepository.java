@@ -0,0 +1,139 @@
+package com.poje.remind.repository.portfolio;
+
+import com.poje.remind.domain.portfolio.dto.PortfolioLikeDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 일괄 반영용 JDBC batch 쿼리
+ * likes_id 는 엔티티와 같은 likes_seq 에서 받음 (시퀀스 값 하나를 그대로 쓰므로 Hibernate 가 할당하는 id 구간과 겹치지 않음)
+ */
+@RequiredArgsConstructor
+@Repository
+public class PortfolioLikeJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public List<Long> findMemberIdList(Long portfolioId) {
+        return jdbcTemplate.queryForList("select member_id from likes where portfolio_id = ?", Long.class, portfolioId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findLikedPortfolioIdList(Long memberId) {
+        return jdbcTemplate.queryForList("select portfolio_id from likes where member_id = ?", Long.class, memberId);
+    }
+
+    /**
+     * 회원이 좋아요 누른 포트폴리오 수 ((member_id, portfolio_id) 유니크 인덱스만으로 집계)
+     * @param memberId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public int countByMemberId(Long memberId) {
+        return jdbcTemplate.queryForObject("select count(*) from likes where member_id = ?", Integer.class, memberId);
+    }
+
+    /**
+     * 포트폴리오 목록 중 회원이 좋아요 누른 포트폴리오 id 조회 (IN 쿼리 한 번)
+     * @param memberId
+     * @param portfolioIds
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPortfolioIds(Long memberId, Collection<Long> portfolioIds) {
+        if(portfolioIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Object> argList = new ArrayList<>();
+        argList.add(memberId);
+        argList.addAll(portfolioIds);
+
+        return new HashSet<>(jdbcTemplate.queryForList("select portfolio_id from likes " +
+                        "where member_id = ? " +
+                        "and portfolio_id in (" + String.join(", ", Collections.nCopies(portfolioIds.size(), "?")) + ")",
+                Long.class, argList.toArray()));
+    }
+
+    /**
+     * 좋아요 추가
+     * 같은 좋아요가 동시에 추가되면 (member_id, portfolio_id) 유니크 제약에 의해 한 쪽만 저장됨
+     * @param portfolioId
+     * @param memberId
+     * @return 추가된 좋아요 수 (이미 존재하거나 포트폴리오가 없으면 0)
+     */
+    @Transactional
+    public int insert(Long portfolioId, Long memberId) {
+        try {
+            return jdbcTemplate.update("insert into likes (likes_id, member_id, portfolio_id, created_date) " +
+                            "select next value for likes_seq, ?, p.portfolio_id, current_timestamp(6) " +
+                            "from portfolio p " +
+                            "where p.portfolio_id = ?",
+                    memberId, portfolioId);
+        } catch (DuplicateKeyException e) {
+            // 트랜잭션 밖으로 예외가 전파되지 않도록 여기서 처리 (rollback-only 방지)
+            return 0;
+        }
+    }
+
+    /**
+     * 좋아요 삭제
+     * @param portfolioId
+     * @param memberId
+     * @return 삭제된 좋아요 수
+     */
+    @Transactional
+    public int delete(Long portfolioId, Long memberId) {
+        return jdbcTemplate.update("delete from likes where member_id = ? and portfolio_id = ?", memberId, portfolioId);
+    }
+
+    /**
+     * 좋아요 일괄 추가
+     * 같은 변경이 다시 반영되어도 중복 저장되지 않고, 삭제된 포트폴리오는 건너뜀
+     * @param likeChangeList
+     */
+    @Transactional
+    public void insertAll(List<PortfolioLikeDTO.LikeChange> likeChangeList) {
+        jdbcTemplate.batchUpdate("insert into likes (likes_id, member_id, portfolio_id, created_date) " +
+                        "select next value for likes_seq, ?, p.portfolio_id, current_timestamp(6) " +
+                        "from portfolio p " +
+                        "where p.portfolio_id = ? " +
+                        "and not exists (select 1 from likes l where l.member_id = ? and l.portfolio_id = ?)",
+                likeChangeList.stream()
+                        .map(change -> new Object[]{change.getMemberId(), change.getPortfolioId(), change.getMemberId(), change.getPortfolioId()})
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * 좋아요 일괄 삭제
+     * @param likeChangeList
+     */
+    @Transactional
+    public void deleteAll(List<PortfolioLikeDTO.LikeChange> likeChangeList) {
+        jdbcTemplate.batchUpdate("delete from likes where member_id = ? and portfolio_id = ?",
+                likeChangeList.stream()
+                        .map(change -> new Object[]{change.getMemberId(), change.getPortfolioId()})
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * likes 테이블 기준으로 포트폴리오 좋아요 수 갱신
+     * @param portfolioIds
+     */
+    @Transactional
+    public void refreshLikeCount(Collection<Long> portfolioIds) {
+        jdbcTemplate.batchUpdate("update portfolio " +
+                        "set like_count = (select count(*) from likes l where l.portfolio_id = ?) " +
+                        "where portfolio_id = ?",
+                portfolioIds.stream()
+                        .map(portfolioId -> new Object[]{portfolioId, portfolioId})
+                        .collect(Collectors.toList()));
+    }
+}
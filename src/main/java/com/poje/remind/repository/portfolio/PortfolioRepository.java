@@ -1,21 +1,41 @@
 package com.poje.remind.repository.portfolio;
 
-import com.poje.remind.domain.Member.Member;
-import com.poje.remind.domain.ability.Job;
+import com.poje.remind.common.PagingCursor;
 import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Repository
 public class PortfolioRepository {
     private final EntityManager em;
 
+    // 포트폴리오 카드 조회용 select 절 (작성자는 join, 좋아요 수는 like_count 컬럼으로 한 번에 조회)
+    private static final String CARD_SELECT = "select p.id, p.title, p.description, p.backgroundImg, " +
+            "w.nickName, w.profileImg, " +
+            "p.likeCount, " +
+            "p.createdDate " +
+            "from Portfolio p " +
+            "inner join p.writer w ";
+
+    // 좋아요 누른 포트폴리오 카드 조회용 select 절 (마지막 컬럼은 포트폴리오 생성일 대신 좋아요 누른 시간)
+    private static final String LIKED_CARD_SELECT = "select p.id, p.title, p.description, p.backgroundImg, " +
+            "w.nickName, w.profileImg, " +
+            "p.likeCount, " +
+            "ml.createdDate " +
+            "from Portfolio p " +
+            "inner join p.writer w " +
+            "inner join p.likeList ml ";
+
     @Transactional
     public void save(Portfolio portfolio) {
         em.persist(portfolio);
@@ -26,6 +46,38 @@ public class PortfolioRepository {
         return Optional.ofNullable(em.find(Portfolio.class, id));
     }
 
+    /**
+     * 포트폴리오를 작성자, 직무와 함께 조회
+     * @param portfolioId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Optional<Portfolio> findByIdWithWriterAndJob(Long portfolioId) {
+        return em.createQuery("select p " +
+                        "from Portfolio p " +
+                        "join fetch p.writer " +
+                        "join fetch p.job " +
+                        "where p.id = :portfolioId", Portfolio.class)
+                .setParameter("portfolioId", portfolioId)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 작성자의 포트폴리오 id 목록 조회
+     * @param memberId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findIdListByWriterId(Long memberId) {
+        return em.createQuery("select p.id " +
+                        "from Portfolio p " +
+                        "where p.writer.id = :memberId", Long.class)
+                .setParameter("memberId", memberId)
+                .getResultList();
+    }
+
     @Transactional
     public void delete(Portfolio portfolio) {
         em.remove(portfolio);
@@ -38,37 +90,262 @@ public class PortfolioRepository {
     }
 
     @Transactional(readOnly = true)
-    public List<Portfolio> findPortfolioWithJobAndKeyword(Job job, String keyword, int limit) {
-        return em.createQuery("select distinct p " +
+    public Long countByJobId(Long jobId) {
+        return em.createQuery("select count(p) " +
                         "from Portfolio p " +
-                        "where p.job = :job " +
-                        "and p.title like CONCAT('%', :keyword, '%')", Portfolio.class)
-                .setParameter("job", job)
-                .setParameter("keyword", keyword)
-                .setFirstResult(limit)
-                .setMaxResults(12)
-                .getResultList();
+                        "where p.job.id = :jobId", Long.class)
+                .setParameter("jobId", jobId)
+                .getSingleResult();
     }
 
+    /**
+     * 회원이 작성한 포트폴리오인지 확인 (엔티티를 로딩하지 않고 PK 조회로 확인)
+     * @param portfolioId
+     * @param memberId
+     * @return
+     */
     @Transactional(readOnly = true)
-    public List<Portfolio> findPortfolioWhichMemberLike(Member member) {
-        return em.createQuery("select distinct p " +
+    public boolean existsByIdAndWriterId(Long portfolioId, Long memberId) {
+        return !em.createQuery("select p.id " +
                         "from Portfolio p " +
-                        "inner join p.likeList l " +
-                        "where l.member = :member ", Portfolio.class)
-                .setParameter("member", member)
+                        "where p.id = :portfolioId " +
+                        "and p.writer.id = :memberId", Long.class)
+                .setParameter("portfolioId", portfolioId)
+                .setParameter("memberId", memberId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsById(Long portfolioId) {
+        return !em.createQuery("select p.id " +
+                        "from Portfolio p " +
+                        "where p.id = :portfolioId", Long.class)
+                .setParameter("portfolioId", portfolioId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    /**
+     * 좋아요 수 1 증가 (동시 요청에도 유실되지 않도록 DB 에서 원자적으로 증가)
+     * @param portfolioId
+     */
+    @Transactional
+    public void increaseLikeCount(Long portfolioId) {
+        em.createNativeQuery("update portfolio " +
+                        "set like_count = like_count + 1 " +
+                        "where portfolio_id = :portfolioId")
+                .setParameter("portfolioId", portfolioId)
+                .executeUpdate();
+    }
+
+    /**
+     * 좋아요 수 1 감소
+     * @param portfolioId
+     */
+    @Transactional
+    public void decreaseLikeCount(Long portfolioId) {
+        em.createNativeQuery("update portfolio " +
+                        "set like_count = like_count - 1 " +
+                        "where portfolio_id = :portfolioId " +
+                        "and like_count > 0")
+                .setParameter("portfolioId", portfolioId)
+                .executeUpdate();
+    }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 DB 의 현재 좋아요 수 조회
+     * @param portfolioId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public int findLikeCountById(Long portfolioId) {
+        return em.createQuery("select p.likeCount " +
+                        "from Portfolio p " +
+                        "where p.id = :portfolioId", Integer.class)
+                .setParameter("portfolioId", portfolioId)
+                .getSingleResult();
+    }
+
+    /**
+     * likes 테이블 기준으로 어긋난 좋아요 수 보정
+     * @return 보정된 포트폴리오 수
+     */
+    @Transactional
+    public int reconcileLikeCount() {
+        return em.createNativeQuery("update portfolio p " +
+                        "set like_count = (select count(*) from likes l where l.portfolio_id = p.portfolio_id) " +
+                        "where like_count <> (select count(*) from likes l where l.portfolio_id = p.portfolio_id)")
+                .executeUpdate();
+    }
+
+    /**
+     * 검색 색인 생성을 위한 포트폴리오 id, 직무 id, 제목, 설명, 생성일 조회
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> findAllSearchDocuments() {
+        return em.createQuery("select p.id, p.job.id, p.title, p.description, p.createdDate " +
+                        "from Portfolio p", Object[].class)
                 .getResultList();
     }
 
+    /**
+     * 검색 색인 갱신을 위한 포트폴리오 id, 직무 id, 제목, 설명, 생성일 조회
+     * @param portfolioId
+     * @return
+     */
     @Transactional(readOnly = true)
-    public List<Portfolio> findPortfolioWhichMemberLike(Member member, int limit) {
-        return em.createQuery("select distinct p " +
+    public Optional<Object[]> findSearchDocument(Long portfolioId) {
+        return em.createQuery("select p.id, p.job.id, p.title, p.description, p.createdDate " +
                         "from Portfolio p " +
-                        "inner join p.likeList l " +
-                        "where l.member = :member", Portfolio.class)
-                .setParameter("member", member)
+                        "where p.id = :portfolioId", Object[].class)
+                .setParameter("portfolioId", portfolioId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * id 목록에 해당하는 포트폴리오 카드 조회 (작성자, 좋아요 수 포함 단일 쿼리)
+     * @param idList
+     * @return 목록 조회와 같은 (생성일, id) 내림차순 카드 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PortfolioDTO.PortfolioAndMemberResp> findPortfolioCardListByIdList(List<Long> idList) {
+        if(idList == null || idList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return toCardList(em.createQuery(CARD_SELECT +
+                        "where p.id in :idList " +
+                        "order by p.createdDate desc, p.id desc", Object[].class)
+                .setParameter("idList", idList)
+                .getResultList());
+    }
+
+    /**
+     * 사용자가 작성한 포트폴리오 카드 조회
+     * @param memberId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<PortfolioDTO.PortfolioAndMemberResp> findPortfolioCardListByWriter(Long memberId) {
+        return toCardList(em.createQuery(CARD_SELECT +
+                        "where w.id = :memberId " +
+                        "order by p.id", Object[].class)
+                .setParameter("memberId", memberId)
+                .getResultList());
+    }
+
+    /**
+     * 사용자가 좋아요 누른 포트폴리오 카드 조회 (좋아요 누른 순서의 역순)
+     * @param memberId
+     * @param limit
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<PortfolioDTO.PortfolioAndMemberResp> findPortfolioCardListWhichMemberLike(Long memberId, int limit) {
+        return toCardList(em.createQuery(LIKED_CARD_SELECT +
+                        "where ml.member.id = :memberId " +
+                        "order by ml.createdDate desc, p.id desc", Object[].class)
+                .setParameter("memberId", memberId)
                 .setFirstResult(limit)
                 .setMaxResults(12)
-                .getResultList();
+                .getResultList());
+    }
+
+    /**
+     * 직무 별 포트폴리오 카드 페이지 조회 (최신순, (job_id, created_date, portfolio_id) 인덱스 사용)
+     * @param jobId
+     * @param offset
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<PortfolioDTO.PortfolioAndMemberResp> findPortfolioCardListWithJob(Long jobId, int offset, int size) {
+        return toCardList(em.createQuery(CARD_SELECT +
+                        "where p.job.id = :jobId " +
+                        "order by p.createdDate desc, p.id desc", Object[].class)
+                .setParameter("jobId", jobId)
+                .setFirstResult(offset)
+                .setMaxResults(size)
+                .getResultList());
+    }
+
+    /**
+     * 직무 별 포트폴리오 카드 커서 기반 조회 (최신순)
+     * @param jobId
+     * @param cursor 이전 페이지의 마지막 포트폴리오 위치 (첫 페이지면 null)
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<PortfolioDTO.PortfolioAndMemberResp> findPortfolioCardListWithJobAfterCursor(Long jobId, PagingCursor cursor, int size) {
+        if(cursor == null) {
+            return toCardList(em.createQuery(CARD_SELECT +
+                            "where p.job.id = :jobId " +
+                            "order by p.createdDate desc, p.id desc", Object[].class)
+                    .setParameter("jobId", jobId)
+                    .setMaxResults(size)
+                    .getResultList());
+        }
+
+        return toCardList(em.createQuery(CARD_SELECT +
+                        "where p.job.id = :jobId " +
+                        "and (p.createdDate < :createdDate " +
+                        "or (p.createdDate = :createdDate and p.id < :id)) " +
+                        "order by p.createdDate desc, p.id desc", Object[].class)
+                .setParameter("jobId", jobId)
+                .setParameter("createdDate", cursor.getCreatedDate())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList());
+    }
+
+    /**
+     * 사용자가 좋아요 누른 포트폴리오 카드 커서 기반 조회 (좋아요 누른 순서의 역순)
+     * (member_id, created_date, portfolio_id) 인덱스를 따라 읽으므로 좋아요 수와 관계없이 페이지 크기만큼만 조회
+     * @param memberId
+     * @param cursor 이전 페이지의 마지막 좋아요 위치 (좋아요 누른 시간, 포트폴리오 id), 첫 페이지면 null
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<PortfolioDTO.PortfolioAndMemberResp> findPortfolioCardListWhichMemberLikeAfterCursor(Long memberId, PagingCursor cursor, int size) {
+        if(cursor == null) {
+            return toCardList(em.createQuery(LIKED_CARD_SELECT +
+                            "where ml.member.id = :memberId " +
+                            "order by ml.createdDate desc, p.id desc", Object[].class)
+                    .setParameter("memberId", memberId)
+                    .setMaxResults(size)
+                    .getResultList());
+        }
+
+        return toCardList(em.createQuery(LIKED_CARD_SELECT +
+                        "where ml.member.id = :memberId " +
+                        "and (ml.createdDate < :createdDate " +
+                        "or (ml.createdDate = :createdDate and p.id < :id)) " +
+                        "order by ml.createdDate desc, p.id desc", Object[].class)
+                .setParameter("memberId", memberId)
+                .setParameter("createdDate", cursor.getCreatedDate())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList());
+    }
+
+    private List<PortfolioDTO.PortfolioAndMemberResp> toCardList(List<Object[]> rowList) {
+        return rowList.stream()
+                .map(row -> new PortfolioDTO.PortfolioAndMemberResp(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        (String) row[4],
+                        (String) row[5],
+                        ((Number) row[6]).intValue(),
+                        (LocalDateTime) row[7]))
+                .collect(Collectors.toList());
     }
 }
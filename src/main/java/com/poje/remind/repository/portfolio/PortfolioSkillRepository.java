@@ -21,6 +21,11 @@ public class PortfolioSkillRepository {
         em.persist(portfolioSkill);
     }
 
+    @Transactional
+    public void saveAll(List<PortfolioSkill> portfolioSkillList) {
+        portfolioSkillList.forEach(em::persist);
+    }
+
     @Transactional(readOnly = true)
     public Optional<PortfolioSkill> findById(Long portfolioSkillId) {
         return Optional.ofNullable(em.find(PortfolioSkill.class, portfolioSkillId));
@@ -37,6 +42,16 @@ public class PortfolioSkillRepository {
                 .getResultList();
     }
 
+    @Transactional(readOnly = true)
+    public List<PortfolioSkill> findAllByPortfolioId(Long portfolioId) {
+        return em.createQuery("select ps " +
+                        "from PortfolioSkill ps " +
+                        "where ps.portfolio.id = :portfolioId " +
+                        "order by ps.id", PortfolioSkill.class)
+                .setParameter("portfolioId", portfolioId)
+                .getResultList();
+    }
+
     @Transactional
     public void deleteAll(List<PortfolioSkill> portfolioSkillList) {
         if(portfolioSkillList == null || portfolioSkillList.isEmpty()) {
@@ -0,0 +1,49 @@
+package com.poje.remind.repository.portfolio;
+
+import com.poje.remind.domain.portfolio.PortfolioSnapshot;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Repository
+public class PortfolioSnapshotRepository {
+    private final EntityManager em;
+
+    @Transactional(readOnly = true)
+    public Optional<PortfolioSnapshot> findById(Long portfolioId) {
+        return Optional.ofNullable(em.find(PortfolioSnapshot.class, portfolioId));
+    }
+
+    /**
+     * 스냅샷 저장 (이미 있으면 내용을 바꾸고 version 증가)
+     * @param portfolioId
+     * @param content
+     */
+    @Transactional
+    public void save(Long portfolioId, byte[] content) {
+        PortfolioSnapshot snapshot = em.find(PortfolioSnapshot.class, portfolioId);
+
+        if(snapshot == null) {
+            em.persist(PortfolioSnapshot.builder()
+                    .portfolioId(portfolioId)
+                    .content(content)
+                    .build());
+            return;
+        }
+
+        snapshot.update(content);
+    }
+
+    @Transactional
+    public void deleteById(Long portfolioId) {
+        em.createQuery("delete " +
+                        "from PortfolioSnapshot ps " +
+                        "where ps.portfolioId = :portfolioId")
+                .setParameter("portfolioId", portfolioId)
+                .executeUpdate();
+    }
+}
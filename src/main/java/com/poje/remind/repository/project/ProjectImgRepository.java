@@ -6,8 +6,10 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Repository
@@ -19,6 +21,10 @@ public class ProjectImgRepository {
         em.persist(projectImg);
     }
 
+    public void saveAll(List<ProjectImg> projectImgList) {
+        projectImgList.forEach(em::persist);
+    }
+
     public Optional<ProjectImg> findById(Long projectImgId) {
         return Optional.ofNullable(em.find(ProjectImg.class, projectImgId));
     }
@@ -36,7 +42,41 @@ public class ProjectImgRepository {
                 .getResultList();
     }
 
+    /**
+     * 여러 프로젝트의 이미지 목록을 IN 쿼리 한 번으로 조회
+     * @param projectIdList
+     * @return
+     */
+    public List<ProjectImg> findAllByProjectIdList(List<Long> projectIdList) {
+        if(projectIdList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return em.createQuery("select pi " +
+                        "from ProjectImg pi " +
+                        "where pi.project.id in :projectIdList " +
+                        "order by pi.id", ProjectImg.class)
+                .setParameter("projectIdList", projectIdList)
+                .getResultList();
+    }
+
     public void delete(ProjectImg projectImg) {
         em.remove(projectImg);
     }
+
+    public void deleteAll(List<ProjectImg> projectImgList) {
+        if(projectImgList.isEmpty()) {
+            return;
+        }
+
+        List<Long> idList = projectImgList.stream()
+                .map(ProjectImg::getId)
+                .collect(Collectors.toList());
+
+        em.createQuery("delete " +
+                        "from ProjectImg pi " +
+                        "where pi.id in :idList")
+                .setParameter("idList", idList)
+                .executeUpdate();
+    }
 }
@@ -1,7 +1,6 @@
 package com.poje.remind.repository.project;
 
 import com.poje.remind.domain.project.Project;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,8 +10,18 @@ import java.util.Optional;
 
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    @EntityGraph(attributePaths = {"projectSkillSet", "projectImgSet", "projectAward"})
-    List<Project> findAllByPortfolioId(Long portfolioId);
+    /**
+     * 포트폴리오의 프로젝트 목록 조회 (수상 정보만 함께 조회)
+     * 사용 기술과 이미지를 함께 fetch join 하면 프로젝트마다 (사용 기술 수 x 이미지 수) 만큼 행이 늘어나므로 따로 조회
+     * @param portfolioId
+     * @return
+     */
+    @Query(value = "select pr " +
+            "from Project pr " +
+            "left join fetch pr.projectAward " +
+            "where pr.portfolio.id = :portfolioId " +
+            "order by pr.id")
+    List<Project> findAllByPortfolioId(@Param("portfolioId") Long portfolioId);
 
     @Query(value = "select pr " +
             "from Project pr " +
@@ -6,8 +6,10 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Repository
@@ -19,6 +21,10 @@ public class ProjectSkillRepository {
         em.persist(projectSkill);
     }
 
+    public void saveAll(List<ProjectSkill> projectSkillList) {
+        projectSkillList.forEach(em::persist);
+    }
+
     public Optional<ProjectSkill> findById(Long projectSkillId) {
         return Optional.ofNullable(em.find(ProjectSkill.class, projectSkillId));
     }
@@ -32,6 +38,22 @@ public class ProjectSkillRepository {
         em.remove(projectSkill);
     }
 
+    public void deleteAll(List<ProjectSkill> projectSkillList) {
+        if(projectSkillList.isEmpty()) {
+            return;
+        }
+
+        List<Long> idList = projectSkillList.stream()
+                .map(ProjectSkill::getId)
+                .collect(Collectors.toList());
+
+        em.createQuery("delete " +
+                        "from ProjectSkill ps " +
+                        "where ps.id in :idList")
+                .setParameter("idList", idList)
+                .executeUpdate();
+    }
+
     public List<ProjectSkill> findByProject(Project project) {
         return em.createQuery("select distinct ps " +
                         "from ProjectSkill ps " +
@@ -40,4 +62,22 @@ public class ProjectSkillRepository {
                 .getResultList();
     }
 
+    /**
+     * 여러 프로젝트의 사용 기술 목록을 IN 쿼리 한 번으로 조회
+     * @param projectIdList
+     * @return
+     */
+    public List<ProjectSkill> findAllByProjectIdList(List<Long> projectIdList) {
+        if(projectIdList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return em.createQuery("select ps " +
+                        "from ProjectSkill ps " +
+                        "where ps.project.id in :projectIdList " +
+                        "order by ps.id", ProjectSkill.class)
+                .setParameter("projectIdList", projectIdList)
+                .getResultList();
+    }
+
 }
@@ -24,9 +24,8 @@ public class LicenseService {
 
     @Transactional
     public void enrollLicense(LicenseDTO.CreateReq createReq) {
-        Member owner = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        // 회원을 조회하지 않고 프록시로 연관관계만 설정
+        Member owner = memberRepository.getReferenceById(SecurityUtil.getCurrentMemberId());
 
         if(licenseRepository.existsByOwnerAndName(owner, createReq.getName())) {
             throw new GlobalException(ErrorCode.LICENCE_ALREADY_ENROLLED);
@@ -44,9 +43,7 @@ public class LicenseService {
 
     @Transactional
     public LicenseDTO.LicenseListResp updateLicense(LicenseDTO.UpdateReq updateReq) {
-        Member owner = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Member owner = memberRepository.getReferenceById(SecurityUtil.getCurrentMemberId());
 
         License license = licenseRepository.findByOwnerAndName(owner, updateReq.getName()).orElseThrow(
                 () -> new GlobalException(ErrorCode.LICENSE_NOT_FOUND)
@@ -54,7 +51,7 @@ public class LicenseService {
 
         license.updateLicense(updateReq.getName(), updateReq.getIssueInstitution(), updateReq.getIssueDate());
 
-        List<License> licenseList = owner.getLicenseList();
+        List<License> licenseList = licenseRepository.findAllByOwner(owner);
         List<LicenseDTO.LicenseResp> licenseRespList = licenseList.stream()
                 .map(licenseInfo -> new LicenseDTO.LicenseResp(licenseInfo.getName(), licenseInfo.getIssueInstitution(), licenseInfo.getIssueDate()))
                 .collect(Collectors.toList());
@@ -64,11 +61,9 @@ public class LicenseService {
 
     @Transactional(readOnly = true)
     public LicenseDTO.LicenseListResp getLicenseList() {
-        Member owner = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Member owner = memberRepository.getReferenceById(SecurityUtil.getCurrentMemberId());
 
-        List<License> licenseList = owner.getLicenseList();
+        List<License> licenseList = licenseRepository.findAllByOwner(owner);
         List<LicenseDTO.LicenseResp> licenseRespList = licenseList.stream()
                 .map(license -> new LicenseDTO.LicenseResp(license.getName(), license.getIssueInstitution(), license.getIssueDate()))
                 .collect(Collectors.toList());
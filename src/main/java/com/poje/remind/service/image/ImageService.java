@@ -0,0 +1,266 @@
+package com.poje.remind.service.image;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.domain.image.ImageVariant;
+import com.poje.remind.domain.image.StoredImage;
+import com.poje.remind.domain.image.dto.ImageDTO;
+import com.poje.remind.repository.image.StoredImageRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 디스크 이미지 저장소
+ * 파일 내용의 SHA-256 을 id 로 사용하므로 같은 이미지는 한 번만 저장 ({root}/{id 앞 2자리}/{id})
+ * 업로드는 메모리에 모으지 않고 임시 파일에 쓰면서 해시를 계산한 뒤 최종 경로로 이동 (image.storage.root)
+ * 저장 이후 축소본(ImageVariant) 생성은 ImageVariantService 에서 비동기로 실행
+ */
+@Slf4j
+@Service
+public class ImageService {
+
+    private static final Pattern IMAGE_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int HEADER_SIZE = 12;
+
+    private final StoredImageRepository storedImageRepository;
+    private final ImageVariantService imageVariantService;
+    private final Path rootPath;
+
+    public ImageService(StoredImageRepository storedImageRepository,
+                        ImageVariantService imageVariantService,
+                        @Value("${image.storage.root:images}") String root) {
+        this.storedImageRepository = storedImageRepository;
+        this.imageVariantService = imageVariantService;
+        this.rootPath = Paths.get(root).toAbsolutePath().normalize();
+
+        try {
+            Files.createDirectories(rootPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이미지 업로드 (이미 저장된 이미지면 파일을 다시 쓰지 않고 기존 id 반환)
+     * @param image
+     * @return
+     */
+    @Transactional
+    public ImageDTO.ImageUploadResp upload(MultipartFile image) {
+        Path tempPath = null;
+
+        try {
+            tempPath = Files.createTempFile(rootPath, "upload-", ".tmp");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try(InputStream in = new DigestInputStream(image.getInputStream(), digest);
+                OutputStream out = Files.newOutputStream(tempPath)) {
+                size = in.transferTo(out);
+            }
+
+            String contentType = detectContentType(tempPath);
+            if(contentType == null) {
+                throw new GlobalException(ErrorCode.INVALID_IMAGE_TYPE);
+            }
+
+            String imageId = HexFormat.of().formatHex(digest.digest());
+            Path imagePath = resolve(imageId);
+
+            if(Files.notExists(imagePath)) {
+                Files.createDirectories(imagePath.getParent());
+                try {
+                    Files.move(tempPath, imagePath, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // 같은 이미지가 동시에 업로드된 경우 (내용이 같으므로 먼저 저장된 파일 사용)
+                }
+            }
+
+            // 조회 이후 다른 요청이 먼저 저장했으면 saveIfAbsent 에서 무시됨
+            if(storedImageRepository.findById(imageId).isEmpty()) {
+                storedImageRepository.saveIfAbsent(StoredImage.builder()
+                        .id(imageId)
+                        .contentType(contentType)
+                        .size(size)
+                        .build());
+            }
+
+            // 이미 축소본이 있으면 생성하지 않음
+            imageVariantService.request(imageId, imagePath, contentType);
+
+            return new ImageDTO.ImageUploadResp(imageId, StoredImage.urlOf(imageId));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("이미지 저장 실패", e);
+            throw new GlobalException(ErrorCode.IMAGE_UPLOAD_FAILED);
+        } finally {
+            deleteQuietly(tempPath);
+        }
+    }
+
+    /**
+     * 저장된 이미지 파일 정보 조회
+     * @param imageId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public ImageFile getImageFile(String imageId) {
+        StoredImage storedImage = findStoredImage(imageId);
+
+        return new ImageFile(resolve(imageId), storedImage.getContentType(), storedImage.getSize(), imageId, true);
+    }
+
+    /**
+     * 저장된 이미지의 축소본 파일 정보 조회
+     * 축소본이 아직 없으면 생성을 요청하고 원본을 반환 (다음 조회 때 축소본으로 바뀌므로 immutable 캐시 불가)
+     * @param imageId
+     * @param variant
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public ImageFile getImageFile(String imageId, ImageVariant variant) {
+        StoredImage storedImage = findStoredImage(imageId);
+        Path imagePath = resolve(imageId);
+
+        if(!ImageVariantService.isSupported(storedImage.getContentType())) {
+            return new ImageFile(imagePath, storedImage.getContentType(), storedImage.getSize(), imageId, true);
+        }
+
+        Path variantPath = ImageVariantService.variantPath(imagePath, variant);
+        try {
+            return new ImageFile(variantPath, ImageVariantService.variantContentType(storedImage.getContentType()),
+                    Files.size(variantPath), imageId + "-" + variant.getKey(), true);
+        } catch (NoSuchFileException e) {
+            imageVariantService.request(imageId, imagePath, storedImage.getContentType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new ImageFile(imagePath, storedImage.getContentType(), storedImage.getSize(), imageId, false);
+    }
+
+    /**
+     * 이미지 id 목록을 이미지 url 목록으로 변환 (저장되지 않은 이미지가 있으면 IMAGE_NOT_FOUND)
+     * @param imageIdList
+     * @return 요청 순서를 유지한 url 목록
+     */
+    @Transactional(readOnly = true)
+    public List<String> toUrlList(List<String> imageIdList) {
+        Set<String> requestIdSet = new HashSet<>(imageIdList);
+
+        if(!requestIdSet.stream().allMatch(ImageService::isImageId)
+                || storedImageRepository.findExistingIdList(requestIdSet).size() != requestIdSet.size()) {
+            throw new GlobalException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+
+        return imageIdList.stream()
+                .map(StoredImage::urlOf)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 이미지 id 를 이미지 url 로 변환 (저장되지 않은 이미지면 IMAGE_NOT_FOUND)
+     * @param imageId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public String toUrl(String imageId) {
+        return toUrlList(List.of(imageId)).get(0);
+    }
+
+    private StoredImage findStoredImage(String imageId) {
+        if(!isImageId(imageId)) {
+            throw new GlobalException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+
+        return storedImageRepository.findById(imageId).orElseThrow(
+                () -> new GlobalException(ErrorCode.IMAGE_NOT_FOUND)
+        );
+    }
+
+    private Path resolve(String imageId) {
+        return rootPath.resolve(imageId.substring(0, 2)).resolve(imageId);
+    }
+
+    private static boolean isImageId(String imageId) {
+        return imageId != null && IMAGE_ID_PATTERN.matcher(imageId).matches();
+    }
+
+    /**
+     * 파일 앞부분(magic number)으로 이미지 형식 확인
+     * @param path
+     * @return 지원하지 않는 형식이면 null
+     */
+    private static String detectContentType(Path path) throws IOException {
+        byte[] header = new byte[HEADER_SIZE];
+        int length;
+        try(InputStream in = Files.newInputStream(path)) {
+            length = in.readNBytes(header, 0, HEADER_SIZE);
+        }
+
+        if(length >= 8 && startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if(length >= 3 && startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if(length >= 6 && startsWith(header, 0, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if(length >= 12 && startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+
+        return null;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int... expected) {
+        for(int i = 0; i < expected.length; i++) {
+            if((bytes[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if(path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 - {}", path, e);
+        }
+    }
+
+    /**
+     * 저장된 이미지 파일 경로, 형식, 크기, ETag 값, 같은 url 의 내용이 바뀌지 않는지 여부
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ImageFile {
+        private final Path path;
+        private final String contentType;
+        private final long size;
+        private final String tag;
+        private final boolean immutable;
+    }
+}
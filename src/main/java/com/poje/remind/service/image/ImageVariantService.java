@@ -0,0 +1,193 @@
+package com.poje.remind.service.image;
+
+import com.poje.remind.domain.image.ImageVariant;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드 이미지의 축소본(ImageVariant) 생성
+ * 원본을 한 번만 디코딩해서 모든 축소본을 만들고, 원본 옆에 {id}_{variant} 파일로 저장
+ * 대기열 크기가 정해진 전용 스레드에서 실행하며 대기열이 가득 차면 요청을 버리고 다음 조회 때 다시 요청
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+
+    // 대기 중이거나 생성 중인 이미지 (같은 이미지의 생성 요청이 여러 번 쌓이지 않도록 함)
+    private final Set<String> pendingIdSet = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder generatedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    public ImageVariantService(@Value("${image.variant.threads:2}") int threads,
+                               @Value("${image.variant.queue-capacity:100}") int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 축소본을 만들 수 있는 이미지 형식인지 확인 (ImageIO 가 읽지 못하는 webp 는 원본 사용)
+     * @param contentType
+     * @return
+     */
+    public static boolean isSupported(String contentType) {
+        return "image/png".equals(contentType) || "image/jpeg".equals(contentType) || "image/gif".equals(contentType);
+    }
+
+    /**
+     * 축소본 파일 형식 (jpeg 는 jpeg, 나머지는 투명도를 유지하기 위해 png)
+     * @param contentType 원본 이미지 형식
+     * @return
+     */
+    public static String variantContentType(String contentType) {
+        return "image/jpeg".equals(contentType) ? "image/jpeg" : "image/png";
+    }
+
+    public static Path variantPath(Path imagePath, ImageVariant variant) {
+        return imagePath.resolveSibling(imagePath.getFileName() + "_" + variant.getKey());
+    }
+
+    /**
+     * 축소본 생성을 대기열에 추가 (이미 대기 중이면 무시)
+     * @param imageId
+     * @param imagePath 원본 경로
+     * @param contentType 원본 이미지 형식
+     */
+    public void request(String imageId, Path imagePath, String contentType) {
+        if(!isSupported(contentType) || !pendingIdSet.add(imageId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(imagePath, contentType);
+                } finally {
+                    pendingIdSet.remove(imageId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingIdSet.remove(imageId);
+            rejectedCount.increment();
+            log.warn("이미지 축소본 생성 대기열이 가득 찼습니다. - imageId: {}", imageId);
+        }
+    }
+
+    /**
+     * 없는 축소본만 생성 (모두 있으면 원본을 디코딩하지 않음)
+     * 임시 파일에 쓴 뒤 이동하므로 조회 중인 축소본이 덮어써지거나 중간까지 쓰인 파일이 보이지 않음
+     * @param imagePath
+     * @param contentType
+     */
+    void generate(Path imagePath, String contentType) {
+        try {
+            BufferedImage source = null;
+
+            for(ImageVariant variant : ImageVariant.values()) {
+                Path variantPath = variantPath(imagePath, variant);
+                if(Files.exists(variantPath)) {
+                    skippedCount.increment();
+                    continue;
+                }
+
+                if(source == null) {
+                    source = ImageIO.read(imagePath.toFile());
+                    if(source == null) {
+                        throw new IOException("이미지를 읽을 수 없습니다.");
+                    }
+                }
+
+                write(resize(source, variant.getMaxWidth(), contentType), variantPath, contentType);
+                generatedCount.increment();
+            }
+        } catch (IOException | RuntimeException e) {
+            failedCount.increment();
+            log.error("이미지 축소본 생성 실패 - {}", imagePath, e);
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxWidth, String contentType) {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // jpeg 는 알파 채널을 저장할 수 없음
+        int type = "image/jpeg".equals(contentType) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage target = new BufferedImage(width, height, type);
+
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
+    }
+
+    private static void write(BufferedImage image, Path variantPath, String contentType) throws IOException {
+        String format = "image/jpeg".equals(contentType) ? "jpg" : "png";
+        Path tempPath = Files.createTempFile(variantPath.getParent(), "variant-", ".tmp");
+
+        try {
+            if(!ImageIO.write(image, format, tempPath.toFile())) {
+                throw new IOException("이미지를 저장할 수 없습니다. - " + format);
+            }
+            Files.move(tempPath, variantPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 다른 스레드에서 먼저 생성한 경우 (같은 원본이므로 내용이 같음)
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * 축소본 생성 통계 (대기열 크기, 처리 중인 작업 수, 생성/건너뜀/거절/실패 수)
+     * @return
+     */
+    public Stats getStats() {
+        return new Stats(executor.getQueue().size(), queueCapacity, executor.getActiveCount(),
+                generatedCount.sum(), skippedCount.sum(), rejectedCount.sum(), failedCount.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private int queueSize;
+        private int queueCapacity;
+        private int activeCount;
+        private long generatedCount;
+        private long skippedCount;
+        private long rejectedCount;
+        private long failedCount;
+    }
+}
@@ -2,14 +2,17 @@ package com.poje.remind.service.member;
 
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.config.jwt.JwtTokenProvider;
+import com.poje.remind.config.jwt.RevokedTokenCache;
 import com.poje.remind.config.jwt.TokenDTO;
+import com.poje.remind.config.jwt.TokenStore;
+import com.poje.remind.config.jwt.VerifiedTokenCache;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.Member.dto.MemberDTO;
 import com.poje.remind.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -17,8 +20,6 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.TimeUnit;
-
 @RequiredArgsConstructor
 @Service
 public class AuthService {
@@ -27,7 +28,9 @@ public class AuthService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenStore tokenStore;
+    private final RevokedTokenCache revokedTokenCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
 
     @Transactional
@@ -60,12 +63,8 @@ public class AuthService {
 
         TokenDTO tokenDTO = tokenProvider.generateToken(authentication);
 
-        redisTemplate.opsForValue().set(
-                authentication.getName(),
-                tokenDTO.getRefreshToken(),
-                tokenProvider.getExpiration(tokenDTO.getRefreshToken()),
-                TimeUnit.MILLISECONDS
-        );
+        String refreshToken = tokenDTO.getRefreshToken();
+        tokenStore.saveRefreshToken(authentication.getName(), tokenProvider.getTokenId(refreshToken), tokenProvider.getExpiration(refreshToken));
 
         return tokenDTO;
     }
@@ -78,16 +77,12 @@ public class AuthService {
 
         Authentication authentication = tokenProvider.getAuthentication(accessToken);
 
-        if(redisTemplate.opsForValue().get(authentication.getName()) != null) {
-            redisTemplate.delete(authentication.getName());
-        }
+        // jti 가 없는 이전 토큰은 토큰 원문을 id 로 사용
+        String tokenId = tokenProvider.getTokenId(accessToken);
 
-        redisTemplate.opsForValue().set(
-                accessToken,
-                "logout",
-                tokenProvider.getExpiration(accessToken),
-                TimeUnit.MILLISECONDS
-        );
+        // 회원의 refresh token (이전 방식 포함) 삭제와 로그아웃 토큰 등록을 함께 처리
+        revokedTokenCache.revoke(authentication.getName(), tokenId != null ? tokenId : accessToken, tokenProvider.getExpiration(accessToken));
+        verifiedTokenCache.remove(accessToken);
     }
 
     @Transactional
@@ -99,23 +94,54 @@ public class AuthService {
 
         Authentication authentication = tokenProvider.getAuthentication(accessToken);
 
-        String savedRefreshToken = redisTemplate.opsForValue().get(authentication.getName());
+        // 새로운 토큰 생성
+        TokenDTO tokenDTO = tokenProvider.generateToken(withMemberId(authentication));
 
-        if(!refreshToken.equals(savedRefreshToken)) {
+        // 사용한 refresh token 삭제와 새 refresh token 저장을 한 번에 처리 (사용한 refresh token 은 다시 사용할 수 없음)
+        if(!rotateRefreshToken(authentication.getName(), refreshToken, tokenDTO.getRefreshToken())) {
             throw new GlobalException(ErrorCode.REFRESH_TOKEN_NOT_MATCHED);
         }
 
-        // 새로운 토큰 생성
-        TokenDTO tokenDTO = tokenProvider.generateToken(authentication);
+        return tokenDTO;
+    }
 
-        redisTemplate.opsForValue().set(
-                authentication.getName(),
-                tokenDTO.getRefreshToken(),
-                tokenProvider.getExpiration(tokenDTO.getRefreshToken()),
-                TimeUnit.MILLISECONDS
+    /**
+     * 회원 id 클레임이 없는 이전 토큰이면 회원을 조회해서 회원 id 를 채운 인증 객체 반환
+     * @param authentication
+     * @return
+     */
+    private Authentication withMemberId(Authentication authentication) {
+        if(!(authentication.getPrincipal() instanceof CurrentMember currentMember) || currentMember.getId() != null) {
+            return authentication;
+        }
+
+        Member member = memberRepository.findByLoginId(currentMember.getLoginId()).orElseThrow(
+                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
         );
 
-        return tokenDTO;
+        CurrentMember principal = new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole());
+
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    /**
+     * 저장된 refresh token 이면 삭제하고 새 refresh token 저장
+     * jti 가 없는 이전 refresh token 은 loginId key 에 저장된 값과 비교 (이전 토큰이 모두 만료되면 사용되지 않음)
+     * @param loginId
+     * @param usedRefreshToken
+     * @param refreshToken
+     * @return 저장된 refresh token 이면 true
+     */
+    private boolean rotateRefreshToken(String loginId, String usedRefreshToken, String refreshToken) {
+        String usedTokenId = tokenProvider.getTokenId(usedRefreshToken);
+        String tokenId = tokenProvider.getTokenId(refreshToken);
+        long expiresAt = tokenProvider.getExpiration(refreshToken);
+
+        if(usedTokenId != null) {
+            return tokenStore.rotateRefreshToken(loginId, usedTokenId, tokenId, expiresAt);
+        }
+
+        return tokenStore.rotateLegacyRefreshToken(loginId, usedRefreshToken, tokenId, expiresAt);
     }
 
 }
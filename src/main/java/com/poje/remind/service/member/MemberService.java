@@ -6,7 +6,10 @@ import com.poje.remind.config.SecurityUtil;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.dto.MemberDTO;
 import com.poje.remind.repository.member.MemberRepository;
+import com.poje.remind.service.image.ImageService;
+import com.poje.remind.service.portfolio.PortfolioChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +20,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ImageService imageService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(readOnly = true)
     public void checkLoginIdDuplicated(String loginId) {
@@ -27,7 +32,7 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public MemberDTO.MemberResp getMember() {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
+        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(
                 () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
         );
 
@@ -38,18 +43,26 @@ public class MemberService {
 
     @Transactional
     public MemberDTO.MemberResp updateMember(MemberDTO.UpdateReq updateReq) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
+        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(
                 () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
         );
 
+        // 새 프로필 이미지가 없으면 기존 이미지 유지
+        String profileImg = updateReq.getProfileImage() == null
+                ? member.getProfileImg()
+                : imageService.toUrl(updateReq.getProfileImage());
+
         member.updateInfo(updateReq.getNickName(), updateReq.getEmail(),
                 updateReq.getPhoneNum(), updateReq.getGender(),
                 updateReq.getAcademic(), updateReq.getDept(),
-                updateReq.getBirth(), "profileImg",
+                updateReq.getBirth(), profileImg,
                 updateReq.getGitHubLink(), updateReq.getBlogLink());
 
         memberRepository.save(member);  // 명시
 
+        // 작성자 정보가 포함된 포트폴리오 스냅샷 재생성
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofWriter(member.getId()));
+
         return MemberDTO.MemberResp.builder()
                 .member(member)
                 .build();
@@ -57,7 +70,7 @@ public class MemberService {
 
     @Transactional
     public void updatePassword(MemberDTO.PasswordUpdateReq passwordUpdateReq) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
+        Member member = memberRepository.findById(SecurityUtil.getCurrentMemberId()).orElseThrow(
                 () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
         );
 
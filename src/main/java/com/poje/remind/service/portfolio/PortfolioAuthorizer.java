@@ -0,0 +1,158 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.common.TransactionUtil;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 포트폴리오 작성자 권한 확인
+ * 포트폴리오와 회원을 조회하지 않고 (portfolio_id, member_id) 존재 여부 쿼리로 확인
+ * 확인된 작성자는 짧은 시간 동안 캐시 (portfolio.ownership.ttl-millis, portfolio.ownership.max-size)
+ * 포트폴리오가 삭제되면 Redis pub/sub 으로 다른 서버에도 캐시 제거를 전파 (전파에 실패한 경우에도 TTL 이 지나면 만료)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PortfolioAuthorizer implements MessageListener {
+
+    public static final String CHANNEL = "portfolio:ownership-evicted";
+    private static final String DELIMITER = ":";
+
+    private final PortfolioRepository portfolioRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 자신이 보낸 메시지를 구분하기 위한 서버 id
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${portfolio.ownership.ttl-millis:60000}")
+    private long ttlMillis;
+
+    @Value("${portfolio.ownership.max-size:10000}")
+    private int maxSize;
+
+    // portfolioId -> 확인된 작성자 (접근 순서 유지, LRU 제거)
+    private final Map<Long, Ownership> ownershipMap = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Ownership> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 회원이 포트폴리오 작성자인지 확인
+     * @param portfolioId
+     * @param memberId
+     * @param errorCode 작성자가 아닐 때 발생시킬 에러
+     */
+    public void checkWriter(Long portfolioId, Long memberId, ErrorCode errorCode) {
+        if(isCachedWriter(portfolioId, memberId)) {
+            return;
+        }
+
+        if(portfolioRepository.existsByIdAndWriterId(portfolioId, memberId)) {
+            cache(portfolioId, memberId);
+            return;
+        }
+
+        // 작성자가 아닌 경우와 포트폴리오가 없는 경우 구분 (실패한 요청에서만 조회)
+        if(!portfolioRepository.existsById(portfolioId)) {
+            throw new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND);
+        }
+
+        throw new GlobalException(errorCode);
+    }
+
+    /**
+     * 이미 조회한 포트폴리오의 작성자 확인 (작성자 FK 로 확인하므로 쿼리 없음)
+     * @param portfolio
+     * @param memberId
+     * @param errorCode 작성자가 아닐 때 발생시킬 에러
+     */
+    public void checkWriter(Portfolio portfolio, Long memberId, ErrorCode errorCode) {
+        if(!portfolio.getWriter().getId().equals(memberId)) {
+            throw new GlobalException(errorCode);
+        }
+
+        cache(portfolio.getId(), memberId);
+    }
+
+    /**
+     * 삭제된 포트폴리오의 작성자 캐시 제거 (트랜잭션 커밋 이후 반영, 다른 서버에도 전파)
+     * @param portfolioId
+     */
+    public void evict(Long portfolioId) {
+        TransactionUtil.afterCommit(() -> {
+            evictLocal(portfolioId);
+
+            try {
+                redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + portfolioId);
+            } catch(RuntimeException e) {
+                log.warn("작성자 캐시 제거 전파 실패 - portfolioId: {}", portfolioId, e);
+            }
+        });
+    }
+
+    /**
+     * 다른 서버에서 전파된 캐시 제거 반영
+     * @param message "서버 id:포트폴리오 id"
+     * @param pattern
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] tokens = body.split(DELIMITER);
+
+        try {
+            if(tokens.length != 2 || nodeId.equals(tokens[0])) {
+                return;
+            }
+
+            evictLocal(Long.parseLong(tokens[1]));
+        } catch(NumberFormatException e) {
+            log.warn("잘못된 작성자 캐시 제거 메시지입니다. message: {}", body);
+        }
+    }
+
+    private synchronized void evictLocal(Long portfolioId) {
+        ownershipMap.remove(portfolioId);
+    }
+
+    private synchronized boolean isCachedWriter(Long portfolioId, Long memberId) {
+        Ownership ownership = ownershipMap.get(portfolioId);
+
+        if(ownership == null) {
+            return false;
+        }
+
+        if(ownership.expiresAt <= System.currentTimeMillis()) {
+            ownershipMap.remove(portfolioId);
+            return false;
+        }
+
+        return ownership.memberId.equals(memberId);
+    }
+
+    private synchronized void cache(Long portfolioId, Long memberId) {
+        ownershipMap.put(portfolioId, new Ownership(memberId, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @RequiredArgsConstructor
+    private static class Ownership {
+        private final Long memberId;
+        private final long expiresAt;
+    }
+}
@@ -3,14 +3,13 @@ package com.poje.remind.service.portfolio;
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
 import com.poje.remind.config.SecurityUtil;
-import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.portfolio.PortfolioAward;
 import com.poje.remind.domain.portfolio.dto.PortfolioAwardDTO;
-import com.poje.remind.repository.member.MemberRepository;
 import com.poje.remind.repository.portfolio.PortfolioAwardRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +22,8 @@ public class PortfolioAwardService {
 
     private final PortfolioRepository portfolioRepository;
     private final PortfolioAwardRepository portfolioAwardRepository;
-    private final MemberRepository memberRepository;
+    private final PortfolioAuthorizer portfolioAuthorizer;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public PortfolioAwardDTO.PortfolioAwardResp enrollPortfolioAward(Long portfolioId) {
@@ -31,13 +31,7 @@ public class PortfolioAwardService {
                 () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
         );
 
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
-
-        if(!portfolio.getWriter().equals(member)) {
-            throw new GlobalException(ErrorCode.MEMBER_NOT_MATCH);
-        }
+        portfolioAuthorizer.checkWriter(portfolio, SecurityUtil.getCurrentMemberId(), ErrorCode.MEMBER_NOT_MATCH);
 
         PortfolioAward portfolioAward = PortfolioAward.builder()
                 .supervision("주최를 입력해주세요.")
@@ -47,6 +41,7 @@ public class PortfolioAwardService {
                 .build();
 
         portfolioAwardRepository.save(portfolioAward);
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolio.getId()));
 
         return PortfolioAwardDTO.PortfolioAwardResp.builder()
                 .portfolioAward(portfolioAward)
@@ -70,13 +65,12 @@ public class PortfolioAwardService {
 
     @Transactional
     public PortfolioAwardDTO.PortfolioAwardResp updatePortfolioAward(Long portfolioAwardId, PortfolioAwardDTO.UpdateReq updateReq) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
-        PortfolioAward portfolioAward = portfolioAwardRepository.findPortfolioAwardWithWriter(portfolioAwardId, member.getId());
+        PortfolioAward portfolioAward = portfolioAwardRepository.findPortfolioAwardWithWriter(portfolioAwardId, memberId);
 
         portfolioAward.update(updateReq.getSupervision(), updateReq.getGrade(), updateReq.getDescription());
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolioAward.getPortfolio().getId()));
 
         return PortfolioAwardDTO.PortfolioAwardResp.builder()
                 .portfolioAward(portfolioAward)
@@ -85,12 +79,11 @@ public class PortfolioAwardService {
 
     @Transactional
     public void deletePortfolioAward(Long portfolioAwardId) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
-        PortfolioAward portfolioAward = portfolioAwardRepository.findPortfolioAwardWithWriter(portfolioAwardId, member.getId());
+        PortfolioAward portfolioAward = portfolioAwardRepository.findPortfolioAwardWithWriter(portfolioAwardId, memberId);
 
         portfolioAwardRepository.delete(portfolioAward);
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolioAward.getPortfolio().getId()));
     }
 }
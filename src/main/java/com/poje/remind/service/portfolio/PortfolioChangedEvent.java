@@ -0,0 +1,24 @@
+package com.poje.remind.service.portfolio;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포트폴리오 화면에 보이는 정보가 바뀌었을 때 발행 (트랜잭션 커밋 이후 스냅샷 재생성)
+ * 작성자 정보가 바뀐 경우 writerId 만 채워서 발행하면 작성자의 모든 포트폴리오를 다시 생성
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PortfolioChangedEvent {
+    private final Long portfolioId;
+    private final Long writerId;
+
+    public static PortfolioChangedEvent ofPortfolio(Long portfolioId) {
+        return new PortfolioChangedEvent(portfolioId, null);
+    }
+
+    public static PortfolioChangedEvent ofWriter(Long writerId) {
+        return new PortfolioChangedEvent(null, writerId);
+    }
+}
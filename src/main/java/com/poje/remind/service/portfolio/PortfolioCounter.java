@@ -0,0 +1,76 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.TransactionUtil;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직무 별 포트폴리오 수 관리
+ * 처음 조회 시 COUNT 쿼리로 초기화하고, 이후에는 포트폴리오 생성/삭제 시 증감
+ * 증감은 커밋한 서버에만 반영되므로 주기적으로 COUNT 쿼리로 다시 맞춤 (portfolio.counter.reconcile-interval)
+ */
+@RequiredArgsConstructor
+@Component
+public class PortfolioCounter {
+
+    private final PortfolioRepository portfolioRepository;
+
+    // jobId -> 포트폴리오 수
+    private final Map<Long, AtomicLong> jobCountMap = new ConcurrentHashMap<>();
+
+    /**
+     * 직무 별 포트폴리오 수 조회
+     * @param jobId
+     * @return
+     */
+    public long countByJob(Long jobId) {
+        return jobCountMap.computeIfAbsent(jobId, id -> new AtomicLong(portfolioRepository.countByJobId(id)))
+                .get();
+    }
+
+    /**
+     * 포트폴리오 생성 시 직무 별 포트폴리오 수 증가 (트랜잭션 커밋 이후 반영)
+     * @param jobId
+     */
+    public void increase(Long jobId) {
+        TransactionUtil.afterCommit(() -> {
+            AtomicLong count = jobCountMap.get(jobId);
+            if(count != null) {
+                count.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 포트폴리오 삭제 시 직무 별 포트폴리오 수 감소 (트랜잭션 커밋 이후 반영)
+     * @param jobId
+     */
+    public void decrease(Long jobId) {
+        TransactionUtil.afterCommit(() -> {
+            AtomicLong count = jobCountMap.get(jobId);
+            if(count != null) {
+                count.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 캐시된 직무 별 포트폴리오 수를 COUNT 쿼리 결과로 교체 (다른 서버에서 생성/삭제된 포트폴리오 반영)
+     * 쿼리하는 동안 이 서버에서 증감이 있었으면 쿼리 결과에 포함되었는지 알 수 없으므로 교체하지 않고 다음 주기에 다시 맞춤
+     */
+    @Scheduled(fixedDelayString = "${portfolio.counter.reconcile-interval:60000}")
+    public void reconcile() {
+        for(Map.Entry<Long, AtomicLong> entry : jobCountMap.entrySet()) {
+            AtomicLong count = entry.getValue();
+            long before = count.get();
+
+            count.compareAndSet(before, portfolioRepository.countByJobId(entry.getKey()));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.poje.remind.service.portfolio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 포트폴리오 id 집합을 저장하는 압축 bitmap (roaring bitmap 방식)
+ * id 의 상위 비트로 container 를 나누고, container 의 원소가 적으면 정렬된 배열, 많으면 bitmap 으로 저장
+ * 동기화하지 않으므로 여러 스레드에서 사용할 때는 호출하는 쪽에서 동기화해야 함
+ */
+public class PortfolioIdBitmap {
+
+    // 배열 container 최대 크기 (char 4096 개 = 8KB 로 bitmap container 와 같은 크기)
+    private static final int ARRAY_MAX_SIZE = 4096;
+
+    // bitmap container 를 배열로 되돌리는 크기 (경계에서 추가/삭제가 반복될 때 매번 변환하지 않도록 ARRAY_MAX_SIZE 보다 작게 둠)
+    private static final int BITMAP_MIN_SIZE = ARRAY_MAX_SIZE / 2;
+
+    // 상위 비트 -> 하위 16 비트 집합
+    private final TreeMap<Long, Container> containerMap = new TreeMap<>();
+    private int cardinality;
+
+    /**
+     * @param id
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(long id) {
+        long high = high(id);
+        char low = low(id);
+
+        Container container = containerMap.get(high);
+        if(container == null) {
+            container = new ArrayContainer();
+        } else if(container.contains(low)) {
+            return false;
+        }
+
+        containerMap.put(high, container.add(low));
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * @param id
+     * @return 존재해서 삭제되었으면 true
+     */
+    public boolean remove(long id) {
+        long high = high(id);
+        char low = low(id);
+
+        Container container = containerMap.get(high);
+        if(container == null || !container.contains(low)) {
+            return false;
+        }
+
+        container = container.remove(low);
+        if(container.size() == 0) {
+            containerMap.remove(high);
+        } else {
+            containerMap.put(high, container);
+        }
+
+        cardinality--;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        Container container = containerMap.get(high(id));
+
+        return container != null && container.contains(low(id));
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return 오름차순 id 목록
+     */
+    public List<Long> toList() {
+        List<Long> idList = new ArrayList<>(cardinality);
+
+        for(Map.Entry<Long, Container> entry : containerMap.entrySet()) {
+            entry.getValue().addTo(entry.getKey() << 16, idList);
+        }
+
+        return idList;
+    }
+
+    private static long high(long id) {
+        return id >>> 16;
+    }
+
+    private static char low(long id) {
+        return (char) id;
+    }
+
+    private interface Container {
+        boolean contains(char value);
+
+        // 원소 수에 따라 다른 종류로 변환된 container 를 반환할 수 있음
+        Container add(char value);
+
+        Container remove(char value);
+
+        int size();
+
+        void addTo(long base, List<Long> idList);
+    }
+
+    /**
+     * 정렬된 char 배열 container (원소가 적을 때)
+     */
+    private static class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            if(size >= ARRAY_MAX_SIZE) {
+                return toBitmapContainer().add(value);
+            }
+
+            int idx = -Arrays.binarySearch(values, 0, size, value) - 1;
+
+            if(size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX_SIZE));
+            }
+
+            System.arraycopy(values, idx, values, idx + 1, size - idx);
+            values[idx] = value;
+            size++;
+
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int idx = Arrays.binarySearch(values, 0, size, value);
+
+            System.arraycopy(values, idx + 1, values, idx, size - idx - 1);
+            size--;
+
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void addTo(long base, List<Long> idList) {
+            for(int i = 0; i < size; i++) {
+                idList.add(base | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmapContainer() {
+            BitmapContainer bitmapContainer = new BitmapContainer();
+
+            for(int i = 0; i < size; i++) {
+                bitmapContainer.add(values[i]);
+            }
+
+            return bitmapContainer;
+        }
+    }
+
+    /**
+     * 2^16 비트 bitmap container (원소가 많을 때)
+     */
+    private static class BitmapContainer implements Container {
+        private final long[] words = new long[1 << 10];
+        private int size;
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            words[value >>> 6] |= 1L << value;
+            size++;
+
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            words[value >>> 6] &= ~(1L << value);
+            size--;
+
+            return size <= BITMAP_MIN_SIZE ? toArrayContainer() : this;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void addTo(long base, List<Long> idList) {
+            for(int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while(word != 0) {
+                    idList.add(base | ((long) i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayContainer toArrayContainer() {
+            ArrayContainer arrayContainer = new ArrayContainer();
+
+            for(int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while(word != 0) {
+                    arrayContainer.add((char) ((i << 6) | Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+
+            return arrayContainer;
+        }
+    }
+}
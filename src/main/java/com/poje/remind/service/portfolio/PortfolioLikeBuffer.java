@@ -0,0 +1,354 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.common.TransactionUtil;
+import com.poje.remind.domain.portfolio.dto.PortfolioLikeDTO;
+import com.poje.remind.repository.portfolio.PortfolioLikeJdbcRepository;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 좋아요 write-behind 버퍼 (like.write-behind.enabled=true 일 때 사용)
+ * 포트폴리오 별 좋아요 누른 회원 id 를 Redis set 에 보관하고 좋아요 여부와 수는 set 기준으로 응답
+ * 변경 사항은 pending hash 에 쌓아두고 주기적으로 likes 테이블에 batch 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PortfolioLikeBuffer {
+
+    private static final String LIKE_KEY_PREFIX = "like:portfolio:";
+    private static final String PENDING_KEY = "like:pending";
+    private static final String PROCESSING_KEY = "like:pending:processing";
+    private static final String FLUSH_LOCK_KEY = "like:flush:lock";
+
+    // 좋아요가 하나도 없는 포트폴리오도 로딩된 상태로 구분하기 위해 set 에 항상 넣어두는 값
+    private static final String SENTINEL = "-";
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int DRAIN_MAX_ATTEMPTS = 10;
+    private static final Duration FLUSH_LOCK_TIMEOUT = Duration.ofSeconds(30);
+
+    // 좋아요 토글 후 {좋아요 여부, 좋아요 수} 반환 (set 이 로딩되지 않았으면 {-1, 0})
+    // Lua 정수 배열은 Long 목록으로 변환되므로 결과 타입을 List<Long> 으로 지정
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end " +
+            "local status = 1 " +
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('SREM', KEYS[1], ARGV[1]) " +
+            "  status = 0 " +
+            "else " +
+            "  redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "end " +
+            "redis.call('HSET', KEYS[2], ARGV[2], status) " +
+            "return {status, redis.call('SCARD', KEYS[1]) - 1}", (Class<List<Long>>) (Class<?>) List.class);
+
+    // 다른 인스턴스가 획득한 lock 은 해제하지 않음
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioLikeJdbcRepository portfolioLikeJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${like.write-behind.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 토글
+     * @param portfolioId
+     * @param memberId
+     * @return 토글 이후 좋아요 여부와 좋아요 수
+     */
+    public PortfolioLikeDTO.PortfolioLikeResp toggle(Long portfolioId, Long memberId) {
+        List<String> keyList = List.of(likeKey(portfolioId), PENDING_KEY);
+        String field = portfolioId + ":" + memberId;
+
+        List<Long> result = redisTemplate.execute(TOGGLE_SCRIPT, keyList, String.valueOf(memberId), field);
+
+        if(result.get(0) < 0) {
+            load(portfolioId);
+            result = redisTemplate.execute(TOGGLE_SCRIPT, keyList, String.valueOf(memberId), field);
+        }
+
+        return new PortfolioLikeDTO.PortfolioLikeResp(result.get(0) == 1, result.get(1));
+    }
+
+    /**
+     * 회원의 포트폴리오 좋아요 여부
+     * @param portfolioId
+     * @param memberId
+     * @return
+     */
+    public boolean isLiked(Long portfolioId, Long memberId) {
+        load(portfolioId);
+
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(likeKey(portfolioId), String.valueOf(memberId)));
+    }
+
+    /**
+     * 포트폴리오 목록 중 회원이 좋아요 누른 포트폴리오 id 조회
+     * 포트폴리오 별 set 이 나뉘어 있으므로 EXISTS, SISMEMBER 를 한 번의 pipeline 으로 보내고
+     * 로딩되지 않은 set 만 로딩 후 다시 확인
+     * @param memberId
+     * @param portfolioIds
+     * @return
+     */
+    public Set<Long> findLikedPortfolioIds(Long memberId, Collection<Long> portfolioIds) {
+        if(portfolioIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Long> portfolioIdList = new ArrayList<>(portfolioIds);
+        String member = String.valueOf(memberId);
+
+        List<Object> resultList = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+
+                for(Long portfolioId : portfolioIdList) {
+                    redisOperations.hasKey(likeKey(portfolioId));
+                    redisOperations.opsForSet().isMember(likeKey(portfolioId), member);
+                }
+                return null;
+            }
+        });
+
+        Set<Long> likedIdSet = new HashSet<>();
+        for(int i = 0; i < portfolioIdList.size(); i++) {
+            Long portfolioId = portfolioIdList.get(i);
+
+            boolean liked = Boolean.TRUE.equals(resultList.get(2 * i))
+                    ? Boolean.TRUE.equals(resultList.get(2 * i + 1))
+                    : isLiked(portfolioId, memberId);
+
+            if(liked) {
+                likedIdSet.add(portfolioId);
+            }
+        }
+
+        return likedIdSet;
+    }
+
+    /**
+     * 포트폴리오 좋아요 수
+     * @param portfolioId
+     * @return
+     */
+    public int count(Long portfolioId) {
+        load(portfolioId);
+
+        Long size = redisTemplate.opsForSet().size(likeKey(portfolioId));
+
+        return size == null ? 0 : (int) (size - 1);
+    }
+
+    /**
+     * 포트폴리오 삭제 시 좋아요 set 제거 (트랜잭션 커밋 이후 반영)
+     * 아직 반영되지 않은 변경은 flush 시 포트폴리오가 없으므로 무시됨
+     * @param portfolioId
+     */
+    public void evict(Long portfolioId) {
+        if(!enabled) {
+            return;
+        }
+
+        TransactionUtil.afterCommit(() -> redisTemplate.delete(likeKey(portfolioId)));
+    }
+
+    /**
+     * 주기적으로 쌓인 변경 사항을 likes 테이블에 반영
+     * pending 을 processing 으로 옮긴 뒤 반영하고, 반영이 끝나야 processing 을 삭제
+     * 반영 도중 종료되면 다음 flush 에서 processing 부터 다시 반영 (insert/delete 모두 멱등)
+     */
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-interval:1000}")
+    public synchronized void flush() {
+        if(!enabled) {
+            return;
+        }
+
+        String lockValue = UUID.randomUUID().toString();
+        if(!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, lockValue, FLUSH_LOCK_TIMEOUT))) {
+            return;
+        }
+
+        try {
+            if(!Boolean.TRUE.equals(redisTemplate.hasKey(PROCESSING_KEY))) {
+                if(!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+                    return;
+                }
+
+                // 이후 토글은 새 pending hash 에 쌓임
+                redisTemplate.rename(PENDING_KEY, PROCESSING_KEY);
+            }
+
+            Map<Object, Object> changeMap = redisTemplate.opsForHash().entries(PROCESSING_KEY);
+            apply(changeMap);
+
+            redisTemplate.delete(PROCESSING_KEY);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), lockValue);
+        }
+    }
+
+    /**
+     * 이전 실행에서 반영되지 못한 변경 사항 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        flush();
+    }
+
+    /**
+     * 종료 전 남은 변경 사항 반영
+     */
+    @PreDestroy
+    public void drain() {
+        if(!enabled) {
+            return;
+        }
+
+        for(int i = 0; i < DRAIN_MAX_ATTEMPTS && hasPendingChanges(); i++) {
+            flush();
+        }
+
+        if(hasPendingChanges()) {
+            log.warn("반영되지 않은 좋아요 변경 사항이 남아있습니다. 다음 실행 시 반영됩니다.");
+        }
+    }
+
+    private boolean hasPendingChanges() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY)) || Boolean.TRUE.equals(redisTemplate.hasKey(PROCESSING_KEY));
+    }
+
+    private void apply(Map<Object, Object> changeMap) {
+        List<PortfolioLikeDTO.LikeChange> insertList = new ArrayList<>();
+        List<PortfolioLikeDTO.LikeChange> deleteList = new ArrayList<>();
+        Set<Long> portfolioIdSet = new HashSet<>();
+
+        for(Map.Entry<Object, Object> entry : changeMap.entrySet()) {
+            String[] field = ((String) entry.getKey()).split(":");
+            PortfolioLikeDTO.LikeChange change = new PortfolioLikeDTO.LikeChange(
+                    Long.valueOf(field[0]), Long.valueOf(field[1]), "1".equals(entry.getValue()));
+
+            if(change.isLiked()) {
+                insertList.add(change);
+            } else {
+                deleteList.add(change);
+            }
+            portfolioIdSet.add(change.getPortfolioId());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            portfolioLikeJdbcRepository.insertAll(insertList);
+            portfolioLikeJdbcRepository.deleteAll(deleteList);
+            portfolioLikeJdbcRepository.refreshLikeCount(portfolioIdSet);
+        });
+
+        log.info("좋아요 변경 사항 반영 - 추가: {}, 삭제: {}", insertList.size(), deleteList.size());
+    }
+
+    /**
+     * likes 테이블의 좋아요 목록을 Redis set 으로 로딩 (이미 로딩되어 있으면 무시)
+     * 아직 반영되지 않은 processing, pending 변경 사항을 DB 목록 위에 다시 적용
+     * (변경 사항을 먼저 읽으므로 그 사이에 flush 되어도 DB 조회 결과에 포함됨)
+     * 임시 key 에 모두 넣은 뒤 RENAMENX 로 교체하므로 로딩 중 발생한 토글을 덮어쓰지 않음
+     * @param portfolioId
+     */
+    private void load(Long portfolioId) {
+        String likeKey = likeKey(portfolioId);
+
+        if(Boolean.TRUE.equals(redisTemplate.hasKey(likeKey))) {
+            return;
+        }
+
+        if(portfolioRepository.findById(portfolioId).isEmpty()) {
+            throw new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND);
+        }
+
+        Map<String, Boolean> changeMap = findPendingChanges(portfolioId);
+
+        Set<String> memberIdSet = new LinkedHashSet<>();
+        memberIdSet.add(SENTINEL);
+        for(Long memberId : portfolioLikeJdbcRepository.findMemberIdList(portfolioId)) {
+            memberIdSet.add(String.valueOf(memberId));
+        }
+
+        changeMap.forEach((memberId, liked) -> {
+            if(liked) {
+                memberIdSet.add(memberId);
+            } else {
+                memberIdSet.remove(memberId);
+            }
+        });
+
+        List<String> memberIdList = new ArrayList<>(memberIdSet);
+
+        String loadingKey = likeKey + ":loading:" + UUID.randomUUID();
+        for(int i = 0; i < memberIdList.size(); i += LOAD_CHUNK_SIZE) {
+            List<String> chunk = memberIdList.subList(i, Math.min(i + LOAD_CHUNK_SIZE, memberIdList.size()));
+            redisTemplate.opsForSet().add(loadingKey, chunk.toArray(new String[0]));
+        }
+
+        if(!Boolean.TRUE.equals(redisTemplate.renameIfAbsent(loadingKey, likeKey))) {
+            redisTemplate.delete(loadingKey);
+        }
+    }
+
+    /**
+     * 포트폴리오의 아직 반영되지 않은 변경 사항 (processing 보다 이후인 pending 이 우선)
+     * @param portfolioId
+     * @return 회원 id -> 좋아요 여부
+     */
+    private Map<String, Boolean> findPendingChanges(Long portfolioId) {
+        Map<String, Boolean> changeMap = new HashMap<>();
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(portfolioId + ":*")
+                .count(LOAD_CHUNK_SIZE)
+                .build();
+
+        for(String key : List.of(PROCESSING_KEY, PENDING_KEY)) {
+            try(Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(key, scanOptions)) {
+                while(cursor.hasNext()) {
+                    Map.Entry<Object, Object> entry = cursor.next();
+                    String memberId = ((String) entry.getKey()).split(":")[1];
+
+                    changeMap.put(memberId, "1".equals(entry.getValue()));
+                }
+            }
+        }
+
+        return changeMap;
+    }
+
+    private static String likeKey(Long portfolioId) {
+        return LIKE_KEY_PREFIX + portfolioId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Portfolio.likeCount 와 likes 테이블의 실제 좋아요 수가 어긋난 경우 주기적으로 보정
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PortfolioLikeCountReconciler {
+
+    private final PortfolioRepository portfolioRepository;
+
+    /**
+     * 기본값: 매일 새벽 4시 실행 (like.reconcile.cron 으로 변경 가능)
+     */
+    @Scheduled(cron = "${like.reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        int reconciledCount = portfolioRepository.reconcileLikeCount();
+
+        if(reconciledCount > 0) {
+            log.warn("포트폴리오 좋아요 수 보정 - 보정된 포트폴리오 수: {}", reconciledCount);
+        }
+    }
+}
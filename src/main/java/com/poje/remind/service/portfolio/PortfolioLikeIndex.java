@@ -0,0 +1,272 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.TransactionUtil;
+import com.poje.remind.repository.portfolio.PortfolioLikeJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 별 좋아요 누른 포트폴리오 id bitmap 캐시
+ * 처음 조회 시 likes 테이블에서 로딩하고, 이후에는 좋아요 토글 시 갱신
+ * 회원 id 로 나눈 segment 마다 lock 과 LRU 를 따로 두고 (segment 별 최대 like.index.max-members / SEGMENT_COUNT 명),
+ * bitmap 조회는 segment lock 밖에서 해당 bitmap 만 잠그고 수행
+ * 다른 서버의 좋아요 토글과 포트폴리오 삭제는 Redis pub/sub 으로 전달받아 해당 회원의 bitmap 을 제거하거나 포트폴리오 id 를 삭제
+ */
+@Slf4j
+@Component
+public class PortfolioLikeIndex implements MessageListener {
+
+    public static final String CHANNEL = "portfolio:like-changed";
+    private static final String DELIMITER = ":";
+    private static final String MEMBER = "M";
+    private static final String PORTFOLIO = "P";
+    private static final int SEGMENT_COUNT = 16;
+
+    private final PortfolioLikeJdbcRepository portfolioLikeJdbcRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 자신이 보낸 메시지를 구분하기 위한 서버 id
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public PortfolioLikeIndex(PortfolioLikeJdbcRepository portfolioLikeJdbcRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              @Value("${like.index.max-members:10000}") int maxMembers) {
+        this.portfolioLikeJdbcRepository = portfolioLikeJdbcRepository;
+        this.redisTemplate = redisTemplate;
+
+        int segmentCapacity = Math.max(1, (maxMembers + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        for(int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * 회원의 포트폴리오 좋아요 여부
+     * @param memberId
+     * @param portfolioId
+     * @return
+     */
+    public boolean isLiked(Long memberId, Long portfolioId) {
+        return read(memberId, bitmap -> bitmap.contains(portfolioId));
+    }
+
+    /**
+     * 포트폴리오 목록 중 회원이 좋아요 누른 포트폴리오 id
+     * @param memberId
+     * @param portfolioIds
+     * @return
+     */
+    public Set<Long> findLikedPortfolioIds(Long memberId, Collection<Long> portfolioIds) {
+        return read(memberId, bitmap -> portfolioIds.stream()
+                .filter(bitmap::contains)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * 좋아요 토글 결과 반영 (트랜잭션 커밋 이후 반영)
+     * @param memberId
+     * @param portfolioId
+     * @param liked
+     */
+    public void update(Long memberId, Long portfolioId, boolean liked) {
+        TransactionUtil.afterCommit(() -> {
+            Segment segment = segment(memberId);
+            synchronized (segment) {
+                PortfolioIdBitmap bitmap = segment.bitmapMap.get(memberId);
+                if(bitmap != null) {
+                    apply(bitmap, portfolioId, liked);
+                }
+
+                Map<Long, Boolean> changeMap = segment.loadingChangeMap.get(memberId);
+                if(changeMap != null) {
+                    changeMap.put(portfolioId, liked);
+                }
+            }
+
+            publish(MEMBER, memberId);
+        });
+    }
+
+    /**
+     * 삭제된 포트폴리오를 모든 회원의 bitmap 에서 제거 (트랜잭션 커밋 이후 반영)
+     * @param portfolioId
+     */
+    public void removePortfolio(Long portfolioId) {
+        TransactionUtil.afterCommit(() -> {
+            removePortfolioLocal(portfolioId);
+            publish(PORTFOLIO, portfolioId);
+        });
+    }
+
+    /**
+     * 다른 서버에서 전파된 변경 반영
+     * @param message "서버 id:M:회원 id" (회원 bitmap 제거) 또는 "서버 id:P:포트폴리오 id" (포트폴리오 id 삭제)
+     * @param pattern
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] tokens = body.split(DELIMITER);
+
+        try {
+            if(tokens.length != 3 || nodeId.equals(tokens[0])) {
+                return;
+            }
+
+            Long id = Long.parseLong(tokens[2]);
+            if(MEMBER.equals(tokens[1])) {
+                evictMember(id);
+            } else if(PORTFOLIO.equals(tokens[1])) {
+                removePortfolioLocal(id);
+            }
+        } catch(NumberFormatException e) {
+            log.warn("잘못된 좋아요 변경 메시지입니다. message: {}", body);
+        }
+    }
+
+    /**
+     * 회원 bitmap 제거 (다음 조회 때 DB 에서 다시 로딩)
+     * 로딩 중이면 로딩 결과를 캐시하지 않도록 함
+     * @param memberId
+     */
+    private void evictMember(Long memberId) {
+        Segment segment = segment(memberId);
+
+        synchronized (segment) {
+            segment.bitmapMap.remove(memberId);
+            segment.loadingChangeMap.remove(memberId);
+        }
+    }
+
+    private void removePortfolioLocal(Long portfolioId) {
+        for(Segment segment : segments) {
+            synchronized (segment) {
+                segment.bitmapMap.values().forEach(bitmap -> apply(bitmap, portfolioId, false));
+                segment.loadingChangeMap.values().forEach(changeMap -> changeMap.put(portfolioId, false));
+            }
+        }
+    }
+
+    private void publish(String type, Long id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + type + DELIMITER + id);
+        } catch(RuntimeException e) {
+            log.warn("좋아요 변경 전파 실패 - {}:{}", type, id, e);
+        }
+    }
+
+    /**
+     * segment lock 은 bitmap 을 찾는 동안만 잡고, 조회는 해당 bitmap 만 잠그고 수행
+     */
+    private <T> T read(Long memberId, Function<PortfolioIdBitmap, T> reader) {
+        Segment segment = segment(memberId);
+        PortfolioIdBitmap bitmap;
+
+        synchronized (segment) {
+            bitmap = segment.bitmapMap.get(memberId);
+        }
+
+        if(bitmap == null) {
+            bitmap = load(memberId);
+        }
+
+        synchronized (bitmap) {
+            return reader.apply(bitmap);
+        }
+    }
+
+    /**
+     * likes 테이블에서 회원의 좋아요 목록 로딩
+     * DB 조회는 lock 밖에서 수행하고, 조회하는 동안 커밋된 토글은 기록해뒀다가 로딩 후 반영
+     * @param memberId
+     * @return
+     */
+    private PortfolioIdBitmap load(Long memberId) {
+        Segment segment = segment(memberId);
+        Map<Long, Boolean> changeMap = new LinkedHashMap<>();
+        boolean loader;
+        synchronized (segment) {
+            loader = !segment.loadingChangeMap.containsKey(memberId);
+            if(loader) {
+                segment.loadingChangeMap.put(memberId, changeMap);
+            }
+        }
+
+        PortfolioIdBitmap bitmap = new PortfolioIdBitmap();
+        try {
+            for(Long portfolioId : portfolioLikeJdbcRepository.findLikedPortfolioIdList(memberId)) {
+                bitmap.add(portfolioId);
+            }
+        } catch (RuntimeException e) {
+            if(loader) {
+                synchronized (segment) {
+                    segment.loadingChangeMap.remove(memberId, changeMap);
+                }
+            }
+            throw e;
+        }
+
+        // 같은 회원을 다른 요청이 로딩 중이면 캐시에 넣지 않고 조회 결과만 사용
+        if(!loader) {
+            return bitmap;
+        }
+
+        synchronized (segment) {
+            // 로딩 중에 다른 서버의 변경으로 제거되었으면 캐시하지 않음
+            if(!segment.loadingChangeMap.remove(memberId, changeMap)) {
+                return bitmap;
+            }
+
+            changeMap.forEach((portfolioId, liked) -> apply(bitmap, portfolioId, liked));
+            segment.bitmapMap.put(memberId, bitmap);
+        }
+
+        return bitmap;
+    }
+
+    private Segment segment(Long memberId) {
+        return segments[Math.floorMod(Long.hashCode(memberId), SEGMENT_COUNT)];
+    }
+
+    // bitmap 은 동기화되지 않으므로 bitmap 을 잠그고 변경 (조회도 bitmap 을 잠그고 수행)
+    private static void apply(PortfolioIdBitmap bitmap, Long portfolioId, boolean liked) {
+        synchronized (bitmap) {
+            if(liked) {
+                bitmap.add(portfolioId);
+            } else {
+                bitmap.remove(portfolioId);
+            }
+        }
+    }
+
+    /**
+     * 회원 id 로 나눈 캐시 구간 (segment 객체로 동기화)
+     */
+    private static class Segment {
+        // memberId -> 좋아요 누른 포트폴리오 id (접근 순서 유지, LRU 제거)
+        private final Map<Long, PortfolioIdBitmap> bitmapMap;
+
+        // memberId -> 로딩 중에 발생한 변경 (portfolioId -> 좋아요 여부), 로딩이 끝나면 bitmap 에 반영
+        private final Map<Long, Map<Long, Boolean>> loadingChangeMap = new HashMap<>();
+
+        private Segment(int capacity) {
+            this.bitmapMap = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, PortfolioIdBitmap> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+}
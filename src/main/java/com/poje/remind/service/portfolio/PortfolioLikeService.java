@@ -2,80 +2,151 @@ package com.poje.remind.service.portfolio;
 
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
+import com.poje.remind.common.PagingCursor;
 import com.poje.remind.common.PagingDTO;
 import com.poje.remind.common.PagingUtil;
 import com.poje.remind.config.SecurityUtil;
-import com.poje.remind.domain.Member.Member;
-import com.poje.remind.domain.portfolio.Like;
-import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
 import com.poje.remind.domain.portfolio.dto.PortfolioLikeDTO;
-import com.poje.remind.repository.member.MemberRepository;
-import com.poje.remind.repository.portfolio.PortfolioLikeRepository;
+import com.poje.remind.repository.portfolio.PortfolioLikeJdbcRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class PortfolioLikeService {
 
-    private final PortfolioLikeRepository portfolioLikeRepository;
     private final PortfolioRepository portfolioRepository;
-    private final MemberRepository memberRepository;
+    private final PortfolioLikeBuffer portfolioLikeBuffer;
+    private final PortfolioLikeJdbcRepository portfolioLikeJdbcRepository;
+    private final PortfolioLikeIndex portfolioLikeIndex;
 
     @Transactional
     public PortfolioLikeDTO.PortfolioLikeResp likePortfolio(Long portfolioId) {
-        Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(
-                () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        // write-behind 모드면 Redis 에서 토글하고 likes 테이블에는 주기적으로 반영
+        if(portfolioLikeBuffer.isEnabled()) {
+            return portfolioLikeBuffer.toggle(portfolioId, memberId);
+        }
 
-        Optional<Like> likeOptional = portfolioLikeRepository.findByMemberAndPortfolio(member, portfolio);
+        // (member_id, portfolio_id) 유니크 제약 기반 토글 - 삭제된 좋아요가 있으면 취소, 없으면 추가
         boolean likeStatus;
 
-        if(likeOptional.isPresent()) {
-            portfolioLikeRepository.delete(likeOptional.get());
+        if(portfolioLikeJdbcRepository.delete(portfolioId, memberId) > 0) {
+            portfolioRepository.decreaseLikeCount(portfolioId);
             likeStatus = false;
+        } else if(portfolioLikeJdbcRepository.insert(portfolioId, memberId) > 0) {
+            portfolioRepository.increaseLikeCount(portfolioId);
+            likeStatus = true;
         } else {
-            Like like = Like.builder()
-                    .member(member)
-                    .portfolio(portfolio)
-                    .build();
-
-            portfolioLikeRepository.save(like);
+            // 동시 요청으로 이미 좋아요가 추가되었거나 포트폴리오가 없는 경우
+            portfolioRepository.findById(portfolioId).orElseThrow(
+                    () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
+            );
             likeStatus = true;
         }
 
-        Long likeCount = portfolioLikeRepository.countByPortfolio(portfolio);
+        portfolioLikeIndex.update(memberId, portfolioId, likeStatus);
+
+        Long likeCount = (long) portfolioRepository.findLikeCountById(portfolioId);
 
         return new PortfolioLikeDTO.PortfolioLikeResp(likeStatus, likeCount);
     }
 
     @Transactional(readOnly = true)
     public PortfolioDTO.PortfolioAndMemberListResp getPortfolioWhichLikes(int page) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
-
-        List<Portfolio> portfolioList = portfolioRepository.findPortfolioWhichMemberLike(member);
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
         PagingDTO pagingDTO = new PagingDTO(page);
-        PagingUtil pagingUtil = new PagingUtil(portfolioList.size(), pagingDTO);
+        PagingUtil pagingUtil = new PagingUtil(countPortfolioWhichLikes(memberId), pagingDTO);
 
-        // limit으로 가져올 포트폴리오 목록
-        List<Portfolio> pagingPortfolioList = portfolioRepository.findPortfolioWhichMemberLike(member, pagingDTO.limitCalc());
+        // limit으로 가져올 포트폴리오 목록 (작성자, 좋아요 수까지 한 번의 쿼리로 조회)
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList = portfolioRepository.findPortfolioCardListWhichMemberLike(memberId, pagingDTO.limitCalc());
+        portfolioAndMemberRespList.forEach(resp -> resp.updateLikeStatus(true));
 
         return PortfolioDTO.PortfolioAndMemberListResp.builder()
-                .portfolioList(pagingPortfolioList)
+                .portfolioAndMemberRespList(portfolioAndMemberRespList)
                 .pagingUtil(pagingUtil)
                 .build();
     }
+
+    @Transactional(readOnly = true)
+    public PortfolioDTO.PortfolioAndMemberCursorResp getPortfolioWhichLikesByCursor(String cursor) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList = portfolioRepository.findPortfolioCardListWhichMemberLikeAfterCursor(memberId, PagingCursor.decode(cursor), PagingCursor.SIZE + 1);
+        portfolioAndMemberRespList.forEach(resp -> resp.updateLikeStatus(true));
+
+        return PortfolioDTO.PortfolioAndMemberCursorResp.builder()
+                .portfolioAndMemberRespList(portfolioAndMemberRespList)
+                .size(PagingCursor.SIZE)
+                .build();
+    }
+
+    /**
+     * 회원이 좋아요 누른 포트폴리오 수 (포트폴리오를 조회하지 않고 집계)
+     * 목록을 DB 에 반영된 좋아요 기준으로 조회하므로 수도 DB 기준으로 집계 ((member_id, portfolio_id) unique key 로 처리)
+     * @param memberId
+     * @return
+     */
+    private int countPortfolioWhichLikes(Long memberId) {
+        return portfolioLikeJdbcRepository.countByMemberId(memberId);
+    }
+
+    /**
+     * 포트폴리오 목록 중 회원이 좋아요 누른 포트폴리오 id 조회
+     * @param memberId
+     * @param portfolioIds
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPortfolioIds(Long memberId, Collection<Long> portfolioIds) {
+        if(portfolioLikeBuffer.isEnabled()) {
+            return portfolioLikeBuffer.findLikedPortfolioIds(memberId, portfolioIds);
+        }
+
+        return portfolioLikeIndex.findLikedPortfolioIds(memberId, portfolioIds);
+    }
+
+    /**
+     * 로그인한 사용자의 포트폴리오 카드 좋아요 여부 채우기 (비로그인 요청이면 모두 false)
+     * @param portfolioAndMemberRespList
+     */
+    @Transactional(readOnly = true)
+    public void fillLikeStatus(List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList) {
+        if(portfolioAndMemberRespList.isEmpty()) {
+            return;
+        }
+
+        SecurityUtil.findCurrentMemberId()
+                .ifPresent(memberId -> fillLikeStatus(memberId, portfolioAndMemberRespList));
+    }
+
+    /**
+     * 회원의 포트폴리오 카드 좋아요 여부 채우기
+     * @param memberId
+     * @param portfolioAndMemberRespList
+     */
+    @Transactional(readOnly = true)
+    public void fillLikeStatus(Long memberId, List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList) {
+        if(portfolioAndMemberRespList.isEmpty()) {
+            return;
+        }
+
+        List<Long> portfolioIdList = portfolioAndMemberRespList.stream()
+                .map(PortfolioDTO.PortfolioAndMemberResp::getPortfolioId)
+                .collect(Collectors.toList());
+
+        Set<Long> likedPortfolioIds = findLikedPortfolioIds(memberId, portfolioIdList);
+
+        portfolioAndMemberRespList.forEach(resp -> resp.updateLikeStatus(likedPortfolioIds.contains(resp.getPortfolioId())));
+    }
 }
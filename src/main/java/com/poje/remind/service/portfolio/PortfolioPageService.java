@@ -0,0 +1,109 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.PortfolioPageExecutor;
+import com.poje.remind.config.SecurityUtil;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.dto.PortfolioAwardDTO;
+import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
+import com.poje.remind.domain.portfolio.dto.PortfolioSkillDTO;
+import com.poje.remind.domain.project.dto.ProjectDTO;
+import com.poje.remind.repository.portfolio.PortfolioAwardRepository;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import com.poje.remind.repository.portfolio.PortfolioSkillRepository;
+import com.poje.remind.service.project.ProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 포트폴리오 전체 페이지 (정보, About Me, 스킬, 수상, 프로젝트) 조회
+ * 포트폴리오와 작성자는 한 번만 조회하고 나머지 영역은 PortfolioPageExecutor 에서 동시에 조회
+ * 영역마다 별도의 읽기 전용 트랜잭션을 사용하므로 요청 스레드는 커넥션을 잡은 채로 기다리지 않음
+ */
+@RequiredArgsConstructor
+@Service
+public class PortfolioPageService {
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioSkillRepository portfolioSkillRepository;
+    private final PortfolioAwardRepository portfolioAwardRepository;
+    private final PortfolioService portfolioService;
+    private final ProjectService projectService;
+    private final PortfolioPageExecutor portfolioPageExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    public PortfolioDTO.PortfolioFullResp getPortfolioFull(Long portfolioId) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        TransactionTemplate readOnlyTemplate = readOnlyTemplate();
+
+        // 포트폴리오, 작성자, 직무를 한 번에 조회
+        Portfolio portfolio = readOnlyTemplate.execute(status -> portfolioRepository.findByIdWithWriterAndJob(portfolioId)).orElseThrow(
+                () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
+        );
+
+        Future<List<PortfolioSkillDTO.PortfolioSKillResp>> skillFuture = portfolioPageExecutor.submit(
+                () -> readOnlyTemplate.execute(status -> getSkillList(portfolioId)));
+        Future<List<PortfolioAwardDTO.PortfolioAwardResp>> awardFuture = portfolioPageExecutor.submit(
+                () -> readOnlyTemplate.execute(status -> getAwardList(portfolioId)));
+        Future<List<ProjectDTO.ProjectResp>> projectFuture = portfolioPageExecutor.submit(
+                () -> projectService.getProjectRespList(portfolioId));
+
+        // 좋아요 정보는 다른 영역을 조회하는 동안 요청 스레드에서 조회
+        PortfolioDTO.PortfolioInfoResp portfolioInfoResp = portfolioService.toPortfolioInfoResp(portfolio, memberId);
+
+        return PortfolioDTO.PortfolioFullResp.builder()
+                .portfolio(portfolioInfoResp)
+                .aboutMe(PortfolioDTO.PortfolioAboutMeResp.builder()
+                        .portfolio(portfolio)
+                        .build())
+                .skills(portfolioPageExecutor.get(skillFuture))
+                .awards(portfolioPageExecutor.get(awardFuture))
+                .projects(portfolioPageExecutor.get(projectFuture))
+                .build();
+    }
+
+    /**
+     * 좋아요 정보를 제외한 포트폴리오 전체 페이지 조회 (스냅샷 생성용, 영역을 순서대로 조회)
+     * @param portfolioId
+     * @return 포트폴리오가 없으면 빈 값
+     */
+    public Optional<PortfolioDTO.PortfolioSnapshotResp> getPortfolioSnapshot(Long portfolioId) {
+        TransactionTemplate readOnlyTemplate = readOnlyTemplate();
+
+        return readOnlyTemplate.execute(status -> portfolioRepository.findByIdWithWriterAndJob(portfolioId)
+                .map(portfolio -> PortfolioDTO.PortfolioSnapshotResp.builder()
+                        .portfolio(portfolio)
+                        .skills(getSkillList(portfolioId))
+                        .awards(getAwardList(portfolioId))
+                        .projects(projectService.getProjectRespList(portfolioId))
+                        .build()));
+    }
+
+    private List<PortfolioSkillDTO.PortfolioSKillResp> getSkillList(Long portfolioId) {
+        return portfolioSkillRepository.findAllByPortfolioId(portfolioId).stream()
+                .map(skill -> new PortfolioSkillDTO.PortfolioSKillResp(skill.getId(), skill.getName(), skill.getPath()))
+                .collect(Collectors.toList());
+    }
+
+    private List<PortfolioAwardDTO.PortfolioAwardResp> getAwardList(Long portfolioId) {
+        return portfolioAwardRepository.findAllByPortfolioId(portfolioId).stream()
+                .map(portfolioAward -> PortfolioAwardDTO.PortfolioAwardResp.builder()
+                        .portfolioAward(portfolioAward)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private TransactionTemplate readOnlyTemplate() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+}
@@ -0,0 +1,416 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.PagingCursor;
+import com.poje.remind.common.TransactionUtil;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 직무 별 포트폴리오 제목/설명에 대한 n-gram 역색인
+ * LIKE '%keyword%' 풀스캔 대신 메모리에서 후보 포트폴리오 id를 찾음
+ * 커밋한 서버는 바로 반영하고, 다른 서버에는 Redis pub/sub 으로 포트폴리오 id 를 전달해 DB 에서 다시 읽어 반영
+ * 전달되지 못한 변경은 주기적인 재생성으로 맞춤 (portfolio.search.rebuild-interval)
+ * 검색 결과는 DB 목록, 커서와 같은 (생성일, id) 내림차순으로 정렬
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PortfolioSearchEngine implements MessageListener {
+
+    public static final String CHANNEL = "portfolio:search-changed";
+    private static final String DELIMITER = ":";
+    private static final int GRAM_SIZE = 2;
+
+    private final PortfolioRepository portfolioRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 자신이 보낸 메시지를 구분하기 위한 서버 id
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Object rebuildLock = new Object();
+
+    // jobId -> 해당 직무의 색인 (재생성하면 새 map 으로 한 번에 교체)
+    private volatile Map<Long, JobIndex> jobIndexMap = new ConcurrentHashMap<>();
+
+    // 재생성 중에 커밋된 색인 변경 (재생성한 색인에 다시 반영), 재생성 중이 아니면 null
+    private List<Consumer<Map<Long, JobIndex>>> rebuildingChangeList;
+
+    /**
+     * 애플리케이션 시작 시, 이후 주기적으로 전체 포트폴리오로 색인 생성
+     * 기존 색인은 새 색인이 완성될 때까지 그대로 사용하고, 생성 중에 커밋된 변경은 새 색인에 다시 반영한 뒤 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${portfolio.search.rebuild-interval:600000}",
+            fixedDelayString = "${portfolio.search.rebuild-interval:600000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                rebuildingChangeList = new ArrayList<>();
+            }
+
+            Map<Long, JobIndex> rebuiltMap = new ConcurrentHashMap<>();
+            try {
+                for(Object[] row : portfolioRepository.findAllSearchDocuments()) {
+                    Long portfolioId = (Long) row[0];
+                    Long jobId = (Long) row[1];
+
+                    put(rebuiltMap, portfolioId, jobId, toDocument((String) row[2], (String) row[3]), (LocalDateTime) row[4]);
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    rebuildingChangeList = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                rebuildingChangeList.forEach(change -> change.accept(rebuiltMap));
+                rebuildingChangeList = null;
+                jobIndexMap = rebuiltMap;
+            }
+
+            log.info("포트폴리오 검색 색인 생성 완료 - 직무 수: {}", rebuiltMap.size());
+        }
+    }
+
+    /**
+     * 포트폴리오 색인 추가 또는 갱신 (트랜잭션 커밋 이후 반영)
+     * @param portfolio
+     */
+    public void index(Portfolio portfolio) {
+        Long portfolioId = portfolio.getId();
+        Long jobId = portfolio.getJob().getId();
+        String document = toDocument(portfolio.getTitle(), portfolio.getDescription());
+        LocalDateTime createdDate = truncate(portfolio.getCreatedDate());
+
+        TransactionUtil.afterCommit(() -> {
+            apply(indexMap -> put(indexMap, portfolioId, jobId, document, createdDate));
+            publish(portfolioId);
+        });
+    }
+
+    /**
+     * 포트폴리오 색인 제거 (트랜잭션 커밋 이후 반영)
+     * @param portfolio
+     */
+    public void remove(Portfolio portfolio) {
+        Long portfolioId = portfolio.getId();
+        Long jobId = portfolio.getJob().getId();
+
+        TransactionUtil.afterCommit(() -> {
+            apply(indexMap -> {
+                JobIndex jobIndex = indexMap.get(jobId);
+                if(jobIndex != null) {
+                    jobIndex.remove(portfolioId);
+                }
+            });
+            publish(portfolioId);
+        });
+    }
+
+    /**
+     * 다른 서버에서 변경된 포트폴리오를 DB 에서 다시 읽어 반영 (삭제되었으면 색인에서 제거)
+     * @param message "서버 id:포트폴리오 id"
+     * @param pattern
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] tokens = body.split(DELIMITER);
+
+        try {
+            if(tokens.length != 2 || nodeId.equals(tokens[0])) {
+                return;
+            }
+
+            refresh(Long.parseLong(tokens[1]));
+        } catch(NumberFormatException e) {
+            log.warn("잘못된 검색 색인 변경 메시지입니다. message: {}", body);
+        }
+    }
+
+    private void refresh(Long portfolioId) {
+        Optional<Object[]> row = portfolioRepository.findSearchDocument(portfolioId);
+
+        if(row.isEmpty()) {
+            apply(indexMap -> indexMap.values().forEach(jobIndex -> jobIndex.remove(portfolioId)));
+            return;
+        }
+
+        Long jobId = (Long) row.get()[1];
+        String document = toDocument((String) row.get()[2], (String) row.get()[3]);
+        LocalDateTime createdDate = (LocalDateTime) row.get()[4];
+
+        apply(indexMap -> {
+            // 직무가 바뀐 경우 이전 직무 색인에서 제거
+            indexMap.forEach((id, jobIndex) -> {
+                if(!id.equals(jobId)) {
+                    jobIndex.remove(portfolioId);
+                }
+            });
+            put(indexMap, portfolioId, jobId, document, createdDate);
+        });
+    }
+
+    private static void put(Map<Long, JobIndex> indexMap, Long portfolioId, Long jobId, String document, LocalDateTime createdDate) {
+        indexMap.computeIfAbsent(jobId, id -> new JobIndex()).put(portfolioId, document, createdDate);
+    }
+
+    private void publish(Long portfolioId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + portfolioId);
+        } catch(RuntimeException e) {
+            log.warn("검색 색인 변경 전파 실패 - portfolioId: {}", portfolioId, e);
+        }
+    }
+
+    /**
+     * 현재 색인에 변경 반영 (재생성 중이면 재생성한 색인에도 반영하도록 기록)
+     * @param change
+     */
+    private synchronized void apply(Consumer<Map<Long, JobIndex>> change) {
+        change.accept(jobIndexMap);
+
+        if(rebuildingChangeList != null) {
+            rebuildingChangeList.add(change);
+        }
+    }
+
+    /**
+     * 직무와 키워드로 검색한 포트폴리오 수
+     * @param jobId
+     * @param keyword
+     * @return
+     */
+    public int count(Long jobId, String keyword) {
+        JobIndex jobIndex = jobIndexMap.get(jobId);
+
+        return jobIndex == null ? 0 : jobIndex.count(normalize(keyword));
+    }
+
+    /**
+     * 직무와 키워드로 포트폴리오 id 검색 (페이지 번호 기반)
+     * @param jobId
+     * @param keyword
+     * @param offset
+     * @param size
+     * @return (생성일, id) 내림차순 정렬된 포트폴리오 id 목록 (최대 size 개)
+     */
+    public List<Long> search(Long jobId, String keyword, int offset, int size) {
+        JobIndex jobIndex = jobIndexMap.get(jobId);
+
+        if(jobIndex == null) {
+            return Collections.emptyList();
+        }
+
+        return jobIndex.search(normalize(keyword), null, offset, size);
+    }
+
+    /**
+     * 직무와 키워드로 커서 이후의 포트폴리오 id 검색
+     * @param jobId
+     * @param keyword
+     * @param cursor 이전 페이지의 마지막 포트폴리오 위치 (첫 페이지면 null)
+     * @param size
+     * @return (생성일, id) 내림차순 정렬된 포트폴리오 id 목록 (최대 size 개)
+     */
+    public List<Long> searchAfter(Long jobId, String keyword, PagingCursor cursor, int size) {
+        JobIndex jobIndex = jobIndexMap.get(jobId);
+
+        if(jobIndex == null) {
+            return Collections.emptyList();
+        }
+
+        return jobIndex.search(normalize(keyword), cursor, 0, size);
+    }
+
+    // DB 에 저장되는 정밀도(마이크로초)에 맞춰 DB 에서 읽은 커서와 비교할 수 있도록 함
+    private static LocalDateTime truncate(LocalDateTime createdDate) {
+        return createdDate == null ? null : createdDate.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static String toDocument(String title, String description) {
+        // 제목과 설명이 이어져서 검색되지 않도록 개행으로 구분
+        return normalize(title) + "\n" + normalize(description);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> gramSet = new HashSet<>();
+
+        for(int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            gramSet.add(text.substring(i, i + GRAM_SIZE));
+        }
+
+        return gramSet;
+    }
+
+    /**
+     * 직무 하나에 대한 역색인
+     */
+    /**
+     * 색인 항목 (생성일, id) - 생성일이 없으면 가장 오래된 것으로 취급
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+        // (생성일, id) 내림차순
+        static final Comparator<Entry> NEWEST_FIRST = Comparator
+                .comparing(Entry::getCreatedDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                .thenComparing(Entry::getId)
+                .reversed();
+
+        private final LocalDateTime createdDate;
+        private final Long id;
+    }
+
+    /**
+     * posting 목록과 전체 목록을 (생성일, id) 내림차순으로 유지하므로
+     * 가장 짧은 posting 을 커서 위치부터 순서대로 읽으며 한 페이지가 찰 때까지만 확인 (전체 결과를 정렬하지 않음)
+     */
+    private static class JobIndex {
+        private final Map<String, NavigableSet<Entry>> postingMap = new HashMap<>();
+        private final Map<Long, String> documentMap = new HashMap<>();
+        private final Map<Long, Entry> entryMap = new HashMap<>();
+        private final NavigableSet<Entry> entrySet = new TreeSet<>(Entry.NEWEST_FIRST);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        void put(Long portfolioId, String document, LocalDateTime createdDate) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(portfolioId);
+
+                Entry entry = new Entry(createdDate, portfolioId);
+                documentMap.put(portfolioId, document);
+                entryMap.put(portfolioId, entry);
+                entrySet.add(entry);
+
+                for(String gram : grams(document)) {
+                    postingMap.computeIfAbsent(gram, g -> new TreeSet<>(Entry.NEWEST_FIRST)).add(entry);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long portfolioId) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(portfolioId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int count(String keyword) {
+            lock.readLock().lock();
+            try {
+                int count = 0;
+                for(Iterator<Entry> iterator = matchIterator(keyword, null); iterator.hasNext(); iterator.next()) {
+                    count++;
+                }
+
+                return count;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Long> search(String keyword, PagingCursor cursor, int offset, int size) {
+            lock.readLock().lock();
+            try {
+                List<Long> resultList = new ArrayList<>();
+                Iterator<Entry> iterator = matchIterator(keyword, cursor);
+
+                for(int i = 0; i < offset && iterator.hasNext(); i++) {
+                    iterator.next();
+                }
+                while(resultList.size() < size && iterator.hasNext()) {
+                    resultList.add(iterator.next().getId());
+                }
+
+                return resultList;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 키워드가 포함된 항목을 (생성일, id) 내림차순으로 하나씩 반환 (읽기 lock 을 잡은 상태에서 사용)
+         * @param keyword
+         * @param cursor 이 위치 이후 항목부터 반환 (null 이면 처음부터)
+         * @return
+         */
+        private Iterator<Entry> matchIterator(String keyword, PagingCursor cursor) {
+            NavigableSet<Entry> candidateSet = entrySet;
+            List<NavigableSet<Entry>> postingList = new ArrayList<>();
+
+            // 키워드가 n-gram 보다 짧으면 전체 항목의 문서를 직접 비교
+            if(keyword.length() >= GRAM_SIZE) {
+                for(String gram : grams(keyword)) {
+                    NavigableSet<Entry> posting = postingMap.get(gram);
+                    if(posting == null) {
+                        return Collections.emptyIterator();
+                    }
+                    postingList.add(posting);
+                }
+
+                // 가장 짧은 posting 을 기준으로 나머지 posting 포함 여부 확인
+                postingList.sort(Comparator.comparingInt(Set::size));
+                candidateSet = postingList.remove(0);
+            }
+
+            if(cursor != null) {
+                candidateSet = candidateSet.tailSet(new Entry(cursor.getCreatedDate(), cursor.getId()), false);
+            }
+
+            return candidateSet.stream()
+                    .filter(entry -> postingList.stream().allMatch(posting -> posting.contains(entry)))
+                    // n-gram 이 모두 포함되어도 연속된 문자열이 아닐 수 있으므로 최종 확인
+                    .filter(entry -> keyword.isEmpty() || documentMap.get(entry.getId()).contains(keyword))
+                    .iterator();
+        }
+
+        private void removeInternal(Long portfolioId) {
+            String document = documentMap.remove(portfolioId);
+            if(document == null) {
+                return;
+            }
+
+            Entry entry = entryMap.remove(portfolioId);
+            entrySet.remove(entry);
+
+            for(String gram : grams(document)) {
+                NavigableSet<Entry> posting = postingMap.get(gram);
+                if(posting != null) {
+                    posting.remove(entry);
+                    if(posting.isEmpty()) {
+                        postingMap.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.poje.remind.service.portfolio;
 
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
+import com.poje.remind.common.PagingCursor;
 import com.poje.remind.common.PagingDTO;
 import com.poje.remind.common.PagingUtil;
 import com.poje.remind.config.SecurityUtil;
@@ -11,9 +12,10 @@ import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
 import com.poje.remind.repository.ability.JobRepository;
 import com.poje.remind.repository.member.MemberRepository;
-import com.poje.remind.repository.portfolio.PortfolioLikeRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
+import com.poje.remind.service.image.ImageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,13 +28,19 @@ public class PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final MemberRepository memberRepository;
     private final JobRepository jobRepository;
-    private final PortfolioLikeRepository portfolioLikeRepository;
+    private final PortfolioSearchEngine portfolioSearchEngine;
+    private final PortfolioCounter portfolioCounter;
+    private final PortfolioLikeBuffer portfolioLikeBuffer;
+    private final PortfolioLikeService portfolioLikeService;
+    private final PortfolioLikeIndex portfolioLikeIndex;
+    private final PortfolioAuthorizer portfolioAuthorizer;
+    private final ImageService imageService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public PortfolioDTO.BasicPortfolioResp enrollBasicPortfolio(String jobName) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        // 회원을 조회하지 않고 프록시로 작성자 연관관계만 설정
+        Member member = memberRepository.getReferenceById(SecurityUtil.getCurrentMemberId());
 
         Job job = jobRepository.findByName(jobName).orElseThrow(
                 () -> new GlobalException(ErrorCode.JOB_NOT_FOUND)
@@ -47,27 +55,22 @@ public class PortfolioService {
                 .build();
 
         portfolioRepository.save(portfolio);
+        portfolioSearchEngine.index(portfolio);
+        portfolioCounter.increase(job.getId());
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolio.getId()));
 
         return new PortfolioDTO.BasicPortfolioResp(portfolio.getId());
     }
 
     @Transactional(readOnly = true)
     public PortfolioDTO.PortfolioInfoResp getPortfolio(Long portfolioId) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
         Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(
                 () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
         );
 
-        // 현재 사용자가 포트폴리오 좋아요 눌렀는지 여부
-        boolean likeStatus = portfolioLikeRepository.existsByMemberAndPortfolio(member, portfolio);
-
-        return PortfolioDTO.PortfolioInfoResp.builder()
-                .portfolio(portfolio)
-                .likeStatus(likeStatus)
-                .build();
+        return toPortfolioInfoResp(portfolio, memberId);
     }
 
     @Transactional(readOnly = true)
@@ -77,16 +80,57 @@ public class PortfolioService {
         );
 
         PagingDTO pagingDTO = new PagingDTO(page);
-        PagingUtil pagingUtil = new PagingUtil(job.getPortfolioList().size(), pagingDTO);
+        PagingUtil pagingUtil;
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList;
 
-        List<Portfolio> pagingPortfolioList = portfolioRepository.findPortfolioWithJobAndKeyword(job, keyword, pagingDTO.limitCalc());
+        if(keyword.isEmpty()) {
+            // 키워드가 없으면 서버 별 검색 색인 대신 DB 에서 조회 (작성자, 좋아요 수까지 한 번의 쿼리로 조회)
+            pagingUtil = new PagingUtil((int) portfolioCounter.countByJob(job.getId()), pagingDTO);
+            portfolioAndMemberRespList = portfolioRepository.findPortfolioCardListWithJob(job.getId(), pagingDTO.limitCalc(), pagingDTO.getSize());
+        } else {
+            // 검색 색인에서 키워드가 포함된 포트폴리오 수와 해당 페이지의 id 만 찾은 뒤 조회
+            pagingUtil = new PagingUtil(portfolioSearchEngine.count(job.getId(), keyword), pagingDTO);
+
+            List<Long> pagingIdList = portfolioSearchEngine.search(job.getId(), keyword, pagingDTO.limitCalc(), pagingDTO.getSize());
+
+            portfolioAndMemberRespList = portfolioRepository.findPortfolioCardListByIdList(pagingIdList);
+        }
+
+        portfolioLikeService.fillLikeStatus(portfolioAndMemberRespList);
 
         return PortfolioDTO.PortfolioAndMemberListResp.builder()
-                .portfolioList(pagingPortfolioList)
+                .portfolioAndMemberRespList(portfolioAndMemberRespList)
                 .pagingUtil(pagingUtil)
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public PortfolioDTO.PortfolioAndMemberCursorResp getPortfolioListByCursor(String jobName, String cursor, String keyword) {
+        Job job = jobRepository.findByName(jobName).orElseThrow(
+                () -> new GlobalException(ErrorCode.JOB_NOT_FOUND)
+        );
+
+        PagingCursor pagingCursor = PagingCursor.decode(cursor);
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList;
+
+        if(keyword.isEmpty()) {
+            // (job_id, created_date, portfolio_id) 인덱스를 이용한 seek 조회
+            portfolioAndMemberRespList = portfolioRepository.findPortfolioCardListWithJobAfterCursor(job.getId(), pagingCursor, PagingCursor.SIZE + 1);
+        } else {
+            // 검색 색인에서 커서 이전 포트폴리오를 키워드 없는 목록과 같은 (생성일, id) 순서로 선택
+            List<Long> pagingIdList = portfolioSearchEngine.searchAfter(job.getId(), keyword, pagingCursor, PagingCursor.SIZE + 1);
+
+            portfolioAndMemberRespList = portfolioRepository.findPortfolioCardListByIdList(pagingIdList);
+        }
+
+        portfolioLikeService.fillLikeStatus(portfolioAndMemberRespList);
+
+        return PortfolioDTO.PortfolioAndMemberCursorResp.builder()
+                .portfolioAndMemberRespList(portfolioAndMemberRespList)
+                .size(PagingCursor.SIZE)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public PortfolioDTO.PortfolioAboutMeResp getPortfolioAboutMe(Long portfolioId) {
         Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(
@@ -100,54 +144,75 @@ public class PortfolioService {
 
     @Transactional(readOnly = true)
     public PortfolioDTO.PortfolioAndMemberListResp getMemberPortfolioList() {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
+
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList = portfolioRepository.findPortfolioCardListByWriter(memberId);
+        portfolioLikeService.fillLikeStatus(memberId, portfolioAndMemberRespList);
 
         return PortfolioDTO.PortfolioAndMemberListResp.builder()
-                .portfolioList(member.getPortfolioList())
+                .portfolioAndMemberRespList(portfolioAndMemberRespList)
                 .build();
     }
 
     @Transactional
     public PortfolioDTO.PortfolioInfoResp updatePortfolio(Long portfolioId, PortfolioDTO.UpdateReq updateReq) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
         Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(
                 () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
         );
 
-        if(portfolio.getWriter() != member) {
-            throw new GlobalException(ErrorCode.WRITER_NOT_MATCHED_PORTFOLIO);
-        }
+        portfolioAuthorizer.checkWriter(portfolio, memberId, ErrorCode.WRITER_NOT_MATCHED_PORTFOLIO);
 
         portfolio.update(updateReq.getTitle(), updateReq.getDescription());
+        if(updateReq.getBackgroundImage() != null) {
+            portfolio.updateBackgroundImg(imageService.toUrl(updateReq.getBackgroundImage()));
+        }
+        portfolioSearchEngine.index(portfolio);
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolio.getId()));
 
-        // 현재 사용자가 포트폴리오 좋아요 눌렀는지 여부
-        boolean likeStatus = portfolioLikeRepository.existsByMemberAndPortfolio(member, portfolio);
-
-        return PortfolioDTO.PortfolioInfoResp.builder()
-                .portfolio(portfolio)
-                .likeStatus(likeStatus)
-                .build();
+        return toPortfolioInfoResp(portfolio, memberId);
     }
 
     @Transactional
     public void deletePortfolio(Long portfolioId) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
         Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(
                 () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
         );
 
-        if(portfolio.getWriter() != member) {
-            throw new GlobalException(ErrorCode.WRITER_NOT_MATCHED_PORTFOLIO);
-        }
+        portfolioAuthorizer.checkWriter(portfolio, memberId, ErrorCode.WRITER_NOT_MATCHED_PORTFOLIO);
 
         portfolioRepository.delete(portfolio);
+        portfolioSearchEngine.remove(portfolio);
+        portfolioCounter.decrease(portfolio.getJob().getId());
+        portfolioLikeBuffer.evict(portfolio.getId());
+        portfolioLikeIndex.removePortfolio(portfolio.getId());
+        portfolioAuthorizer.evict(portfolio.getId());
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolio.getId()));
+    }
+
+    /**
+     * 포트폴리오 정보와 좋아요 정보 조합 (포트폴리오는 직무와 함께 조회된 상태여야 함)
+     * @param portfolio
+     * @param memberId
+     * @return
+     */
+    public PortfolioDTO.PortfolioInfoResp toPortfolioInfoResp(Portfolio portfolio, Long memberId) {
+        // 현재 사용자가 포트폴리오 좋아요 눌렀는지 여부와 좋아요 수 (write-behind 모드면 Redis 기준)
+        if(portfolioLikeBuffer.isEnabled()) {
+            return PortfolioDTO.PortfolioInfoResp.builder()
+                    .portfolio(portfolio)
+                    .likeStatus(portfolioLikeBuffer.isLiked(portfolio.getId(), memberId))
+                    .likeCount(portfolioLikeBuffer.count(portfolio.getId()))
+                    .build();
+        }
+
+        return PortfolioDTO.PortfolioInfoResp.builder()
+                .portfolio(portfolio)
+                .likeStatus(portfolioLikeIndex.isLiked(memberId, portfolio.getId()))
+                .likeCount(portfolio.getLikeCount())
+                .build();
     }
 }
@@ -1,16 +1,16 @@
 package com.poje.remind.service.portfolio;
 
+import com.poje.remind.common.CollectionDiff;
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
 import com.poje.remind.config.SecurityUtil;
-import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.portfolio.PortfolioSkill;
 import com.poje.remind.domain.portfolio.dto.PortfolioSkillDTO;
-import com.poje.remind.repository.member.MemberRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
 import com.poje.remind.repository.portfolio.PortfolioSkillRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +23,8 @@ public class PortfolioSkillService {
 
     private final PortfolioRepository portfolioRepository;
     private final PortfolioSkillRepository portfolioSkillRepository;
-    private final MemberRepository memberRepository;
+    private final PortfolioAuthorizer portfolioAuthorizer;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public void updatePortfolioSkill(Long portfolioId, PortfolioSkillDTO.UpdateReqList updateReqList) {
@@ -31,43 +32,26 @@ public class PortfolioSkillService {
                 () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
         );
 
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
-
-        if(!portfolio.getWriter().equals(member)) {
-            throw new GlobalException(ErrorCode.MEMBER_NOT_MATCH);
-        }
-
-        List<PortfolioSkill> currentSkills = portfolio.getPortfolioSkillList();
-
-        // 업데이트 하려는 스킬 목록
-        Set<String> newSkillsSet = updateReqList.getUpdateReqList().stream()
-                .map(PortfolioSkillDTO.UpdateReq::getName)
-                .collect(Collectors.toSet());
+        portfolioAuthorizer.checkWriter(portfolio, SecurityUtil.getCurrentMemberId(), ErrorCode.MEMBER_NOT_MATCH);
 
-        // 기존 스킬 중 업데이트 되지 않는 스킬 삭제
-        currentSkills.stream()
-                .filter(skill -> !newSkillsSet.contains(skill.getName()))
-                .forEach(portfolioSkillRepository::delete);
+        // 스킬 이름 기준으로 삭제할 기존 스킬과 새로 저장할 스킬 계산
+        CollectionDiff<PortfolioSkill, PortfolioSkillDTO.UpdateReq> skillDiff = CollectionDiff.of(
+                portfolio.getPortfolioSkillList(), PortfolioSkill::getName,
+                updateReqList.getUpdateReqList(), PortfolioSkillDTO.UpdateReq::getName);
 
-        for(PortfolioSkillDTO.UpdateReq updateSkill : updateReqList.getUpdateReqList()) {
-            // 기존에 같은 이름의 스킬이 있는지 확인
-            Optional<PortfolioSkill> existingSkillOpt = currentSkills.stream()
-                    .filter(skill -> skill.getName().equals(updateSkill.getName()))
-                    .findFirst();
+        // 기존 스킬 중 업데이트 되지 않는 스킬은 한 번에 삭제
+        portfolioSkillRepository.deleteAll(skillDiff.getRemovedList());
 
-            if(!existingSkillOpt.isPresent()) {
-                // 새로운 기술 저장
-                PortfolioSkill newSkill = PortfolioSkill.builder()
+        // 새로운 스킬 저장 (flush 시 batch insert 로 묶임)
+        portfolioSkillRepository.saveAll(skillDiff.getAddedList().stream()
+                .map(updateSkill -> PortfolioSkill.builder()
                         .name(updateSkill.getName())
                         .path(updateSkill.getPath())
                         .portfolio(portfolio)
-                        .build();
+                        .build())
+                .collect(Collectors.toList()));
 
-                portfolioSkillRepository.save(newSkill);
-            }
-        }
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolio.getId()));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,168 @@
+package com.poje.remind.service.portfolio;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.domain.portfolio.PortfolioSnapshot;
+import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import com.poje.remind.repository.portfolio.PortfolioSnapshotRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 포트폴리오 전체 페이지 스냅샷 (portfolio_snapshot 테이블)
+ * 포트폴리오가 수정되면 커밋 이후 스냅샷 전용 스레드에서 다시 생성하고, 조회는 포트폴리오 id 로 직렬화된 JSON 을 그대로 반환
+ * 스냅샷 생성은 스레드 하나에서 순서대로 실행하므로 오래된 스냅샷이 최신 스냅샷을 덮어쓰지 않음
+ */
+@Slf4j
+@Service
+public class PortfolioSnapshotService {
+
+    private final PortfolioPageService portfolioPageService;
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ThreadPoolExecutor executor;
+
+    // 대기 중인 재생성 작업 (같은 포트폴리오의 재생성 요청이 대기열에 여러 번 쌓이지 않도록 함)
+    private final Set<Long> pendingIdSet = ConcurrentHashMap.newKeySet();
+
+    public PortfolioSnapshotService(PortfolioPageService portfolioPageService,
+                                    PortfolioRepository portfolioRepository,
+                                    PortfolioSnapshotRepository portfolioSnapshotRepository,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${portfolio.snapshot.queue-capacity:1000}") int queueCapacity) {
+        this.portfolioPageService = portfolioPageService;
+        this.portfolioRepository = portfolioRepository;
+        this.portfolioSnapshotRepository = portfolioSnapshotRepository;
+        this.objectMapper = objectMapper;
+
+        // 커밋 이후에는 기존 트랜잭션에 참여할 수 없으므로 새 트랜잭션에서 실행
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("portfolio-snapshot-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 포트폴리오 변경 트랜잭션이 커밋된 이후 스냅샷 재생성 요청
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if(event.getPortfolioId() != null) {
+            refresh(event.getPortfolioId());
+            return;
+        }
+
+        List<Long> portfolioIdList = requiresNewTemplate.execute(status -> portfolioRepository.findIdListByWriterId(event.getWriterId()));
+        for(Long portfolioId : portfolioIdList) {
+            refresh(portfolioId);
+        }
+    }
+
+    /**
+     * 스냅샷 재생성을 대기열에 추가 (이미 대기 중이면 무시)
+     * 대기열이 가득 차면 기존 스냅샷을 삭제해서 다음 조회 때 새로 생성되도록 함
+     * @param portfolioId
+     */
+    public void refresh(Long portfolioId) {
+        if(!pendingIdSet.add(portfolioId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                // 생성 전에 대기 목록에서 제거해야 생성 중에 커밋된 변경도 다시 반영됨
+                pendingIdSet.remove(portfolioId);
+                regenerate(portfolioId);
+            });
+        } catch (RejectedExecutionException e) {
+            pendingIdSet.remove(portfolioId);
+            log.warn("포트폴리오 스냅샷 재생성 대기열이 가득 찼습니다. - portfolioId: {}", portfolioId);
+            requiresNewTemplate.executeWithoutResult(status -> portfolioSnapshotRepository.deleteById(portfolioId));
+        }
+    }
+
+    /**
+     * 포트폴리오 스냅샷 조회
+     * 스냅샷이 아직 없으면 바로 생성해서 반환하고 저장은 스냅샷 스레드에 맡김
+     * @param portfolioId
+     * @return
+     */
+    public Snapshot getSnapshot(Long portfolioId) {
+        Optional<PortfolioSnapshot> snapshot = portfolioSnapshotRepository.findById(portfolioId);
+
+        if(snapshot.isPresent()) {
+            return new Snapshot(snapshot.get().getContent(), snapshot.get().getVersion());
+        }
+
+        byte[] content = portfolioPageService.getPortfolioSnapshot(portfolioId)
+                .map(this::serialize)
+                .orElseThrow(() -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND));
+
+        refresh(portfolioId);
+
+        return new Snapshot(content, null);
+    }
+
+    void regenerate(Long portfolioId) {
+        try {
+            Optional<byte[]> content = portfolioPageService.getPortfolioSnapshot(portfolioId)
+                    .map(this::serialize);
+
+            if(content.isPresent()) {
+                portfolioSnapshotRepository.save(portfolioId, content.get());
+            } else {
+                // 삭제된 포트폴리오
+                portfolioSnapshotRepository.deleteById(portfolioId);
+            }
+        } catch (RuntimeException e) {
+            log.error("포트폴리오 스냅샷 생성 실패 - portfolioId: {}", portfolioId, e);
+        }
+    }
+
+    private byte[] serialize(PortfolioDTO.PortfolioSnapshotResp snapshotResp) {
+        try {
+            return objectMapper.writeValueAsBytes(snapshotResp);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 직렬화된 스냅샷과 version (아직 저장되지 않은 스냅샷이면 version 은 빈 값)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final byte[] content;
+        private final Long version;
+    }
+}
@@ -1,42 +1,73 @@
 package com.poje.remind.service.project;
 
+import com.poje.remind.common.CollectionDiff;
 import com.poje.remind.domain.project.Project;
 import com.poje.remind.domain.project.ProjectImg;
 import com.poje.remind.repository.project.ProjectImgRepository;
+import com.poje.remind.service.image.ImageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class ProjectImgService {
 
     private final ProjectImgRepository projectImgRepository;
+    private final ImageService imageService;
 
-    public void updateImage(Project project, List<String> updateImages) {
+    /**
+     * 프로젝트 이미지 수정
+     * 이미지 업로드 도입 전에 저장된 url 은 업로드된 이미지 id 로 바꿀 수 없으므로, 이 프로젝트에 이미 있는 url 은 그대로 유지
+     * @param project
+     * @param updateImageIds 업로드된 이미지 id 또는 이 프로젝트의 기존 이미지 url 목록 (둘 다 아니면 IMAGE_NOT_FOUND)
+     */
+    public void updateImage(Project project, List<String> updateImageIds) {
         // 기존 이미지 목록
         List<ProjectImg> existingImages = projectImgRepository.findByProject(project);
+        Set<String> existingUrlSet = existingImages.stream()
+                .map(ProjectImg::getUrl)
+                .collect(Collectors.toSet());
 
-        // 업데이트 하려는 이미지와 기존 이미지를 비교해서 삭제
-        existingImages.stream()
-                .filter(existingImage -> !updateImages.contains(existingImage.getUrl()))
-                .forEach(projectImgRepository::delete);
+        // 기존 url 이 아닌 요청은 업로드된 이미지만 허용하고 이미지 url 로 변환 (요청 순서 유지)
+        Iterator<String> uploadedUrlIterator = imageService.toUrlList(updateImageIds.stream()
+                        .filter(imageId -> !existingUrlSet.contains(imageId))
+                        .collect(Collectors.toList()))
+                .iterator();
 
-        // 업데이트할 이미지 목록에서 새 이미지 찾기
-        updateImages.forEach(url -> {
-            boolean exists = existingImages.stream()
-                    .anyMatch(existingImage -> existingImage.getUrl().equals(url));
+        List<String> updateImages = updateImageIds.stream()
+                .map(imageId -> existingUrlSet.contains(imageId) ? imageId : uploadedUrlIterator.next())
+                .collect(Collectors.toList());
 
-            // 새로운 이미지 저장
-            if(!exists) {
-                ProjectImg newImg = ProjectImg.builder()
+        // 이미지 url 기준으로 삭제할 기존 이미지와 새로 저장할 이미지 계산
+        CollectionDiff<ProjectImg, String> imgDiff = CollectionDiff.of(
+                existingImages, ProjectImg::getUrl, updateImages, Function.identity());
+
+        // 업데이트 하려는 이미지에 없는 기존 이미지는 한 번에 삭제
+        projectImgRepository.deleteAll(imgDiff.getRemovedList());
+
+        // 새로운 이미지 저장 (flush 시 batch insert 로 묶임)
+        projectImgRepository.saveAll(imgDiff.getAddedList().stream()
+                .map(url -> ProjectImg.builder()
                         .url(url)
                         .project(project)
-                        .build();
+                        .build())
+                .collect(Collectors.toList()));
+    }
 
-                projectImgRepository.save(newImg);
-            }
-        });
+    /**
+     * 여러 프로젝트의 이미지를 한 번에 조회 후 프로젝트 id 별로 분류
+     * @param projectIdList
+     * @return 프로젝트 id -> 이미지 목록 (id 오름차순)
+     */
+    public Map<Long, List<ProjectImg>> getImgMap(List<Long> projectIdList) {
+        return projectImgRepository.findAllByProjectIdList(projectIdList).stream()
+                .collect(Collectors.groupingBy(projectImg -> projectImg.getProject().getId()));
     }
 }
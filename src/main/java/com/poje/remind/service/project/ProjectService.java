@@ -3,19 +3,24 @@ package com.poje.remind.service.project;
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
 import com.poje.remind.config.SecurityUtil;
-import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.project.Project;
+import com.poje.remind.domain.project.ProjectImg;
+import com.poje.remind.domain.project.ProjectSkill;
 import com.poje.remind.domain.project.dto.ProjectDTO;
 import com.poje.remind.domain.project.dto.ProjectDefaults;
-import com.poje.remind.repository.member.MemberRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
 import com.poje.remind.repository.project.ProjectRepository;
+import com.poje.remind.service.portfolio.PortfolioAuthorizer;
+import com.poje.remind.service.portfolio.PortfolioChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -24,10 +29,11 @@ public class ProjectService {
 
     private final PortfolioRepository portfolioRepository;
     private final ProjectRepository projectRepository;
-    private final MemberRepository memberRepository;
     private final ProjectSkillService projectSkillService;
     private final ProjectAwardService projectAwardService;
     private final ProjectImgService projectImgService;
+    private final PortfolioAuthorizer portfolioAuthorizer;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public void enrollBasicProject(Long portfolioId) {
@@ -35,16 +41,11 @@ public class ProjectService {
                 () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
         );
 
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
-
-        if(!portfolio.getWriter().equals(member)) {
-            throw new GlobalException(ErrorCode.MEMBER_NOT_MATCH);
-        }
+        portfolioAuthorizer.checkWriter(portfolio, SecurityUtil.getCurrentMemberId(), ErrorCode.MEMBER_NOT_MATCH);
 
         Project project = createDefaultProject(portfolio);
         projectRepository.save(project);
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolio.getId()));
     }
 
     private Project createDefaultProject(Portfolio portfolio) {
@@ -64,30 +65,45 @@ public class ProjectService {
                 () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
         );
 
-        List<Project> projectList = projectRepository.findAllByPortfolioId(portfolio.getId());
+        return getProjectRespList(portfolio.getId());
+    }
+
+    /**
+     * 포트폴리오의 프로젝트 목록 조회 (포트폴리오 존재 여부는 확인하지 않음)
+     * @param portfolioId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectDTO.ProjectResp> getProjectRespList(Long portfolioId) {
+        List<Project> projectList = projectRepository.findAllByPortfolioId(portfolioId);
+
+        if(projectList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 사용 기술과 이미지는 프로젝트 id 목록으로 각각 한 번씩 조회 (카테시안 곱 방지)
+        List<Long> projectIdList = projectList.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<ProjectSkill>> skillMap = projectSkillService.getSkillMap(projectIdList);
+        Map<Long, List<ProjectImg>> imgMap = projectImgService.getImgMap(projectIdList);
 
         return projectList.stream()
-                .map(ProjectDTO.ProjectResp::new)
+                .map(project -> new ProjectDTO.ProjectResp(project,
+                        skillMap.getOrDefault(project.getId(), Collections.emptyList()),
+                        imgMap.getOrDefault(project.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public void updateProject(Long portfolioId, Long projectId, ProjectDTO.UpdateReq updateReq) {
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
-        Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(
-                () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
-        );
+        // 포트폴리오를 조회하지 않고 작성자 여부만 확인
+        portfolioAuthorizer.checkWriter(portfolioId, memberId, ErrorCode.MEMBER_NOT_MATCH);
 
-        if(!portfolio.getWriter().equals(member)) {
-            throw new GlobalException(ErrorCode.MEMBER_NOT_MATCH);
-        }
-
-        Project project = projectRepository.findByProjectIdAndMemberId(projectId, member.getId()).orElseThrow(
-                () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
-        );
+        Project project = findPortfolioProject(portfolioId, projectId, memberId);
 
         project.update(updateReq.getName(), updateReq.getDuration(), updateReq.getDescription(),
                 updateReq.getBelong(), updateReq.getLink());
@@ -100,27 +116,34 @@ public class ProjectService {
 
         // 프로젝트 이미지 수정
         projectImgService.updateImage(project, updateReq.getImages());
+
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolioId));
     }
 
     @Transactional
     public void deleteProject(Long portfolioId, Long projectId) {
-        Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(
-                () -> new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND)
-        );
+        Long memberId = SecurityUtil.getCurrentMemberId();
 
-        Member member = memberRepository.findByLoginId(SecurityUtil.getCurrentMember()).orElseThrow(
-                () -> new GlobalException(ErrorCode.MEMBER_NOT_FOUND)
-        );
+        portfolioAuthorizer.checkWriter(portfolioId, memberId, ErrorCode.MEMBER_NOT_MATCH);
 
-        if(!portfolio.getWriter().equals(member)) {
-            throw new GlobalException(ErrorCode.MEMBER_NOT_MATCH);
-        }
-
-        Project project = projectRepository.findByProjectIdAndMemberId(projectId, member.getId()).orElseThrow(
-                () -> new GlobalException(ErrorCode.PROJECT_NOT_FOUND)
-        );
+        Project project = findPortfolioProject(portfolioId, projectId, memberId);
 
         projectRepository.delete(project);
+        applicationEventPublisher.publishEvent(PortfolioChangedEvent.ofPortfolio(portfolioId));
+    }
+
+    /**
+     * 작성자의 프로젝트 중 요청한 포트폴리오에 속한 프로젝트 조회
+     * 작성자의 다른 포트폴리오 프로젝트를 수정하면 요청한 포트폴리오의 스냅샷만 재생성되므로 거부
+     * @param portfolioId
+     * @param projectId
+     * @param memberId
+     * @return
+     */
+    private Project findPortfolioProject(Long portfolioId, Long projectId, Long memberId) {
+        return projectRepository.findByProjectIdAndMemberId(projectId, memberId)
+                .filter(project -> project.getPortfolio().getId().equals(portfolioId))
+                .orElseThrow(() -> new GlobalException(ErrorCode.PROJECT_NOT_FOUND));
     }
 
 }
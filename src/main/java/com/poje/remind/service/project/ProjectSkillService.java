@@ -1,5 +1,6 @@
 package com.poje.remind.service.project;
 
+import com.poje.remind.common.CollectionDiff;
 import com.poje.remind.domain.project.Project;
 import com.poje.remind.domain.project.ProjectSkill;
 import com.poje.remind.domain.project.dto.ProjectSkillDTO;
@@ -8,8 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -22,32 +22,29 @@ public class ProjectSkillService {
         // 기존 스킬 목록
         List<ProjectSkill> existingSkills = projectSkillRepository.findByProject(project);
 
-        // 업데이트 하려는 스킬 목록
-        Set<String> updateSkillNames = updateSkills.stream()
-                .map(ProjectSkillDTO.UpdateReq::getName)
-                .collect(Collectors.toSet());
-
-        // 기존 스킬 중 업데이트 되지 않는 스킬 삭제
-        existingSkills.stream()
-                .filter(skill -> !updateSkillNames.contains(skill.getName()))
-                .forEach(projectSkillRepository::delete);
-
-        // 스킬 업데이트
-        for(ProjectSkillDTO.UpdateReq updateSkill : updateSkills) {
-            // 기존에 같은 이름의 스킬이 있는지 확인
-            Optional<ProjectSkill> existingSkillOptional = existingSkills.stream()
-                    .filter(skill -> skill.getName().equals(updateSkill.getName()))
-                    .findFirst();
-
-            if(!existingSkillOptional.isPresent()) {
-                // 새로운 기술 저장
-                ProjectSkill newSkill = ProjectSkill.builder()
+        // 스킬 이름 기준으로 삭제할 기존 스킬과 새로 저장할 스킬 계산
+        CollectionDiff<ProjectSkill, ProjectSkillDTO.UpdateReq> skillDiff = CollectionDiff.of(
+                existingSkills, ProjectSkill::getName, updateSkills, ProjectSkillDTO.UpdateReq::getName);
+
+        // 기존 스킬 중 업데이트 되지 않는 스킬은 한 번에 삭제
+        projectSkillRepository.deleteAll(skillDiff.getRemovedList());
+
+        // 새로운 스킬 저장 (flush 시 batch insert 로 묶임)
+        projectSkillRepository.saveAll(skillDiff.getAddedList().stream()
+                .map(updateSkill -> ProjectSkill.builder()
                         .name(updateSkill.getName())
                         .project(project)
-                        .build();
+                        .build())
+                .collect(Collectors.toList()));
+    }
 
-                projectSkillRepository.save(newSkill);
-            }
-        }
+    /**
+     * 여러 프로젝트의 사용 기술을 한 번에 조회 후 프로젝트 id 별로 분류
+     * @param projectIdList
+     * @return 프로젝트 id -> 사용 기술 목록 (id 오름차순)
+     */
+    public Map<Long, List<ProjectSkill>> getSkillMap(List<Long> projectIdList) {
+        return projectSkillRepository.findAllByProjectIdList(projectIdList).stream()
+                .collect(Collectors.groupingBy(projectSkill -> projectSkill.getProject().getId()));
     }
 }
@@ -0,0 +1,35 @@
+-- IDENTITY -> SEQUENCE (pooled, allocationSize 50) 전환 (MariaDB 10.3 이상)
+-- 애플리케이션 배포 전에 실행 (ddl-auto 가 먼저 시퀀스를 만들면 1 부터 시작해서 기존 id 와 겹침)
+-- Hibernate pooled optimizer 는 시퀀스 값 v 를 받으면 (v - 49) ~ v 구간을 사용하므로 기존 최대 id + 50 부터 시작
+-- 기존 AUTO_INCREMENT 는 그대로 둠 (모든 insert 가 id 를 직접 넣으므로 사용되지 않음)
+
+DROP PROCEDURE IF EXISTS create_id_sequence;
+
+DELIMITER //
+CREATE PROCEDURE create_id_sequence(IN table_name VARCHAR(64), IN id_column VARCHAR(64))
+BEGIN
+    SET @max_id_sql = CONCAT('SELECT COALESCE(MAX(', id_column, '), 0) + 50 INTO @start_id FROM ', table_name);
+    PREPARE max_id_stmt FROM @max_id_sql;
+    EXECUTE max_id_stmt;
+    DEALLOCATE PREPARE max_id_stmt;
+
+    SET @sequence_sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS ', table_name, '_seq START WITH ', @start_id, ' INCREMENT BY 50');
+    PREPARE sequence_stmt FROM @sequence_sql;
+    EXECUTE sequence_stmt;
+    DEALLOCATE PREPARE sequence_stmt;
+END //
+DELIMITER ;
+
+CALL create_id_sequence('member', 'member_id');
+CALL create_id_sequence('job', 'job_id');
+CALL create_id_sequence('license', 'license_id');
+CALL create_id_sequence('portfolio', 'portfolio_id');
+CALL create_id_sequence('portfolio_award', 'portfolio_award_id');
+CALL create_id_sequence('portfolio_skill', 'portfolio_skill_id');
+CALL create_id_sequence('likes', 'likes_id');
+CALL create_id_sequence('project', 'project_id');
+CALL create_id_sequence('project_award', 'project_award_id');
+CALL create_id_sequence('project_skill', 'project_skill_id');
+CALL create_id_sequence('project_img', 'project_img_id');
+
+DROP PROCEDURE create_id_sequence;
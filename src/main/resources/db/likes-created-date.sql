@@ -0,0 +1,10 @@
+-- 좋아요 누른 시간 컬럼 추가
+-- 기존 좋아요는 누른 시간을 알 수 없으므로 실행 시점으로 채움 (같은 시간끼리는 portfolio_id 역순으로 정렬됨)
+ALTER TABLE likes ADD COLUMN created_date DATETIME(6) NULL;
+
+UPDATE likes SET created_date = NOW(6) WHERE created_date IS NULL;
+
+ALTER TABLE likes MODIFY created_date DATETIME(6) NOT NULL;
+
+-- 좋아요 누른 포트폴리오 목록 (회원 별, 좋아요 누른 시간 역순) 조회용 인덱스
+CREATE INDEX idx_likes_member_created ON likes (member_id, created_date, portfolio_id);
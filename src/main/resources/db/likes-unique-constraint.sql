@@ -0,0 +1,13 @@
+-- likes (member_id, portfolio_id) 유니크 제약 추가 전 중복 좋아요 정리
+-- 같은 회원의 같은 포트폴리오 좋아요 중 가장 먼저 저장된 행만 남김
+DELETE l1 FROM likes l1
+JOIN likes l2
+  ON l1.member_id = l2.member_id
+ AND l1.portfolio_id = l2.portfolio_id
+ AND l1.likes_id > l2.likes_id;
+
+ALTER TABLE likes ADD CONSTRAINT uk_likes_member_portfolio UNIQUE (member_id, portfolio_id);
+
+-- 중복 정리 후 좋아요 수 재계산
+UPDATE portfolio p
+SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.portfolio_id = p.portfolio_id);
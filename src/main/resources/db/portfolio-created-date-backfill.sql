@@ -0,0 +1,3 @@
+-- JPA Auditing 적용 이전에 생성된 포트폴리오의 생성일 채우기
+-- 커서 기반 목록 조회는 (created_date, portfolio_id) 로 정렬하므로 배포 전에 한 번 실행
+UPDATE portfolio SET created_date = NOW() WHERE created_date IS NULL;
@@ -0,0 +1,3 @@
+-- portfolio.like_count 컬럼 추가 이후 기존 좋아요 수 반영
+UPDATE portfolio p
+SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.portfolio_id = p.portfolio_id);
@@ -0,0 +1,43 @@
+package com.poje.remind.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionDiffTest {
+
+    @Test
+    @DisplayName("요청에 없는 기존 요소는 삭제, 기존에 없는 요청 요소는 추가")
+    void of() {
+        // given
+        List<String> existingList = List.of("java:1", "spring:2", "django:3");
+        List<String> requestList = List.of("kotlin", "spring", "java", "react");
+
+        // when
+        CollectionDiff<String, String> diff = CollectionDiff.of(existingList, existing -> existing.split(":")[0],
+                requestList, Function.identity());
+
+        // then
+        assertThat(diff.getRemovedList()).containsExactly("django:3");
+        assertThat(diff.getAddedList()).containsExactly("kotlin", "react");
+        assertThat(diff.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("중복된 요청은 한 번만 추가하고, 변경이 없으면 비어 있음")
+    void ofDuplicateAndUnchanged() {
+        // when
+        CollectionDiff<String, String> addedDiff = CollectionDiff.of(List.of(), Function.identity(),
+                List.of("java", "java", "spring"), Function.identity());
+        CollectionDiff<String, String> unchangedDiff = CollectionDiff.of(List.of("java", "spring"), Function.identity(),
+                List.of("spring", "java"), Function.identity());
+
+        // then
+        assertThat(addedDiff.getAddedList()).containsExactly("java", "spring");
+        assertThat(unchangedDiff.isEmpty()).isTrue();
+    }
+}
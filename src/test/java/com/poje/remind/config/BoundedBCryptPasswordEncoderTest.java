@@ -0,0 +1,43 @@
+package com.poje.remind.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedBCryptPasswordEncoderTest {
+
+    private final PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(2, 8);
+    private final BoundedBCryptPasswordEncoder passwordEncoder = new BoundedBCryptPasswordEncoder(5, passwordHashingExecutor);
+
+    @AfterEach
+    void end() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 스레드 풀에서 BCrypt 해싱과 비교")
+    void encodeAndMatches() {
+        String encodedPassword = passwordEncoder.encode("1234");
+
+        assertThat(encodedPassword).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("1234", encodedPassword)).isTrue();
+        assertThat(passwordEncoder.matches("4321", encodedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 설정값과 다르면 다시 해싱 대상")
+    void upgradeEncoding() {
+        String lowerCost = new BCryptPasswordEncoder(4).encode("1234");
+        String higherCost = new BCryptPasswordEncoder(6).encode("1234");
+        String sameCost = passwordEncoder.encode("1234");
+
+        assertThat(passwordEncoder.upgradeEncoding(lowerCost)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(higherCost)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(sameCost)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("not-bcrypt")).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+    }
+}
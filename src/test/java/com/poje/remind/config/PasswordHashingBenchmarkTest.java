@@ -0,0 +1,128 @@
+package com.poje.remind.config;
+
+import com.poje.remind.common.GlobalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인이 몰릴 때 요청 스레드에서 BCrypt 를 실행하는 경우와 해싱 전용 스레드 풀을 사용하는 경우 비교 (./gradlew benchmark)
+ * 요청 스레드 풀은 Tomcat worker 를, 조회 요청은 짧은 DB 조회를 흉내냄
+ */
+@Tag("benchmark")
+class PasswordHashingBenchmarkTest {
+
+    private static final int REQUEST_THREADS = 32;
+    private static final int LOGIN_COUNT = 400;
+    private static final int READ_COUNT = 400;
+    private static final int READ_MILLIS = 2;
+    private static final int STRENGTH = 10;
+
+    private final String encodedPassword = new BCryptPasswordEncoder(STRENGTH).encode("password");
+
+    @Test
+    @DisplayName("로그인 폭주 중 로그인 처리량과 조회 p99 지연 비교")
+    void compareLoginBurst() throws Exception {
+        // given
+        BCryptPasswordEncoder requestThreadEncoder = new BCryptPasswordEncoder(STRENGTH);
+
+        PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(0, 16);
+        BCryptPasswordEncoder boundedEncoder = new BoundedBCryptPasswordEncoder(STRENGTH, passwordHashingExecutor);
+
+        // when
+        Result unbounded = run(requestThreadEncoder);
+        Result bounded = run(boundedEncoder);
+
+        passwordHashingExecutor.shutdown();
+
+        // then
+        assertThat(unbounded.succeeded).isEqualTo(LOGIN_COUNT);
+        assertThat(bounded.succeeded + bounded.rejected).isEqualTo(LOGIN_COUNT);
+
+        System.out.printf("[password hashing] request threads=%d, logins=%d, reads=%d, cores=%d%n",
+                REQUEST_THREADS, LOGIN_COUNT, READ_COUNT, Runtime.getRuntime().availableProcessors());
+        System.out.printf("[password hashing] request thread: %.1f logins/s, rejected=%d, read p99=%.1f ms%n",
+                unbounded.loginsPerSecond(), unbounded.rejected, unbounded.readP99Millis());
+        System.out.printf("[password hashing] bounded pool  : %.1f logins/s, rejected=%d, read p99=%.1f ms%n",
+                bounded.loginsPerSecond(), bounded.rejected, bounded.readP99Millis());
+    }
+
+    private Result run(BCryptPasswordEncoder passwordEncoder) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> readLatencyList = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futureList = new ArrayList<>();
+
+        long start = System.nanoTime();
+
+        // 로그인과 조회 요청을 번갈아 제출
+        for(int i = 0; i < Math.max(LOGIN_COUNT, READ_COUNT); i++) {
+            if(i < LOGIN_COUNT) {
+                futureList.add(requestThreads.submit(() -> {
+                    try {
+                        if(passwordEncoder.matches("password", encodedPassword)) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (GlobalException e) {
+                        rejected.incrementAndGet();
+                    }
+                }));
+            }
+
+            if(i < READ_COUNT) {
+                long submittedAt = System.nanoTime();
+                futureList.add(requestThreads.submit(() -> {
+                    try {
+                        Thread.sleep(READ_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    readLatencyList.add(System.nanoTime() - submittedAt);
+                }));
+            }
+        }
+
+        for(Future<?> future : futureList) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        requestThreads.shutdown();
+
+        return new Result(succeeded.get(), rejected.get(), elapsed, new ArrayList<>(readLatencyList));
+    }
+
+    private static class Result {
+        private final int succeeded;
+        private final int rejected;
+        private final long elapsedNanos;
+        private final List<Long> readLatencyList;
+
+        Result(int succeeded, int rejected, long elapsedNanos, List<Long> readLatencyList) {
+            this.succeeded = succeeded;
+            this.rejected = rejected;
+            this.elapsedNanos = elapsedNanos;
+            this.readLatencyList = readLatencyList;
+        }
+
+        double loginsPerSecond() {
+            return succeeded / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double readP99Millis() {
+            Collections.sort(readLatencyList);
+            int index = (int) Math.ceil(readLatencyList.size() * 0.99) - 1;
+            return readLatencyList.get(index) / 1_000_000.0;
+        }
+    }
+}
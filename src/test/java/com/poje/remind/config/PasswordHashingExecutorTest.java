@@ -0,0 +1,71 @@
+package com.poje.remind.config;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHashingExecutorTest {
+
+    private final PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 1);
+    private final ExecutorService requestThreads = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void end() {
+        requestThreads.shutdownNow();
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 스레드 풀에서 실행한 결과와 예외를 그대로 반환")
+    void execute() {
+        assertThat(passwordHashingExecutor.execute(() -> "hashed")).isEqualTo("hashed");
+
+        GlobalException exception = assertThrows(GlobalException.class, () -> passwordHashingExecutor.execute(() -> {
+            throw new GlobalException(ErrorCode.PASSWORD_NOT_MATCHED);
+        }));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PASSWORD_NOT_MATCHED);
+    }
+
+    @Test
+    @DisplayName("실행 중인 해싱과 대기열이 가득 차면 기다리지 않고 TOO_MANY_REQUESTS")
+    void rejectWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 해싱 스레드 1개를 점유하고, 대기열 1칸을 채움
+        Future<Boolean> first = requestThreads.submit(() -> passwordHashingExecutor.execute(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        running.await(5, TimeUnit.SECONDS);
+
+        Future<Boolean> queued = requestThreads.submit(() -> passwordHashingExecutor.execute(() -> true));
+        Thread.sleep(100);
+
+        // when
+        long start = System.nanoTime();
+        GlobalException exception = assertThrows(GlobalException.class, () -> passwordHashingExecutor.execute(() -> true));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        release.countDown();
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,63 @@
+package com.poje.remind.config;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PortfolioPageExecutorTest {
+
+    private final PortfolioPageExecutor portfolioPageExecutor = new PortfolioPageExecutor(1, 1);
+
+    @AfterEach
+    void end() {
+        portfolioPageExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회 스레드 풀에서 실행한 결과와 예외를 그대로 반환")
+    void submitAndGet() {
+        assertThat(portfolioPageExecutor.get(portfolioPageExecutor.submit(() -> "section"))).isEqualTo("section");
+
+        GlobalException exception = assertThrows(GlobalException.class, () -> portfolioPageExecutor.get(portfolioPageExecutor.submit(() -> {
+            throw new GlobalException(ErrorCode.PORTFOLIO_NOT_FOUND);
+        })));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PORTFOLIO_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기열이 가득 차면 요청 스레드에서 직접 실행")
+    void runOnCallerWhenQueueFull() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 조회 스레드 1개를 점유하고, 대기열 1칸을 채움
+        Future<Boolean> first = portfolioPageExecutor.submit(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        running.await(5, TimeUnit.SECONDS);
+
+        Future<Boolean> queued = portfolioPageExecutor.submit(() -> true);
+
+        // when
+        Future<String> overflow = portfolioPageExecutor.submit(() -> Thread.currentThread().getName());
+
+        release.countDown();
+
+        // then
+        assertThat(portfolioPageExecutor.get(overflow)).isEqualTo(Thread.currentThread().getName());
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
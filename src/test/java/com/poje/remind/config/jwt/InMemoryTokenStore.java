@@ -0,0 +1,98 @@
+package com.poje.remind.config.jwt;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테스트용 메모리 토큰 저장소 (Redis 없이 TokenStore 사용하는 코드 테스트)
+ * 메서드 단위로 동기화해서 Redis 스크립트처럼 작업 하나를 원자적으로 처리
+ */
+public class InMemoryTokenStore implements TokenStore {
+
+    // loginId -> refresh token id (jti) -> 만료 시간
+    private final Map<String, Map<String, Long>> refreshTokenMap = new HashMap<>();
+
+    // loginId -> 이전 방식 refresh token 원문
+    private final Map<String, String> legacyRefreshTokenMap = new HashMap<>();
+
+    // 토큰 id 해시 -> 만료 시간
+    private final Map<String, Long> revokedMap = new HashMap<>();
+
+    @Override
+    public synchronized void saveRefreshToken(String loginId, String tokenId, long expiresAt) {
+        long now = System.currentTimeMillis();
+
+        Map<String, Long> tokenMap = refreshTokenMap.computeIfAbsent(loginId, id -> new HashMap<>());
+        tokenMap.values().removeIf(exp -> exp <= now);
+        tokenMap.put(tokenId, expiresAt);
+    }
+
+    @Override
+    public synchronized boolean rotateRefreshToken(String loginId, String usedTokenId, String tokenId, long expiresAt) {
+        Map<String, Long> tokenMap = refreshTokenMap.get(loginId);
+        if(tokenMap == null || tokenMap.remove(usedTokenId) == null) {
+            return false;
+        }
+
+        saveRefreshToken(loginId, tokenId, expiresAt);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean rotateLegacyRefreshToken(String loginId, String usedRefreshToken, String tokenId, long expiresAt) {
+        if(!usedRefreshToken.equals(legacyRefreshTokenMap.get(loginId))) {
+            return false;
+        }
+
+        legacyRefreshTokenMap.remove(loginId);
+        saveRefreshToken(loginId, tokenId, expiresAt);
+        return true;
+    }
+
+    @Override
+    public synchronized void logout(String loginId, String tokenHash, long expiresAt) {
+        refreshTokenMap.remove(loginId);
+        legacyRefreshTokenMap.remove(loginId);
+
+        if(expiresAt > System.currentTimeMillis()) {
+            revokedMap.put(tokenHash, expiresAt);
+        }
+    }
+
+    @Override
+    public synchronized boolean isRevoked(String tokenHash) {
+        Long expiresAt = revokedMap.get(tokenHash);
+
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized Map<String, Long> findRevokedTokens(long now) {
+        revokedMap.values().removeIf(expiresAt -> expiresAt <= now);
+
+        return new HashMap<>(revokedMap);
+    }
+
+    /**
+     * 이전 방식(loginId key)으로 저장된 refresh token 추가
+     */
+    public synchronized void putLegacyRefreshToken(String loginId, String refreshToken) {
+        legacyRefreshTokenMap.put(loginId, refreshToken);
+    }
+
+    /**
+     * 저장된 토큰 모두 삭제
+     */
+    public synchronized void clear() {
+        refreshTokenMap.clear();
+        legacyRefreshTokenMap.clear();
+        revokedMap.clear();
+    }
+
+    /**
+     * 회원의 refresh token id 목록
+     */
+    public synchronized Map<String, Long> findRefreshTokens(String loginId) {
+        return new HashMap<>(refreshTokenMap.getOrDefault(loginId, Map.of()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.poje.remind.config.jwt;
+
+import com.poje.remind.config.CurrentMember;
+import com.poje.remind.domain.Member.RoleType;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "VlwEyVBsYt9V7zq57TejMnVUyzblYcfPQye08f7MGVA9XkHa";
+    private static final String OTHER_SECRET = "c2VjcmV0LWtleS1mb3Itb3RoZXItc2VydmVyLXRlc3QtMTIzNDU2Nzg5MA==";
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET);
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번의 검증으로 클레임과 인증 객체를 반환")
+    void verifyValidToken() {
+        // given
+        TokenDTO tokenDTO = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                "testId001", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        // when
+        TokenVerification verification = tokenProvider.verify(tokenDTO.getAccessToken());
+        Authentication authentication = tokenProvider.getAuthentication(verification.getClaims());
+
+        // then
+        assertThat(verification.isValid()).isTrue();
+        assertThat(authentication.getName()).isEqualTo("testId001");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(verification.getClaims().getId()).isEqualTo(tokenProvider.getTokenId(tokenDTO.getAccessToken()));
+        assertThat(tokenProvider.getTokenId(tokenDTO.getAccessToken())).isNotEqualTo(tokenProvider.getTokenId(tokenDTO.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("회원 id 를 담은 토큰은 회원 조회 없이 CurrentMember 인증 객체를 반환")
+    void authenticationWithMemberId() {
+        // given
+        CurrentMember currentMember = new CurrentMember(7L, "testId001", "", RoleType.ROLE_USER);
+        TokenDTO tokenDTO = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                currentMember, "", currentMember.getAuthorities()));
+
+        String legacyToken = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                "testId001", "", AuthorityUtils.createAuthorityList("ROLE_USER"))).getAccessToken();
+
+        // when
+        CurrentMember principal = (CurrentMember) tokenProvider.getAuthentication(tokenDTO.getAccessToken()).getPrincipal();
+        CurrentMember legacyPrincipal = (CurrentMember) tokenProvider.getAuthentication(legacyToken).getPrincipal();
+
+        // then
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getLoginId()).isEqualTo("testId001");
+        assertThat(principal.getRole()).isEqualTo(RoleType.ROLE_USER);
+        assertThat(legacyPrincipal.getId()).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 만료 사유와 클레임을 반환")
+    void verifyExpiredToken() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("testId001")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        TokenVerification verification = tokenProvider.verify(token);
+
+        // then
+        assertThat(verification.getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+        assertThat(verification.getClaims().getSubject()).isEqualTo("testId001");
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명되었거나 형식이 잘못된 토큰은 유효하지 않음")
+    void verifyInvalidToken() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("testId001")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(OTHER_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        TokenVerification verification = tokenProvider.verify(token);
+
+        // then
+        assertThat(verification.getStatus()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(verification.getClaims()).isNull();
+        assertThat(tokenProvider.verify("not.a.token").getStatus()).isEqualTo(TokenVerification.Status.INVALID);
+        assertThat(tokenProvider.verify("").getStatus()).isEqualTo(TokenVerification.Status.EMPTY);
+    }
+}
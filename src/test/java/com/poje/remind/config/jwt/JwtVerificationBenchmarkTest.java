@@ -0,0 +1,104 @@
+package com.poje.remind.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.security.Key;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청마다 파서를 두 번 생성해 두 번 파싱하던 방식, 미리 만든 파서로 한 번만 파싱하는 방식,
+ * 검증된 토큰 캐시에서 인증 객체를 만드는 방식 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET = "VlwEyVBsYt9V7zq57TejMnVUyzblYcfPQye08f7MGVA9XkHa";
+    private static final int WARM_UP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET);
+    private final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10_000);
+
+    @Test
+    @DisplayName("요청 당 토큰 검증 + 인증 객체 생성 시간 비교")
+    void compareVerification() {
+        // given
+        String accessToken = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                "benchmark", "", AuthorityUtils.createAuthorityList("ROLE_USER"))).getAccessToken();
+
+        // when
+        double twoParses = measure(accessToken, this::authenticateWithTwoParses);
+        double singleParse = measure(accessToken, this::authenticateWithSingleParse);
+        double cached = measure(accessToken, this::authenticateWithCache);
+
+        // then
+        System.out.printf("[jwt verification] new parser + parse twice: %.3f us/request%n", twoParses);
+        System.out.printf("[jwt verification] shared parser + parse once: %.3f us/request%n", singleParse);
+        System.out.printf("[jwt verification] verified token cache: %.3f us/request (hit rate %.4f)%n", cached, verifiedTokenCache.getStats().getHitRate());
+
+        assertThat(authenticateWithSingleParse(accessToken).getName()).isEqualTo("benchmark");
+        assertThat(authenticateWithCache(accessToken).getName()).isEqualTo("benchmark");
+    }
+
+    // 이전 방식: validateToken 과 getAuthentication 이 각각 파서를 만들어 서명 검증과 파싱을 반복
+    private Authentication authenticateWithTwoParses(String token) {
+        Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token);
+
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+
+        return tokenProvider.getAuthentication(claims);
+    }
+
+    private Authentication authenticateWithSingleParse(String token) {
+        TokenVerification verification = tokenProvider.verify(token);
+
+        return tokenProvider.getAuthentication(verification.getClaims());
+    }
+
+    private Authentication authenticateWithCache(String token) {
+        VerifiedTokenCache.VerifiedToken verifiedToken = verifiedTokenCache.get(token);
+
+        if(verifiedToken == null) {
+            Claims claims = tokenProvider.verify(token).getClaims();
+            Authentication authentication = tokenProvider.getAuthentication(claims);
+
+            verifiedTokenCache.put(token, claims.getId(), claims.getExpiration().getTime(), authentication);
+            return authentication;
+        }
+
+        return verifiedToken.toAuthentication();
+    }
+
+    private double measure(String token, Function<String, Authentication> authenticator) {
+        // warm up
+        for(int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            authenticator.apply(token);
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < ITERATIONS; i++) {
+            authenticator.apply(token);
+        }
+
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,103 @@
+package com.poje.remind.config.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RevokedTokenCacheTest {
+
+    private InMemoryTokenStore tokenStore;
+
+    private RevokedTokenCache revokedTokenCache;
+
+    private final long expiresAt = System.currentTimeMillis() + 60_000;
+
+    @BeforeEach
+    void setup() {
+        tokenStore = spy(new InMemoryTokenStore());
+
+        revokedTokenCache = new RevokedTokenCache(tokenStore, 1_000, 100);
+    }
+
+    @Test
+    @DisplayName("캐시 로딩 전에는 토큰 저장소로 로그아웃 여부 확인")
+    void isRevokedBeforeWarmUp() {
+        // given
+        tokenStore.logout("testId001", RevokedTokenCache.hash("access-jti"), expiresAt);
+
+        // then
+        assertThat(revokedTokenCache.isRevoked("access-jti")).isTrue();
+        verify(tokenStore, times(1)).isRevoked(anyString());
+    }
+
+    @Test
+    @DisplayName("캐시 로딩 후에는 로그아웃하지 않은 토큰을 토큰 저장소 조회 없이 통과")
+    void isRevokedAfterWarmUp() {
+        // given
+        revokedTokenCache.warmUp();
+
+        // when
+        boolean revoked = revokedTokenCache.isRevoked("access-jti");
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(tokenStore, never()).isRevoked(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃은 토큰 저장소에 한 번에 요청하고 로컬에서 바로 확인")
+    void revoke() {
+        // given
+        revokedTokenCache.warmUp();
+        tokenStore.saveRefreshToken("testId001", "refresh-jti", expiresAt);
+
+        // when
+        revokedTokenCache.revoke("testId001", "access-jti", expiresAt);
+
+        // then
+        verify(tokenStore, times(1)).logout("testId001", RevokedTokenCache.hash("access-jti"), expiresAt);
+        assertThat(tokenStore.findRefreshTokens("testId001")).isEmpty();
+        assertThat(revokedTokenCache.isRevoked("access-jti")).isTrue();
+        verify(tokenStore, never()).isRevoked(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 전파된 로그아웃과 서버 시작 시 불러온 로그아웃 반영")
+    void onMessageAndWarmUp() {
+        // given
+        tokenStore.logout("testId001", RevokedTokenCache.hash("old-jti"), expiresAt);
+        tokenStore.logout("testId002", RevokedTokenCache.hash("expired-jti"), System.currentTimeMillis() - 1);
+
+        revokedTokenCache.warmUp();
+
+        // when
+        String body = RevokedTokenCache.hash("access-jti") + ":" + expiresAt;
+        revokedTokenCache.onMessage(new DefaultMessage(RevokedTokenCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(revokedTokenCache.isRevoked("access-jti")).isTrue();
+        assertThat(revokedTokenCache.isRevoked("old-jti")).isTrue();
+        verify(tokenStore, times(1)).findRevokedTokens(anyLong());
+    }
+
+    @Test
+    @DisplayName("exact set 이 가득 차면 Bloom filter 에 걸린 토큰만 토큰 저장소로 확인")
+    void isRevokedOverExactMaxSize() {
+        // given
+        revokedTokenCache = new RevokedTokenCache(tokenStore, 1_000, 0);
+        revokedTokenCache.warmUp();
+        revokedTokenCache.revoke("testId001", "access-jti", expiresAt);
+
+        // then
+        assertThat(revokedTokenCache.isRevoked("access-jti")).isTrue();
+        verify(tokenStore, times(1)).isRevoked(anyString());
+    }
+}
@@ -0,0 +1,40 @@
+package com.poje.remind.config.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 해시는 항상 포함되고, 추가하지 않은 해시의 오탐률은 설정값 근처")
+    void mightContain() {
+        // given
+        int insertions = 10_000;
+        TokenBloomFilter bloomFilter = new TokenBloomFilter(insertions, 0.01);
+        Random random = new Random(42);
+
+        long[][] hashList = new long[insertions][];
+        for(int i = 0; i < insertions; i++) {
+            hashList[i] = new long[]{random.nextLong(), random.nextLong()};
+            bloomFilter.put(hashList[i][0], hashList[i][1]);
+        }
+
+        // when
+        int falsePositive = 0;
+        for(int i = 0; i < insertions; i++) {
+            if(bloomFilter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositive++;
+            }
+        }
+
+        // then
+        for(long[] hash : hashList) {
+            assertThat(bloomFilter.mightContain(hash[0], hash[1])).isTrue();
+        }
+        assertThat(falsePositive).isLessThan(insertions * 3 / 100);
+    }
+}
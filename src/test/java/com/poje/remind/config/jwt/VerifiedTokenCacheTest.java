@@ -0,0 +1,90 @@
+package com.poje.remind.config.jwt;
+
+import com.poje.remind.config.CurrentMember;
+import com.poje.remind.domain.Member.RoleType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private final long expiresAt = System.currentTimeMillis() + 60_000;
+
+    @BeforeEach
+    void setup() {
+        verifiedTokenCache = new VerifiedTokenCache(10);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 요청마다 새 인증 객체로 반환")
+    void get() {
+        // given
+        verifiedTokenCache.put("AccessToken", "access-jti", expiresAt, authentication(1L));
+
+        // when
+        VerifiedTokenCache.VerifiedToken verifiedToken = verifiedTokenCache.get("AccessToken");
+
+        // then
+        assertThat(verifiedToken.getTokenId()).isEqualTo("access-jti");
+
+        Authentication authentication = verifiedToken.toAuthentication();
+        assertThat(((CurrentMember) authentication.getPrincipal()).getId()).isEqualTo(1L);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(authentication).isNotSameAs(verifiedToken.toAuthentication());
+        assertThat(verifiedTokenCache.get("AnotherAccessToken")).isNull();
+
+        VerifiedTokenCache.Stats stats = verifiedTokenCache.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 로그아웃한 토큰은 반환하지 않음")
+    void getExpiredAndRemoved() {
+        // given
+        verifiedTokenCache.put("ExpiredAccessToken", "expired-jti", System.currentTimeMillis() - 1, authentication(1L));
+        verifiedTokenCache.put("AccessToken", "access-jti", expiresAt, authentication(1L));
+
+        // when
+        verifiedTokenCache.remove("AccessToken");
+
+        // then
+        assertThat(verifiedTokenCache.get("ExpiredAccessToken")).isNull();
+        assertThat(verifiedTokenCache.get("AccessToken")).isNull();
+        assertThat(verifiedTokenCache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 차면 최근 조회되지 않은 토큰부터 제거")
+    void evict() {
+        // given
+        for(int i = 0; i < 10; i++) {
+            verifiedTokenCache.put("AccessToken" + i, "access-jti" + i, expiresAt, authentication((long) i));
+        }
+
+        verifiedTokenCache.get("AccessToken0");
+
+        // when
+        verifiedTokenCache.put("AccessToken10", "access-jti10", expiresAt, authentication(10L));
+
+        // then
+        assertThat(verifiedTokenCache.get("AccessToken0")).isNotNull();
+        assertThat(verifiedTokenCache.get("AccessToken1")).isNull();
+        assertThat(verifiedTokenCache.get("AccessToken10")).isNotNull();
+        assertThat(verifiedTokenCache.getStats().getSize()).isEqualTo(10);
+        assertThat(verifiedTokenCache.getStats().getEvictionCount()).isEqualTo(1);
+    }
+
+    private Authentication authentication(Long memberId) {
+        CurrentMember principal = new CurrentMember(memberId, "testId00" + memberId, "", RoleType.ROLE_USER);
+
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+}
@@ -0,0 +1,107 @@
+package com.poje.remind.controller.image;
+
+import com.poje.remind.domain.image.ImageVariant;
+import com.poje.remind.service.image.ImageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WithMockUser
+@WebMvcTest(ImageController.class)
+class ImageControllerTest {
+
+    private static final String IMAGE_ID = "a".repeat(64);
+    private static final byte[] CONTENT = "0123456789".getBytes();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    ImageService imageService;
+
+    @MockBean
+    BCryptPasswordEncoder passwordEncoder;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        Path imagePath = Files.write(tempDir.resolve(IMAGE_ID), CONTENT);
+
+        given(imageService.getImageFile(IMAGE_ID))
+                .willReturn(new ImageService.ImageFile(imagePath, "image/png", CONTENT.length, IMAGE_ID, true));
+    }
+
+    @Test
+    @DisplayName("이미지 조회 테스트")
+    void getImage() throws Exception {
+        mockMvc.perform(get("/images/{image_id}", IMAGE_ID)
+                ).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + IMAGE_ID + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    @DisplayName("이미지 Range 조회 테스트")
+    void getImageRange() throws Exception {
+        mockMvc.perform(get("/images/{image_id}", IMAGE_ID)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                ).andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().bytes("2345".getBytes()));
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 304 응답")
+    void getImageNotModified() throws Exception {
+        mockMvc.perform(get("/images/{image_id}", IMAGE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + IMAGE_ID + "\"")
+                ).andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("이미지 크기를 벗어난 Range 는 416 응답")
+    void getImageInvalidRange() throws Exception {
+        mockMvc.perform(get("/images/{image_id}", IMAGE_ID)
+                        .header(HttpHeaders.RANGE, "bytes=20-30")
+                ).andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @DisplayName("축소본이 아직 없으면 원본으로 응답하고 캐시는 재검증")
+    void getImageVariantNotReady() throws Exception {
+        // given
+        Path imagePath = tempDir.resolve(IMAGE_ID);
+        given(imageService.getImageFile(IMAGE_ID, ImageVariant.CARD))
+                .willReturn(new ImageService.ImageFile(imagePath, "image/png", CONTENT.length, IMAGE_ID, false));
+
+        // when
+        mockMvc.perform(get("/images/{image_id}/{variant}", IMAGE_ID, "card")
+                ).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + IMAGE_ID + "\""))
+                .andExpect(content().bytes(CONTENT));
+    }
+}
@@ -134,7 +134,7 @@ class MemberControllerTest {
                 .build();
 
         MemberDTO.UpdateReq updateReq = new MemberDTO.UpdateReq("newNickName", "test@test.com", "01012345678", "Female",
-                "240422", "hanshin university", "computer", "github", "blog");
+                "240422", "hanshin university", "computer", "github", "blog", null);
 
         given(memberService.updateMember(any(MemberDTO.UpdateReq.class))).willReturn(memberResp);
 
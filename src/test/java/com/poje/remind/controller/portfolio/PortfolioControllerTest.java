@@ -10,7 +10,10 @@ import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
 import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
+import com.poje.remind.domain.portfolio.dto.PortfolioSkillDTO;
+import com.poje.remind.service.portfolio.PortfolioPageService;
 import com.poje.remind.service.portfolio.PortfolioService;
+import com.poje.remind.service.portfolio.PortfolioSnapshotService;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,12 +23,14 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -49,6 +54,12 @@ class PortfolioControllerTest {
     @MockBean
     PortfolioService portfolioService;
 
+    @MockBean
+    PortfolioPageService portfolioPageService;
+
+    @MockBean
+    PortfolioSnapshotService portfolioSnapshotService;
+
     @MockBean
     BCryptPasswordEncoder passwordEncoder;
 
@@ -123,12 +134,14 @@ class PortfolioControllerTest {
             String keyword = "포트폴리오";
             Integer page = 1;
 
-            List<Portfolio> portfolioList = List.of(portfolio);
+            List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList = List.of(new PortfolioDTO.PortfolioAndMemberResp(
+                    portfolio.getId(), portfolio.getTitle(), portfolio.getDescription(), portfolio.getBackgroundImg(),
+                    member.getNickName(), member.getProfileImg(), 0, portfolio.getCreatedDate()));
             PagingDTO pagingDTO = new PagingDTO(page);
-            PagingUtil pagingUtil = new PagingUtil(job.getPortfolioList().size(), pagingDTO);
+            PagingUtil pagingUtil = new PagingUtil(portfolioAndMemberRespList.size(), pagingDTO);
 
             PortfolioDTO.PortfolioAndMemberListResp portfolioAndMemberListResp = PortfolioDTO.PortfolioAndMemberListResp.builder()
-                    .portfolioList(portfolioList)
+                    .portfolioAndMemberRespList(portfolioAndMemberRespList)
                     .pagingUtil(pagingUtil)
                     .build();
 
@@ -180,14 +193,81 @@ class PortfolioControllerTest {
             verify(portfolioService).getPortfolioAboutMe(anyLong());
         }
 
+        @Test
+        @DisplayName("포트폴리오 전체 페이지 조회 테스트")
+        void getPortfolioFull() throws Exception {
+            // given
+            Long portfolioId = 1L;
+
+            PortfolioDTO.PortfolioFullResp portfolioFullResp = PortfolioDTO.PortfolioFullResp.builder()
+                    .portfolio(PortfolioDTO.PortfolioInfoResp.builder()
+                            .portfolio(portfolio)
+                            .likeStatus(true)
+                            .build())
+                    .aboutMe(PortfolioDTO.PortfolioAboutMeResp.builder()
+                            .portfolio(portfolio)
+                            .build())
+                    .skills(List.of(new PortfolioSkillDTO.PortfolioSKillResp(1L, "Spring", "스킬 경로")))
+                    .awards(List.of())
+                    .projects(List.of())
+                    .build();
+
+            given(portfolioPageService.getPortfolioFull(anyLong())).willReturn(portfolioFullResp);
+
+            // when
+            mockMvc.perform(get("/portfolio/{portfolio_id}/full", portfolioId)
+                    ).andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code").value(HttpStatus.OK.value()))
+                    .andExpect(jsonPath("$.message").value("포트폴리오 전체 정보 반환"))
+                    .andExpect(jsonPath("$.result.portfolio.title").value("포트폴리오 title"))
+                    .andExpect(jsonPath("$.result.portfolio.likeStatus").value(true))
+                    .andExpect(jsonPath("$.result.aboutMe.nickName").value("tester01"))
+                    .andExpect(jsonPath("$.result.skills.[0].name").value("Spring"))
+                    .andExpect(jsonPath("$.result.awards").isEmpty())
+                    .andExpect(jsonPath("$.result.projects").isEmpty())
+                    .andDo(print());
+
+            // then
+            verify(portfolioPageService).getPortfolioFull(anyLong());
+        }
+
+        @Test
+        @DisplayName("포트폴리오 스냅샷 조회 테스트")
+        void getPortfolioSnapshot() throws Exception {
+            // given
+            Long portfolioId = 1L;
+            byte[] content = "{\"title\":\"포트폴리오 title\",\"skills\":[]}".getBytes(StandardCharsets.UTF_8);
+
+            given(portfolioSnapshotService.getSnapshot(anyLong())).willReturn(new PortfolioSnapshotService.Snapshot(content, 3L));
+
+            // when
+            mockMvc.perform(get("/portfolio/{portfolio_id}/snapshot", portfolioId)
+                    ).andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                    .andExpect(jsonPath("$.code").value(HttpStatus.OK.value()))
+                    .andExpect(jsonPath("$.message").value("포트폴리오 스냅샷 반환"))
+                    .andExpect(jsonPath("$.result.title").value("포트폴리오 title"))
+                    .andExpect(jsonPath("$.result.skills").isEmpty())
+                    .andDo(print());
+
+            mockMvc.perform(get("/portfolio/{portfolio_id}/snapshot", portfolioId)
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\"")
+                    ).andExpect(status().isNotModified());
+
+            // then
+            verify(portfolioSnapshotService, Mockito.times(2)).getSnapshot(anyLong());
+        }
+
         @Test
         @DisplayName("사용자 포트폴리오 목록 조회 테스트")
         void getMemberPortfolioList() throws Exception {
             // given
-            List<Portfolio> portfolioList = List.of(portfolio);
+            List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList = List.of(new PortfolioDTO.PortfolioAndMemberResp(
+                    portfolio.getId(), portfolio.getTitle(), portfolio.getDescription(), portfolio.getBackgroundImg(),
+                    member.getNickName(), member.getProfileImg(), 0, portfolio.getCreatedDate()));
 
             PortfolioDTO.PortfolioAndMemberListResp portfolioAndMemberListResp = PortfolioDTO.PortfolioAndMemberListResp.builder()
-                    .portfolioList(portfolioList)
+                    .portfolioAndMemberRespList(portfolioAndMemberRespList)
                     .build();
 
             given(portfolioService.getMemberPortfolioList()).willReturn(portfolioAndMemberListResp);
@@ -214,7 +294,7 @@ class PortfolioControllerTest {
             // given
             Long portfolioId = 1L;
 
-            PortfolioDTO.UpdateReq updateReq = new PortfolioDTO.UpdateReq("수정된 제목", "수정된 설명");
+            PortfolioDTO.UpdateReq updateReq = new PortfolioDTO.UpdateReq("수정된 제목", "수정된 설명", null);
 
             PortfolioDTO.PortfolioInfoResp portfolioInfoResp = PortfolioDTO.PortfolioInfoResp.builder()
                     .portfolio(portfolio)
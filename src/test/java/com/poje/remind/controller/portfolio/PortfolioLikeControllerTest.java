@@ -102,12 +102,14 @@ class PortfolioLikeControllerTest {
                 .job(job)
                 .build();
 
-        List<Portfolio> portfolioList = List.of(portfolio);
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioAndMemberRespList = List.of(new PortfolioDTO.PortfolioAndMemberResp(
+                portfolio.getId(), portfolio.getTitle(), portfolio.getDescription(), portfolio.getBackgroundImg(),
+                member.getNickName(), member.getProfileImg(), 0, portfolio.getCreatedDate()));
         PagingDTO pagingDTO = new PagingDTO(page);
-        PagingUtil pagingUtil = new PagingUtil(job.getPortfolioList().size(), pagingDTO);
+        PagingUtil pagingUtil = new PagingUtil(portfolioAndMemberRespList.size(), pagingDTO);
 
         PortfolioDTO.PortfolioAndMemberListResp portfolioAndMemberListResp = PortfolioDTO.PortfolioAndMemberListResp.builder()
-                .portfolioList(portfolioList)
+                .portfolioAndMemberRespList(portfolioAndMemberRespList)
                 .pagingUtil(pagingUtil)
                 .build();
 
@@ -0,0 +1,53 @@
+package com.poje.remind.repository.image;
+
+import com.poje.remind.domain.image.StoredImage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(StoredImageRepositoryTest.TestConfig.class)
+class StoredImageRepositoryTest {
+
+    @TestConfiguration
+    public static class TestConfig {
+        @Bean
+        public StoredImageRepository storedImageRepository(EntityManager em, JdbcTemplate jdbcTemplate) {
+            return new StoredImageRepository(em, jdbcTemplate);
+        }
+    }
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @Test
+    @DisplayName("이미 저장된 이미지를 다시 저장하면 예외 없이 무시")
+    void saveIfAbsentDuplicate() {
+        // given
+        String imageId = "a".repeat(64);
+        StoredImage storedImage = StoredImage.builder()
+                .id(imageId)
+                .contentType("image/png")
+                .size(16)
+                .build();
+
+        // when
+        int firstCount = storedImageRepository.saveIfAbsent(storedImage);
+        int secondCount = storedImageRepository.saveIfAbsent(storedImage);
+
+        // then
+        assertThat(firstCount).isEqualTo(1);
+        assertThat(secondCount).isZero();
+        assertThat(storedImageRepository.findExistingIdList(List.of(imageId))).containsExactly(imageId);
+    }
+}
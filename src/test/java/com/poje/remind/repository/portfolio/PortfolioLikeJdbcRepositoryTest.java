@@ -0,0 +1,157 @@
+package com.poje.remind.repository.portfolio;
+
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.dto.PortfolioLikeDTO;
+import com.poje.remind.repository.ability.JobRepository;
+import com.poje.remind.repository.member.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PortfolioLikeJdbcRepositoryTest.TestConfig.class)
+class PortfolioLikeJdbcRepositoryTest {
+
+    @TestConfiguration
+    public static class TestConfig {
+        @Bean
+        public PortfolioRepository portfolioRepository(EntityManager em) {
+            return new PortfolioRepository(em);
+        }
+
+        @Bean
+        public PortfolioLikeJdbcRepository portfolioLikeJdbcRepository(JdbcTemplate jdbcTemplate) {
+            return new PortfolioLikeJdbcRepository(jdbcTemplate);
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private PortfolioLikeJdbcRepository portfolioLikeJdbcRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private Member member;
+    private Portfolio portfolio;
+
+    @BeforeEach
+    void setup() {
+        member = memberRepository.save(Member.builder()
+                .loginId("testId001")
+                .nickName("tester001")
+                .role(RoleType.ROLE_USER)
+                .build());
+
+        Job job = jobRepository.save(Job.builder()
+                .name("개발자")
+                .build());
+
+        portfolio = Portfolio.builder()
+                .title("포트폴리오 title")
+                .description("포트폴리오 description")
+                .backgroundImg("포트폴리오 IMG")
+                .writer(member)
+                .job(job)
+                .build();
+
+        portfolioRepository.save(portfolio);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("좋아요 일괄 추가는 다시 반영되어도 중복 저장되지 않음")
+    void insertAllIdempotent() {
+        // given
+        List<PortfolioLikeDTO.LikeChange> changeList = List.of(new PortfolioLikeDTO.LikeChange(portfolio.getId(), member.getId(), true));
+
+        // when
+        portfolioLikeJdbcRepository.insertAll(changeList);
+        portfolioLikeJdbcRepository.insertAll(changeList);
+        portfolioLikeJdbcRepository.refreshLikeCount(Set.of(portfolio.getId()));
+
+        // then
+        assertThat(portfolioLikeJdbcRepository.findMemberIdList(portfolio.getId())).containsExactly(member.getId());
+        assertThat(portfolioRepository.findLikeCountById(portfolio.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 포트폴리오의 좋아요는 추가되지 않음")
+    void insertAllSkipDeletedPortfolio() {
+        // when
+        portfolioLikeJdbcRepository.insertAll(List.of(new PortfolioLikeDTO.LikeChange(-1L, member.getId(), true)));
+
+        // then
+        assertThat(portfolioLikeJdbcRepository.findMemberIdList(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 일괄 삭제 테스트")
+    void deleteAll() {
+        // given
+        List<PortfolioLikeDTO.LikeChange> insertList = List.of(new PortfolioLikeDTO.LikeChange(portfolio.getId(), member.getId(), true));
+        List<PortfolioLikeDTO.LikeChange> deleteList = List.of(new PortfolioLikeDTO.LikeChange(portfolio.getId(), member.getId(), false));
+
+        portfolioLikeJdbcRepository.insertAll(insertList);
+
+        // when
+        portfolioLikeJdbcRepository.deleteAll(deleteList);
+        portfolioLikeJdbcRepository.refreshLikeCount(Set.of(portfolio.getId()));
+
+        // then
+        assertThat(portfolioLikeJdbcRepository.findMemberIdList(portfolio.getId())).isEmpty();
+        assertThat(portfolioRepository.findLikeCountById(portfolio.getId())).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 목록 중 회원이 좋아요 누른 포트폴리오 id 조회 테스트")
+    void findLikedPortfolioIds() {
+        // given
+        portfolioLikeJdbcRepository.insert(portfolio.getId(), member.getId());
+
+        // when
+        Set<Long> likedPortfolioIds = portfolioLikeJdbcRepository.findLikedPortfolioIds(member.getId(), List.of(portfolio.getId(), -1L));
+
+        // then
+        assertThat(likedPortfolioIds).containsExactly(portfolio.getId());
+        assertThat(portfolioLikeJdbcRepository.findLikedPortfolioIds(member.getId(), List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원이 좋아요 누른 포트폴리오 수 조회 테스트")
+    void countByMemberId() {
+        // given
+        portfolioLikeJdbcRepository.insert(portfolio.getId(), member.getId());
+
+        // when
+        int count = portfolioLikeJdbcRepository.countByMemberId(member.getId());
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(portfolioLikeJdbcRepository.countByMemberId(-1L)).isEqualTo(0);
+    }
+}
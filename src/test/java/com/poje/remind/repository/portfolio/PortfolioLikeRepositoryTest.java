@@ -1,5 +1,6 @@
 package com.poje.remind.repository.portfolio;
 
+import com.poje.remind.config.JpaAuditingConfig;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
@@ -24,7 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
-@Import(PortfolioRepositoryTest.TestConfig.class)
+@Import({PortfolioRepositoryTest.TestConfig.class, JpaAuditingConfig.class})
 class PortfolioLikeRepositoryTest {
 
     @PersistenceContext
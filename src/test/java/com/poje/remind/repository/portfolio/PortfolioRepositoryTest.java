@@ -1,10 +1,13 @@
 package com.poje.remind.repository.portfolio;
 
+import com.poje.remind.common.PagingCursor;
+import com.poje.remind.config.JpaAuditingConfig;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
 import com.poje.remind.domain.portfolio.Like;
 import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
 import com.poje.remind.repository.ability.JobRepository;
 import com.poje.remind.repository.member.MemberRepository;
 import jakarta.persistence.EntityManager;
@@ -27,7 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
-@Import(PortfolioRepositoryTest.TestConfig.class)
+@Import({PortfolioRepositoryTest.TestConfig.class, JpaAuditingConfig.class})
 public class PortfolioRepositoryTest {
 
     @TestConfiguration
@@ -163,8 +166,8 @@ public class PortfolioRepositoryTest {
     }
 
     @Test
-    @DisplayName("직무와 키워드로 포트폴리오 찾기 테스트")
-    void findPortfolioWithJobAndKeyword() {
+    @DisplayName("직무 별 포트폴리오 수 조회 테스트")
+    void countByJobId() {
         // given
         Portfolio portfolio1 = Portfolio.builder()
                 .title("포트폴리오 title 01")
@@ -174,39 +177,19 @@ public class PortfolioRepositoryTest {
                 .job(job)
                 .build();
 
-        Portfolio portfolio2 = Portfolio.builder()
-                .title("포트폴리오 title 02")
-                .description("포트폴리오 description 02")
-                .backgroundImg("포트폴리오 IMG 02")
-                .writer(member)
-                .job(job)
-                .build();
-
-        Portfolio portfolio3 = Portfolio.builder()
-                .title("포트폴리오 title 03")
-                .description("포트폴리오 description 03")
-                .backgroundImg("포트폴리오 IMG 03")
-                .writer(member)
-                .job(job)
-                .build();
-
         portfolioRepository.save(portfolio1);
-        portfolioRepository.save(portfolio2);
-        portfolioRepository.save(portfolio3);
-
         em.flush();
 
         // when
-        List<Portfolio> portfolioList = portfolioRepository.findPortfolioWithJobAndKeyword(job, "포트폴리오", 2);
+        Long count = portfolioRepository.countByJobId(job.getId());
 
         // then
-        assertThat(portfolioList).hasSize(2);
-        assertThat(portfolioList).extracting("title").containsExactlyInAnyOrder("포트폴리오 title 02", "포트폴리오 title 03");
+        assertThat(count).isEqualTo(2L);
     }
 
     @Test
-    @DisplayName("사용자가 좋아요 누른 포트폴리오 찾기 테스트")
-    void findPortfolioWhichMemberLike() {
+    @DisplayName("검색 색인용 포트폴리오 문서 찾기 테스트")
+    void findSearchDocuments() {
         // given
         Portfolio portfolio1 = Portfolio.builder()
                 .title("포트폴리오 title 01")
@@ -229,38 +212,141 @@ public class PortfolioRepositoryTest {
 
         em.flush();
 
-        Like like1 = Like.builder()
+        // when
+        List<Object[]> documentList = portfolioRepository.findAllSearchDocuments();
+        Optional<Object[]> document = portfolioRepository.findSearchDocument(portfolio2.getId());
+
+        // then
+        assertThat(documentList).hasSize(3);
+        assertThat(documentList.get(0)[1]).isEqualTo(job.getId());
+        assertThat(document).isPresent();
+        assertThat(document.get()[2]).isEqualTo("포트폴리오 title 02");
+        assertThat(portfolioRepository.findSearchDocument(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 직무 별 포트폴리오 찾기 테스트")
+    void findPortfolioWithJobAfterCursor() {
+        // given
+        for(int i = 1; i <= 3; i++) {
+            portfolioRepository.save(Portfolio.builder()
+                    .title("포트폴리오 title 0" + i)
+                    .description("포트폴리오 description 0" + i)
+                    .backgroundImg("포트폴리오 IMG 0" + i)
+                    .writer(member)
+                    .job(job)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<PortfolioDTO.PortfolioAndMemberResp> firstPage = portfolioRepository.findPortfolioCardListWithJobAfterCursor(job.getId(), null, 2);
+
+        PortfolioDTO.PortfolioAndMemberResp last = firstPage.get(firstPage.size() - 1);
+        PagingCursor cursor = PagingCursor.decode(new PagingCursor(last.getCreatedDate(), last.getPortfolioId()).encode());
+        List<PortfolioDTO.PortfolioAndMemberResp> secondPage = portfolioRepository.findPortfolioCardListWithJobAfterCursor(job.getId(), cursor, 2);
+
+        // then
+        assertThat(firstPage).extracting("title").containsExactly("포트폴리오 title 03", "포트폴리오 title 02");
+        assertThat(secondPage).extracting("title").containsExactly("포트폴리오 title 01", "포트폴리오 title");
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 사용자가 좋아요 누른 포트폴리오를 좋아요 누른 시간 역순으로 찾기 테스트")
+    void findPortfolioWhichMemberLikeAfterCursor() {
+        // given
+        Portfolio portfolio1 = Portfolio.builder()
+                .title("포트폴리오 title 01")
+                .description("포트폴리오 description 01")
+                .backgroundImg("포트폴리오 IMG 01")
+                .writer(member)
+                .job(job)
+                .build();
+
+        portfolioRepository.save(portfolio1);
+
+        likeRepository.save(Like.builder()
                 .portfolio(portfolio)
                 .member(member)
-                .build();
+                .build());
 
-        Like like2 = Like.builder()
+        likeRepository.save(Like.builder()
                 .portfolio(portfolio1)
                 .member(member)
-                .build();
+                .build());
 
-        Like like3 = Like.builder()
-                .portfolio(portfolio2)
+        em.flush();
+        em.clear();
+
+        // when
+        List<PortfolioDTO.PortfolioAndMemberResp> firstPage = portfolioRepository.findPortfolioCardListWhichMemberLikeAfterCursor(member.getId(), null, 1);
+
+        PortfolioDTO.PortfolioAndMemberResp last = firstPage.get(0);
+        List<PortfolioDTO.PortfolioAndMemberResp> secondPage = portfolioRepository.findPortfolioCardListWhichMemberLikeAfterCursor(member.getId(), new PagingCursor(last.getCreatedDate(), last.getPortfolioId()), 1);
+
+        // then
+        assertThat(firstPage).extracting("title").containsExactly("포트폴리오 title 01");
+        assertThat(secondPage).extracting("title").containsExactly("포트폴리오 title");
+    }
+
+    @Test
+    @DisplayName("id 목록으로 작성자와 좋아요 수를 포함한 포트폴리오 카드 찾기 테스트")
+    void findPortfolioCardListByIdList() {
+        // given
+        Member liker = memberRepository.save(Member.builder()
+                .loginId("testId002")
+                .nickName("tester002")
+                .role(RoleType.ROLE_USER)
+                .build());
+
+        likeRepository.save(Like.builder()
+                .portfolio(portfolio)
                 .member(member)
-                .build();
+                .build());
+
+        likeRepository.save(Like.builder()
+                .portfolio(portfolio)
+                .member(liker)
+                .build());
 
-        likeRepository.save(like1);
-        likeRepository.save(like2);
-        likeRepository.save(like3);
+        portfolioRepository.reconcileLikeCount();
+
+        em.flush();
+        em.clear();
 
         // when
-        List<Portfolio> portfolioList = portfolioRepository.findPortfolioWhichMemberLike(member);
+        List<PortfolioDTO.PortfolioAndMemberResp> cardList = portfolioRepository.findPortfolioCardListByIdList(List.of(portfolio.getId()));
 
         // then
-        assertThat(portfolioList).hasSize(3);
-        assertThat(portfolioList.get(0).getTitle()).isEqualTo("포트폴리오 title");
-        assertThat(portfolioList.get(1).getTitle()).isEqualTo("포트폴리오 title 01");
-        assertThat(portfolioList.get(2).getTitle()).isEqualTo("포트폴리오 title 02");
+        assertThat(cardList).hasSize(1);
+        assertThat(cardList.get(0).getPortfolioId()).isEqualTo(portfolio.getId());
+        assertThat(cardList.get(0).getTitle()).isEqualTo("포트폴리오 title");
+        assertThat(cardList.get(0).getNickName()).isEqualTo(member.getNickName());
+        assertThat(cardList.get(0).getProfileImg()).isEqualTo(member.getProfileImg());
+        assertThat(cardList.get(0).getLikeCount()).isEqualTo(2);
+        assertThat(portfolioRepository.findPortfolioCardListByIdList(List.of())).isEmpty();
     }
 
     @Test
-    @DisplayName("사용자와 limit 정보로 좋아요 누른 포트폴리오 찾기 테스트")
-    void findPortfolioWhichMemberLike_limit() {
+    @DisplayName("작성자로 포트폴리오 카드 찾기 테스트")
+    void findPortfolioCardListByWriter() {
+        // given
+        em.flush();
+        em.clear();
+
+        // when
+        List<PortfolioDTO.PortfolioAndMemberResp> cardList = portfolioRepository.findPortfolioCardListByWriter(member.getId());
+
+        // then
+        assertThat(cardList).extracting("title").containsExactly("포트폴리오 title");
+        assertThat(cardList.get(0).getLikeCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("사용자와 limit 정보로 좋아요 누른 포트폴리오 카드 찾기 테스트")
+    void findPortfolioCardListWhichMemberLike() {
         // given
         Portfolio portfolio1 = Portfolio.builder()
                 .title("포트폴리오 title 01")
@@ -270,43 +356,72 @@ public class PortfolioRepositoryTest {
                 .job(job)
                 .build();
 
-        Portfolio portfolio2 = Portfolio.builder()
-                .title("포트폴리오 title 02")
-                .description("포트폴리오 description 02")
-                .backgroundImg("포트폴리오 IMG 02")
-                .writer(member)
-                .job(job)
-                .build();
-
         portfolioRepository.save(portfolio1);
-        portfolioRepository.save(portfolio2);
-
-        em.flush();
 
-        Like like1 = Like.builder()
+        likeRepository.save(Like.builder()
                 .portfolio(portfolio)
                 .member(member)
-                .build();
+                .build());
 
-        Like like2 = Like.builder()
+        likeRepository.save(Like.builder()
                 .portfolio(portfolio1)
                 .member(member)
-                .build();
+                .build());
+
+        portfolioRepository.reconcileLikeCount();
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<PortfolioDTO.PortfolioAndMemberResp> firstPage = portfolioRepository.findPortfolioCardListWhichMemberLike(member.getId(), 0);
+        List<PortfolioDTO.PortfolioAndMemberResp> cardList = portfolioRepository.findPortfolioCardListWhichMemberLike(member.getId(), 1);
+
+        // then
+        // 최근에 좋아요 누른 포트폴리오부터 조회
+        assertThat(firstPage).extracting("title").containsExactly("포트폴리오 title 01", "포트폴리오 title");
+        assertThat(cardList).extracting("title").containsExactly("포트폴리오 title");
+        assertThat(cardList.get(0).getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 증가, 감소 테스트")
+    void increaseAndDecreaseLikeCount() {
+        // when
+        portfolioRepository.increaseLikeCount(portfolio.getId());
+        portfolioRepository.increaseLikeCount(portfolio.getId());
+        portfolioRepository.decreaseLikeCount(portfolio.getId());
+
+        // then
+        assertThat(portfolioRepository.findLikeCountById(portfolio.getId())).isEqualTo(1);
+
+        portfolioRepository.decreaseLikeCount(portfolio.getId());
+        portfolioRepository.decreaseLikeCount(portfolio.getId());
 
-        Like like3 = Like.builder()
-                .portfolio(portfolio2)
+        // 0 미만으로 감소하지 않음
+        assertThat(portfolioRepository.findLikeCountById(portfolio.getId())).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("likes 테이블 기준 좋아요 수 보정 테스트")
+    void reconcileLikeCount() {
+        // given
+        likeRepository.save(Like.builder()
+                .portfolio(portfolio)
                 .member(member)
-                .build();
+                .build());
 
-        likeRepository.save(like1);
-        likeRepository.save(like2);
-        likeRepository.save(like3);
+        // likes 테이블과 어긋난 좋아요 수
+        portfolioRepository.increaseLikeCount(portfolio.getId());
+        portfolioRepository.increaseLikeCount(portfolio.getId());
+        portfolioRepository.increaseLikeCount(portfolio.getId());
 
         // when
-        List<Portfolio> portfolioList = portfolioRepository.findPortfolioWhichMemberLike(member, 1);
+        int reconciledCount = portfolioRepository.reconcileLikeCount();
 
         // then
-        assertThat(portfolioList).hasSize(2);
-        assertThat(portfolioList).extracting("title").containsExactlyInAnyOrder("포트폴리오 title 01", "포트폴리오 title 02");
+        assertThat(reconciledCount).isEqualTo(1);
+        assertThat(portfolioRepository.findLikeCountById(portfolio.getId())).isEqualTo(1);
+        assertThat(portfolioRepository.reconcileLikeCount()).isEqualTo(0);
     }
-}
\ No newline at end of file
+}
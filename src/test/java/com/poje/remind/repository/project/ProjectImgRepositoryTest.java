@@ -225,4 +225,32 @@ class ProjectImgRepositoryTest {
         ProjectImg deletedProjectImg = em.find(ProjectImg.class, projectImg.getId());
         assertThat(deletedProjectImg).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로젝트 이미지 일괄 삭제 테스트")
+    void deleteAll() {
+        // given
+        ProjectImg projectImg1 = ProjectImg.builder()
+                .url("프로젝트 이미지 url 001")
+                .project(project)
+                .build();
+
+        ProjectImg projectImg2 = ProjectImg.builder()
+                .url("프로젝트 이미지 url 002")
+                .project(project)
+                .build();
+
+        projectImgRepository.save(projectImg1);
+        projectImgRepository.save(projectImg2);
+        em.flush();
+
+        // when
+        projectImgRepository.deleteAll(List.of(projectImg1));
+        em.clear();
+
+        // then
+        List<ProjectImg> projectImgList = projectImgRepository.findAll();
+        assertThat(projectImgList).hasSize(1);
+        assertThat(projectImgList.get(0).getUrl()).isEqualTo("프로젝트 이미지 url 002");
+    }
+}
@@ -2,6 +2,7 @@ package com.poje.remind.service.ability;
 
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.License;
@@ -23,6 +24,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,6 +52,7 @@ class LicenseServiceTest {
     @BeforeEach
     void setup() {
         member = Member.builder()
+                .id(1L)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -66,7 +69,8 @@ class LicenseServiceTest {
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn(member.getLoginId());
-        
+        when(authentication.getPrincipal()).thenReturn(new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole()));
+
         SecurityContextHolder.setContext(securityContext);
     }
 
@@ -83,7 +87,7 @@ class LicenseServiceTest {
                 new LicenseDTO.CreateReq("정보처리기사", "한국산업인력공단", LocalDate.of(2022, 06, 18));
 
         // when
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
         when(licenseRepository.existsByOwnerAndName(member, createReq.getName())).thenReturn(false);
 
         licenseService.enrollLicense(createReq);
@@ -107,8 +111,9 @@ class LicenseServiceTest {
         LicenseDTO.UpdateReq updateReq = new LicenseDTO.UpdateReq("정보처리기능사", "한국산업인력공단", LocalDate.of(2020, 07, 17));
 
         // when
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
         when(licenseRepository.findByOwnerAndName(member, updateReq.getName())).thenReturn(Optional.of(license));
+        when(licenseRepository.findAllByOwner(member)).thenReturn(List.of(license));
 
         LicenseDTO.LicenseListResp licenseListResp = licenseService.updateLicense(updateReq);
 
@@ -133,7 +138,7 @@ class LicenseServiceTest {
         LicenseDTO.UpdateReq updateReq = new LicenseDTO.UpdateReq("정보처리기능사", "한국산업인력공단", LocalDate.of(2020, 07, 17));
 
         // when
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
         when(licenseRepository.findByOwnerAndName(member, license.getName())).thenReturn(Optional.empty());
 
         GlobalException exception = assertThrows(GlobalException.class, () -> {
@@ -156,7 +161,8 @@ class LicenseServiceTest {
                 .build();
 
         // when
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
+        when(licenseRepository.findAllByOwner(member)).thenReturn(List.of(license));
 
         LicenseDTO.LicenseListResp licenseListResp = licenseService.getLicenseList();
 
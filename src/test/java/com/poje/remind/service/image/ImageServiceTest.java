@@ -0,0 +1,124 @@
+package com.poje.remind.service.image;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.domain.image.StoredImage;
+import com.poje.remind.domain.image.dto.ImageDTO;
+import com.poje.remind.repository.image.StoredImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImageServiceTest {
+
+    private static final byte[] PNG = new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D, 'I', 'H', 'D', 'R'};
+
+    @TempDir
+    Path rootPath;
+
+    private StoredImageRepository storedImageRepository;
+    private ImageVariantService imageVariantService;
+    private ImageService imageService;
+
+    @BeforeEach
+    void setup() {
+        storedImageRepository = mock(StoredImageRepository.class);
+        imageVariantService = mock(ImageVariantService.class);
+        imageService = new ImageService(storedImageRepository, imageVariantService, rootPath.toString());
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 두 번 업로드하면 같은 id 로 파일 하나만 저장")
+    void uploadDuplicateImage() throws IOException {
+        // given
+        when(storedImageRepository.findById(anyString()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(StoredImage.builder().build()));
+
+        // when
+        ImageDTO.ImageUploadResp first = imageService.upload(new MockMultipartFile("image", "a.png", "image/png", PNG));
+        ImageDTO.ImageUploadResp second = imageService.upload(new MockMultipartFile("image", "b.png", "image/png", PNG));
+
+        // then
+        assertThat(second.getImageId()).isEqualTo(first.getImageId());
+        assertThat(first.getUrl()).isEqualTo("/images/" + first.getImageId());
+        verify(storedImageRepository, times(1)).saveIfAbsent(any(StoredImage.class));
+        verify(imageVariantService, times(2)).request(eq(first.getImageId()), any(Path.class), eq("image/png"));
+
+        Path imagePath = rootPath.resolve(first.getImageId().substring(0, 2)).resolve(first.getImageId());
+        assertThat(Files.readAllBytes(imagePath)).isEqualTo(PNG);
+
+        // 임시 파일은 남지 않음
+        try(Stream<Path> files = Files.walk(rootPath)) {
+            assertThat(files.filter(Files::isRegularFile)).containsExactly(imagePath);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이미지가 동시에 업로드되어 한 쪽 저장이 무시되어도 같은 id 반환")
+    void uploadDuplicateImageConcurrently() throws IOException {
+        // given
+        when(storedImageRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(storedImageRepository.saveIfAbsent(any(StoredImage.class))).thenReturn(1).thenReturn(0);
+
+        // when
+        ImageDTO.ImageUploadResp first = imageService.upload(new MockMultipartFile("image", "a.png", "image/png", PNG));
+        ImageDTO.ImageUploadResp second = imageService.upload(new MockMultipartFile("image", "b.png", "image/png", PNG));
+
+        // then
+        assertThat(second.getImageId()).isEqualTo(first.getImageId());
+        verify(storedImageRepository, times(2)).saveIfAbsent(any(StoredImage.class));
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일 업로드 시 INVALID_IMAGE_TYPE")
+    void uploadInvalidImage() throws IOException {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "a.png", "image/png", "not an image".getBytes());
+
+        // when
+        GlobalException exception = assertThrows(GlobalException.class, () -> imageService.upload(file));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_IMAGE_TYPE);
+        verify(storedImageRepository, never()).saveIfAbsent(any());
+
+        try(Stream<Path> files = Files.list(rootPath)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 이미지 id 가 포함되면 IMAGE_NOT_FOUND")
+    void toUrlListNotFound() {
+        // given
+        String savedId = "a".repeat(64);
+        String missingId = "b".repeat(64);
+
+        when(storedImageRepository.findExistingIdList(any())).thenReturn(List.of(savedId));
+
+        // when
+        GlobalException exception = assertThrows(GlobalException.class,
+                () -> imageService.toUrlList(List.of(savedId, missingId)));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.IMAGE_NOT_FOUND);
+        assertThat(imageService.toUrlList(List.of(savedId))).containsExactly("/images/" + savedId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.poje.remind.service.image;
+
+import com.poje.remind.domain.image.ImageVariant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path rootPath;
+
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setup() {
+        imageVariantService = new ImageVariantService(1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantService.shutdown();
+    }
+
+    @Test
+    @DisplayName("축소본은 비율을 유지하며 최대 너비로 줄이고, 원본보다 크게 만들지 않음")
+    void generate() throws IOException {
+        // given
+        Path imagePath = saveImage(1000, 500);
+
+        // when
+        imageVariantService.generate(imagePath, "image/png");
+
+        // then
+        assertThat(readImage(imagePath, ImageVariant.THUMBNAIL).getWidth()).isEqualTo(160);
+        assertThat(readImage(imagePath, ImageVariant.THUMBNAIL).getHeight()).isEqualTo(80);
+        assertThat(readImage(imagePath, ImageVariant.CARD).getWidth()).isEqualTo(480);
+        assertThat(readImage(imagePath, ImageVariant.FULL).getWidth()).isEqualTo(1000);
+
+        assertThat(imageVariantService.getStats().getGeneratedCount()).isEqualTo(3);
+        assertThat(imageVariantService.getStats().getFailedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 생성된 축소본은 다시 생성하지 않음")
+    void generateIdempotent() throws IOException {
+        // given
+        Path imagePath = saveImage(1000, 500);
+        imageVariantService.generate(imagePath, "image/png");
+
+        Path cardPath = ImageVariantService.variantPath(imagePath, ImageVariant.CARD);
+        byte[] card = Files.readAllBytes(cardPath);
+
+        // when
+        imageVariantService.generate(imagePath, "image/png");
+
+        // then
+        assertThat(Files.readAllBytes(cardPath)).isEqualTo(card);
+        assertThat(imageVariantService.getStats().getGeneratedCount()).isEqualTo(3);
+        assertThat(imageVariantService.getStats().getSkippedCount()).isEqualTo(3);
+
+        // 임시 파일은 남지 않음 (원본 + 축소본 3개)
+        try(Stream<Path> files = Files.list(rootPath)) {
+            assertThat(files).hasSize(4);
+        }
+    }
+
+    @Test
+    @DisplayName("업로드 이미지 url 만 축소본 url 로 변환")
+    void variantUrl() {
+        String imageId = "a".repeat(64);
+
+        assertThat(ImageVariant.CARD.urlOf("/images/" + imageId)).isEqualTo("/images/" + imageId + "/card");
+        assertThat(ImageVariant.THUMBNAIL.urlOf("DEFAULT_PROFILE_IMG")).isEqualTo("DEFAULT_PROFILE_IMG");
+        assertThat(ImageVariant.THUMBNAIL.urlOf(null)).isNull();
+    }
+
+    private Path saveImage(int width, int height) throws IOException {
+        Path imagePath = rootPath.resolve("b".repeat(64));
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", imagePath.toFile());
+
+        return imagePath;
+    }
+
+    private BufferedImage readImage(Path imagePath, ImageVariant variant) throws IOException {
+        return ImageIO.read(ImageVariantService.variantPath(imagePath, variant).toFile());
+    }
+}
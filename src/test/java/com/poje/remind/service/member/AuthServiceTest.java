@@ -2,8 +2,11 @@ package com.poje.remind.service.member;
 
 import com.poje.remind.common.ErrorCode;
 import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.jwt.InMemoryTokenStore;
 import com.poje.remind.config.jwt.JwtTokenProvider;
+import com.poje.remind.config.jwt.RevokedTokenCache;
 import com.poje.remind.config.jwt.TokenDTO;
+import com.poje.remind.config.jwt.VerifiedTokenCache;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.dto.MemberDTO;
 import com.poje.remind.repository.member.MemberRepository;
@@ -14,8 +17,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,15 +25,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import java.util.concurrent.TimeUnit;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
-@Import(AuthService.class)
+@Import({AuthService.class, InMemoryTokenStore.class})
 class AuthServiceTest {
 
     @Autowired
@@ -53,19 +52,21 @@ class AuthServiceTest {
     @MockBean
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private InMemoryTokenStore tokenStore;
+
     @MockBean
-    private RedisTemplate<String, String> redisTemplate;
+    private RevokedTokenCache revokedTokenCache;
 
     @MockBean
-    private ValueOperations<String, String> valueOperations;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @BeforeEach
     void setup() {
         when(authenticationManagerBuilder.getObject()).thenReturn(authenticationManager);
         when(authenticationManager.authenticate(any())).thenReturn(new TestingAuthenticationToken("user", "password", "ROLE_USER"));
 
-        valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        tokenStore.clear();
     }
 
     @Test
@@ -90,7 +91,7 @@ class AuthServiceTest {
         String password = "password";
         String accessToken = "AccessToken";
         String refreshToken = "RefreshToken";
-        long REFRESH_TOKEN_EXPIRE_TIME = 1000 *60 * 60 * 24 * 7;
+        long refreshTokenExpiration = System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 7;
         MemberDTO.LoginReq loginReq = new MemberDTO.LoginReq(loginId, password);
 
         TokenDTO tokenDTO = new TokenDTO(accessToken, refreshToken);
@@ -102,19 +103,17 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(authenticationToken)).thenReturn(authentication);
         when(authentication.getName()).thenReturn(loginReq.getLoginId());
         when(tokenProvider.generateToken(authentication)).thenReturn(tokenDTO);
-        when(tokenProvider.getExpiration(tokenDTO.getRefreshToken())).thenReturn(REFRESH_TOKEN_EXPIRE_TIME);
+        when(tokenProvider.getExpiration(tokenDTO.getRefreshToken())).thenReturn(refreshTokenExpiration);
+        when(tokenProvider.getTokenId(tokenDTO.getRefreshToken())).thenReturn("refresh-jti");
+        tokenStore.saveRefreshToken(loginId, "expired-jti", 1000L);
 
         TokenDTO loginTokenDTO = authService.signIn(loginReq);
 
         // then
         assertThat(loginTokenDTO.getAccessToken()).isEqualTo(tokenDTO.getAccessToken());
         assertThat(loginTokenDTO.getRefreshToken()).isEqualTo(tokenDTO.getRefreshToken());
-        verify(valueOperations, times(1)).set(
-                eq(authentication.getName()),
-                eq(tokenDTO.getRefreshToken()),
-                eq(REFRESH_TOKEN_EXPIRE_TIME),
-                eq(TimeUnit.MILLISECONDS)
-        );
+        // 만료된 refresh token 은 정리하고 새 refresh token 저장
+        assertThat(tokenStore.findRefreshTokens(loginId)).containsOnlyKeys("refresh-jti");
     }
 
     @Test
@@ -123,22 +122,22 @@ class AuthServiceTest {
         // given
         String loginId = "testId001";
         String accessToken = "AccessToken";
-        long expirationTime = 1000 * 60 * 60;
+        long expirationTime = System.currentTimeMillis() + 1000 * 60 * 60;
 
         Authentication authentication = mock(Authentication.class);
 
         // when
         when(tokenProvider.validateToken(accessToken)).thenReturn(true);
         when(authentication.getName()).thenReturn(loginId);
-        when(redisTemplate.opsForValue().get(authentication.getName())).thenReturn(loginId);
         when(tokenProvider.getAuthentication(accessToken)).thenReturn(authentication);
+        when(tokenProvider.getTokenId(accessToken)).thenReturn("access-jti");
         when(tokenProvider.getExpiration(accessToken)).thenReturn(expirationTime);
 
         authService.logout("AccessToken");
 
         // then
-        verify(redisTemplate, times(1)).delete(anyString());
-        verify(valueOperations, times(1)).set(eq(accessToken), eq("logout"), eq(expirationTime), eq(TimeUnit.MILLISECONDS));
+        verify(revokedTokenCache, times(1)).revoke(loginId, "access-jti", expirationTime);
+        verify(verifiedTokenCache, times(1)).remove(accessToken);
     }
 
     @Test
@@ -150,7 +149,7 @@ class AuthServiceTest {
         String refreshToken = "RefreshToken";
         String newAccessToken = "newAccessToken";
         String newRefreshToken = "newRefreshToken";
-        long REFRESH_TOKEN_EXPIRE_TIME = 1000 *60 * 60 * 24 * 7;
+        long refreshTokenExpiration = System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 7;
 
         Authentication authentication = mock(Authentication.class);
         TokenDTO reissuedTokenDTO = new TokenDTO(newAccessToken, newRefreshToken);
@@ -159,9 +158,11 @@ class AuthServiceTest {
         when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
         when(tokenProvider.getAuthentication(accessToken)).thenReturn(authentication);
         when(authentication.getName()).thenReturn(loginId);
-        when(redisTemplate.opsForValue().get(authentication.getName())).thenReturn(refreshToken);
+        when(tokenProvider.getTokenId(refreshToken)).thenReturn("refresh-jti");
+        tokenStore.saveRefreshToken(loginId, "refresh-jti", refreshTokenExpiration);
         when(tokenProvider.generateToken(authentication)).thenReturn(reissuedTokenDTO);
-        when(tokenProvider.getExpiration(newRefreshToken)).thenReturn(REFRESH_TOKEN_EXPIRE_TIME);
+        when(tokenProvider.getTokenId(newRefreshToken)).thenReturn("new-refresh-jti");
+        when(tokenProvider.getExpiration(newRefreshToken)).thenReturn(refreshTokenExpiration);
 
         TokenDTO resultTokenDTO = authService.reissue(accessToken, refreshToken);
 
@@ -169,10 +170,38 @@ class AuthServiceTest {
         assertThat(resultTokenDTO.getAccessToken()).isEqualTo(reissuedTokenDTO.getAccessToken());
         assertThat(resultTokenDTO.getRefreshToken()).isEqualTo(reissuedTokenDTO.getRefreshToken());
 
-        verify(valueOperations, times(1)).set(eq(authentication.getName()),
-                eq(reissuedTokenDTO.getRefreshToken()),
-                eq(REFRESH_TOKEN_EXPIRE_TIME),
-                eq(TimeUnit.MILLISECONDS));
+        // 사용한 refresh token 은 삭제하고 새 refresh token 저장
+        assertThat(tokenStore.findRefreshTokens(loginId)).containsOnlyKeys("new-refresh-jti");
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 테스트 - jti 발급 이전의 refresh token")
+    void reissue_legacy_refresh_token() {
+        // given
+        String loginId = "testId001";
+        String accessToken = "AccessToken";
+        String refreshToken = "LegacyRefreshToken";
+        String newRefreshToken = "newRefreshToken";
+
+        Authentication authentication = mock(Authentication.class);
+        TokenDTO reissuedTokenDTO = new TokenDTO("newAccessToken", newRefreshToken);
+
+        // when
+        when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
+        when(tokenProvider.getAuthentication(accessToken)).thenReturn(authentication);
+        when(authentication.getName()).thenReturn(loginId);
+        when(tokenProvider.getTokenId(refreshToken)).thenReturn(null);
+        tokenStore.putLegacyRefreshToken(loginId, refreshToken);
+        when(tokenProvider.generateToken(authentication)).thenReturn(reissuedTokenDTO);
+        when(tokenProvider.getTokenId(newRefreshToken)).thenReturn("new-refresh-jti");
+        when(tokenProvider.getExpiration(newRefreshToken)).thenReturn(System.currentTimeMillis() + 1000 * 60);
+
+        authService.reissue(accessToken, refreshToken);
+
+        // then
+        // 이전 방식으로 저장된 refresh token 은 삭제하고 새 방식으로 저장
+        assertThat(tokenStore.findRefreshTokens(loginId)).containsOnlyKeys("new-refresh-jti");
+        assertThrows(GlobalException.class, () -> authService.reissue(accessToken, refreshToken));
     }
 
     @Test
@@ -200,7 +229,6 @@ class AuthServiceTest {
         String loginId = "testId001";
         String accessToken = "AccessToken";
         String refreshToken = "RefreshToken";
-        String savedRefreshToken = "AnotherRefreshToken";
 
         Authentication authentication = mock(Authentication.class);
 
@@ -208,7 +236,10 @@ class AuthServiceTest {
         when(tokenProvider.validateToken(refreshToken)).thenReturn(true);
         when(tokenProvider.getAuthentication(accessToken)).thenReturn(authentication);
         when(authentication.getName()).thenReturn(loginId);
-        when(redisTemplate.opsForValue().get(authentication.getName())).thenReturn(savedRefreshToken);
+        when(tokenProvider.getTokenId(refreshToken)).thenReturn("used-refresh-jti");
+        when(tokenProvider.generateToken(authentication)).thenReturn(new TokenDTO("newAccessToken", "newRefreshToken"));
+        when(tokenProvider.getTokenId("newRefreshToken")).thenReturn("new-refresh-jti");
+        when(tokenProvider.getExpiration("newRefreshToken")).thenReturn(System.currentTimeMillis() + 1000 * 60);
 
         GlobalException exception = assertThrows(GlobalException.class, () -> {
             authService.reissue(accessToken, refreshToken);
@@ -216,5 +247,6 @@ class AuthServiceTest {
 
         // then
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_NOT_MATCHED);
+        assertThat(tokenStore.findRefreshTokens(loginId)).isEmpty();
     }
 }
\ No newline at end of file
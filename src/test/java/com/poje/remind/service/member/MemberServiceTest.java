@@ -1,10 +1,12 @@
 package com.poje.remind.service.member;
 
 import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.Member.dto.MemberDTO;
 import com.poje.remind.repository.member.MemberRepository;
+import com.poje.remind.service.image.ImageService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +41,11 @@ class MemberServiceTest {
     @MockBean
     private BCryptPasswordEncoder passwordEncoder;
 
+    @MockBean
+    private ImageService imageService;
+
+    private static final Long MEMBER_ID = 1L;
+
     @BeforeEach
     void beforeTest() {
         String loginId = "testId001";
@@ -50,6 +57,7 @@ class MemberServiceTest {
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn(loginId);
+        when(authentication.getPrincipal()).thenReturn(new CurrentMember(MEMBER_ID, loginId, "", RoleType.ROLE_USER));
 
     }
 
@@ -80,9 +88,8 @@ class MemberServiceTest {
     @DisplayName("사용자 정보 반환 테스트")
     void getMember() {
         // given
-        String loginId = "testId001";
-
         Member member = Member.builder()
+                .id(MEMBER_ID)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -95,7 +102,7 @@ class MemberServiceTest {
                 .build();
 
         // when
-        when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
         MemberDTO.MemberResp memberResp = memberService.getMember();
 
         // then
@@ -108,9 +115,8 @@ class MemberServiceTest {
     @DisplayName("사용자 정보 수정 테스트")
     void updateMember() {
         // given
-        String loginId = "testId001";
-
         Member member = Member.builder()
+                .id(MEMBER_ID)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -123,10 +129,11 @@ class MemberServiceTest {
                 .build();
 
         MemberDTO.UpdateReq updateReq = new MemberDTO.UpdateReq("tester002", "test@test.com", "01012345678", "Female",
-                "240422", "hanshin univ", "computer", "github", "blog");
+                "240422", "hanshin univ", "computer", "github", "blog", "b".repeat(64));
 
         // when
-        when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+        when(imageService.toUrl("b".repeat(64))).thenReturn("/images/" + "b".repeat(64));
 
         MemberDTO.MemberResp memberResp = memberService.updateMember(updateReq);
 
@@ -134,17 +141,18 @@ class MemberServiceTest {
         assertThat(memberResp).isNotNull();
         assertThat(memberResp.getNickName()).isEqualTo("tester002");
         assertThat(memberResp.getGender()).isEqualTo("Female");
+        assertThat(memberResp.getProfileImg()).isEqualTo("/images/" + "b".repeat(64));
     }
 
     @Test
     @DisplayName("비밀번호 변경 테스트")
     void updatePassword() {
         // given
-        String loginId = "testId001";
         String password = "password";
         String newPassword = "encodedPassword";
 
         Member member = Member.builder()
+                .id(MEMBER_ID)
                 .loginId("testId001")
                 .password(password)
                 .nickName("tester001")
@@ -160,7 +168,7 @@ class MemberServiceTest {
                 new MemberDTO.PasswordUpdateReq(password, newPassword, newPassword);
 
         // when
-        when(memberRepository.findByLoginId(loginId)).thenReturn(Optional.of(member));
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
 
         // Mock 객체인 passwordEncoder가 encode 함수를 호출할 때 "encodedPassword"를 반환하도록 설정
         when(passwordEncoder.encode(anyString())).thenReturn(newPassword);
@@ -169,7 +177,7 @@ class MemberServiceTest {
         memberService.updatePassword(passwordUpdateReq);
 
         // then
-        verify(memberRepository, times(1)).findByLoginId(loginId);
+        verify(memberRepository, times(1)).findById(MEMBER_ID);
         verify(passwordEncoder, times(1)).matches(anyString(), anyString());
 
         assertTrue(passwordEncoder.matches(newPassword, member.getPassword()));
@@ -0,0 +1,141 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(PortfolioAuthorizer.class)
+class PortfolioAuthorizerTest {
+
+    @Autowired
+    private PortfolioAuthorizer portfolioAuthorizer;
+
+    @MockBean
+    private PortfolioRepository portfolioRepository;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Test
+    @DisplayName("존재 여부 쿼리로 확인한 작성자는 캐시에서 확인")
+    void checkWriterCached() {
+        // given
+        Long portfolioId = 10L;
+
+        // when
+        when(portfolioRepository.existsByIdAndWriterId(portfolioId, MEMBER_ID)).thenReturn(true);
+
+        portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+        portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+
+        // then
+        verify(portfolioRepository, times(1)).existsByIdAndWriterId(portfolioId, MEMBER_ID);
+        verify(portfolioRepository, never()).findById(portfolioId);
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 전달한 에러, 포트폴리오가 없으면 PORTFOLIO_NOT_FOUND")
+    void checkWriterFail() {
+        // given
+        Long portfolioId = 20L;
+        Long notExistsPortfolioId = 21L;
+
+        // when
+        when(portfolioRepository.existsByIdAndWriterId(portfolioId, MEMBER_ID)).thenReturn(false);
+        when(portfolioRepository.existsById(portfolioId)).thenReturn(true);
+
+        GlobalException notMatched = assertThrows(GlobalException.class,
+                () -> portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.WRITER_NOT_MATCHED_PORTFOLIO));
+        GlobalException notFound = assertThrows(GlobalException.class,
+                () -> portfolioAuthorizer.checkWriter(notExistsPortfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH));
+
+        // then
+        assertThat(notMatched.getErrorCode()).isEqualTo(ErrorCode.WRITER_NOT_MATCHED_PORTFOLIO);
+        assertThat(notFound.getErrorCode()).isEqualTo(ErrorCode.PORTFOLIO_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("조회한 포트폴리오는 작성자 FK 로 확인하고, 삭제되면 캐시에서 제거")
+    void checkLoadedPortfolioAndEvict() {
+        // given
+        Long portfolioId = 30L;
+
+        Member writer = Member.builder()
+                .id(MEMBER_ID)
+                .loginId("testId001")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Portfolio portfolio = Portfolio.builder()
+                .id(portfolioId)
+                .title("POJE")
+                .writer(writer)
+                .job(Job.builder().name("개발자").build())
+                .build();
+
+        // when
+        portfolioAuthorizer.checkWriter(portfolio, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+        portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+
+        GlobalException exception = assertThrows(GlobalException.class,
+                () -> portfolioAuthorizer.checkWriter(portfolio, 2L, ErrorCode.MEMBER_NOT_MATCH));
+
+        // 트랜잭션이 없으면 바로 제거
+        portfolioAuthorizer.evict(portfolioId);
+        when(portfolioRepository.existsByIdAndWriterId(portfolioId, MEMBER_ID)).thenReturn(true);
+        portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.MEMBER_NOT_MATCH);
+        verify(portfolioRepository, times(1)).existsByIdAndWriterId(portfolioId, MEMBER_ID);
+        verify(redisTemplate, times(1)).convertAndSend(eq(PortfolioAuthorizer.CHANNEL), endsWith(":" + portfolioId));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 전파된 삭제는 캐시에서 제거하고, 잘못된 메시지는 무시")
+    void evictByMessage() {
+        // given
+        Long portfolioId = 40L;
+
+        when(portfolioRepository.existsByIdAndWriterId(portfolioId, MEMBER_ID)).thenReturn(true);
+        portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+
+        // when
+        portfolioAuthorizer.onMessage(message("other-node:not-a-number"), null);
+        portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+
+        portfolioAuthorizer.onMessage(message("other-node:" + portfolioId), null);
+        portfolioAuthorizer.checkWriter(portfolioId, MEMBER_ID, ErrorCode.MEMBER_NOT_MATCH);
+
+        // then
+        verify(portfolioRepository, times(2)).existsByIdAndWriterId(portfolioId, MEMBER_ID);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(PortfolioAuthorizer.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package com.poje.remind.service.portfolio;
 
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -33,7 +35,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
-@Import(PortfolioAwardService.class)
+@Import({PortfolioAwardService.class, PortfolioAuthorizer.class})
 class PortfolioAwardServiceTest {
 
     @Autowired
@@ -57,6 +59,9 @@ class PortfolioAwardServiceTest {
     @MockBean
     private BCryptPasswordEncoder passwordEncoder;
 
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
     private Member member;
     private Job job;
     private Portfolio portfolio;
@@ -64,6 +69,7 @@ class PortfolioAwardServiceTest {
     @BeforeEach
     void setup() {
         member = Member.builder()
+                .id(1L)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -91,12 +97,12 @@ class PortfolioAwardServiceTest {
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
 
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
         when(jobRepository.findByName(job.getName())).thenReturn(Optional.of(job));
         when(portfolioRepository.findById(portfolio.getId())).thenReturn(Optional.of(portfolio));
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn(member.getLoginId());
+        when(authentication.getPrincipal()).thenReturn(new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole()));
 
         SecurityContextHolder.setContext(securityContext);
     }
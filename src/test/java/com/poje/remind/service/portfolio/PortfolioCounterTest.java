@@ -0,0 +1,101 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(PortfolioCounter.class)
+class PortfolioCounterTest {
+
+    @Autowired
+    private PortfolioCounter portfolioCounter;
+
+    @MockBean
+    private PortfolioRepository portfolioRepository;
+
+    @Test
+    @DisplayName("직무 별 포트폴리오 수는 처음 한 번만 COUNT 쿼리로 조회")
+    void countByJob() {
+        // given
+        Long jobId = 1L;
+
+        // when
+        when(portfolioRepository.countByJobId(jobId)).thenReturn(10L);
+
+        long firstCount = portfolioCounter.countByJob(jobId);
+        long secondCount = portfolioCounter.countByJob(jobId);
+
+        // then
+        assertThat(firstCount).isEqualTo(10L);
+        assertThat(secondCount).isEqualTo(10L);
+        verify(portfolioRepository, times(1)).countByJobId(jobId);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 생성, 삭제 시 직무 별 포트폴리오 수 증감")
+    void increaseAndDecrease() {
+        // given
+        Long jobId = 2L;
+        when(portfolioRepository.countByJobId(jobId)).thenReturn(3L);
+        portfolioCounter.countByJob(jobId);
+
+        // when
+        portfolioCounter.increase(jobId);
+        portfolioCounter.increase(jobId);
+        portfolioCounter.decrease(jobId);
+
+        // then
+        assertThat(portfolioCounter.countByJob(jobId)).isEqualTo(4L);
+        verify(portfolioRepository, times(1)).countByJobId(jobId);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 생성/삭제된 포트폴리오 수는 주기적으로 COUNT 쿼리로 반영")
+    void reconcile() {
+        // given
+        Long jobId = 3L;
+        when(portfolioRepository.countByJobId(jobId)).thenReturn(5L, 7L);
+        portfolioCounter.countByJob(jobId);
+
+        // when
+        portfolioCounter.reconcile();
+
+        // then
+        assertThat(portfolioCounter.countByJob(jobId)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("COUNT 쿼리 중에 증감이 있으면 덮어쓰지 않고 다음 주기에 반영")
+    void reconcileWhileIncreasing() {
+        // given
+        Long jobId = 4L;
+        when(portfolioRepository.countByJobId(jobId)).thenReturn(5L);
+        portfolioCounter.countByJob(jobId);
+
+        // when
+        when(portfolioRepository.countByJobId(jobId))
+                .thenAnswer(invocation -> {
+                    portfolioCounter.increase(jobId);
+                    return 8L;
+                })
+                .thenReturn(9L);
+
+        portfolioCounter.reconcile();
+        long countAfterFirstReconcile = portfolioCounter.countByJob(jobId);
+
+        portfolioCounter.reconcile();
+
+        // then
+        assertThat(countAfterFirstReconcile).isEqualTo(6L);
+        assertThat(portfolioCounter.countByJob(jobId)).isEqualTo(9L);
+    }
+}
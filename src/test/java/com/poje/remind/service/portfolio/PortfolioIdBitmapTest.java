@@ -0,0 +1,63 @@
+package com.poje.remind.service.portfolio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioIdBitmapTest {
+
+    @Test
+    @DisplayName("포트폴리오 id 추가, 삭제, 포함 여부 테스트")
+    void addAndRemove() {
+        // given
+        PortfolioIdBitmap bitmap = new PortfolioIdBitmap();
+
+        // when
+        bitmap.add(1L);
+        bitmap.add(70_000L);
+        bitmap.add(1L);
+        bitmap.remove(3L);
+
+        // then
+        assertThat(bitmap.contains(1L)).isTrue();
+        assertThat(bitmap.contains(70_000L)).isTrue();
+        assertThat(bitmap.contains(2L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+
+        bitmap.remove(1L);
+
+        assertThat(bitmap.contains(1L)).isFalse();
+        assertThat(bitmap.toList()).containsExactly(70_000L);
+    }
+
+    @Test
+    @DisplayName("배열 컨테이너와 bitmap 컨테이너 전환 시에도 TreeSet 과 결과가 같음")
+    void compareWithTreeSet() {
+        // given
+        PortfolioIdBitmap bitmap = new PortfolioIdBitmap();
+        TreeSet<Long> expectedSet = new TreeSet<>();
+        Random random = new Random(42);
+
+        // when
+        for(int i = 0; i < 100_000; i++) {
+            // 하나의 컨테이너에 4096 개 이상 들어가도록 id 범위를 좁게 유지
+            long portfolioId = random.nextInt(3 * 65_536);
+
+            if(random.nextInt(3) == 0) {
+                bitmap.remove(portfolioId);
+                expectedSet.remove(portfolioId);
+            } else {
+                bitmap.add(portfolioId);
+                expectedSet.add(portfolioId);
+            }
+        }
+
+        // then
+        assertThat(bitmap.cardinality()).isEqualTo(expectedSet.size());
+        assertThat(bitmap.toList()).containsExactlyElementsOf(expectedSet);
+    }
+}
@@ -0,0 +1,236 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.dto.PortfolioLikeDTO;
+import com.poje.remind.repository.portfolio.PortfolioLikeJdbcRepository;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(PortfolioLikeBuffer.class)
+@TestPropertySource(properties = "like.write-behind.enabled=true")
+class PortfolioLikeBufferTest {
+
+    @Autowired
+    private PortfolioLikeBuffer portfolioLikeBuffer;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private PortfolioRepository portfolioRepository;
+
+    @MockBean
+    private PortfolioLikeJdbcRepository portfolioLikeJdbcRepository;
+
+    @MockBean
+    private TransactionTemplate transactionTemplate;
+
+    private ValueOperations<String, String> valueOperations;
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @BeforeEach
+    void setup() {
+        valueOperations = mock(ValueOperations.class);
+        hashOperations = mock(HashOperations.class);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(valueOperations.setIfAbsent(eq("like:flush:lock"), anyString(), any(Duration.class))).thenReturn(true);
+
+        // 트랜잭션 없이 바로 실행
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("로딩된 좋아요 set 에서 토글 테스트")
+    void toggle() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(List.of(1L, 3L));
+
+        // when
+        PortfolioLikeDTO.PortfolioLikeResp result = portfolioLikeBuffer.toggle(1L, 2L);
+
+        // then
+        assertThat(result.isLikeStatus()).isTrue();
+        assertThat(result.getLikeCount()).isEqualTo(3L);
+        verify(portfolioRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("카드 목록의 좋아요 여부를 한 번의 pipeline 으로 조회하고 로딩되지 않은 set 만 로딩")
+    void findLikedPortfolioIds() {
+        // given
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // {EXISTS, SISMEMBER} 순서 (3번 포트폴리오는 set 이 로딩되지 않음)
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(true, true, true, false, false, false));
+        when(redisTemplate.hasKey("like:portfolio:3")).thenReturn(true);
+        when(setOperations.isMember("like:portfolio:3", "2")).thenReturn(true);
+
+        // when
+        Set<Long> result = portfolioLikeBuffer.findLikedPortfolioIds(2L, List.of(1L, 4L, 3L));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(setOperations, never()).isMember("like:portfolio:1", "2");
+        verify(setOperations, never()).isMember("like:portfolio:4", "2");
+    }
+
+    @Test
+    @DisplayName("좋아요 set 로딩 시 아직 반영되지 않은 processing, pending 변경 사항을 DB 목록에 적용")
+    void loadWithPendingChanges() {
+        // given
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.hasKey("like:portfolio:1")).thenReturn(false);
+        when(redisTemplate.renameIfAbsent(anyString(), eq("like:portfolio:1"))).thenReturn(true);
+        when(portfolioRepository.findById(1L)).thenReturn(Optional.of(mock(Portfolio.class)));
+        when(portfolioLikeJdbcRepository.findMemberIdList(1L)).thenReturn(List.of(2L, 3L));
+
+        // 3번 회원은 취소 후 다시 좋아요 (pending 이 우선), 2번 회원은 취소, 4번 회원은 추가
+        when(hashOperations.scan(eq("like:pending:processing"), any(ScanOptions.class)))
+                .thenReturn(cursorOf("1:3", "0", "1:2", "0"));
+        when(hashOperations.scan(eq("like:pending"), any(ScanOptions.class)))
+                .thenReturn(cursorOf("1:3", "1", "1:4", "1"));
+
+        // when
+        portfolioLikeBuffer.isLiked(1L, 4L);
+
+        // then
+        ArgumentCaptor<String[]> memberIdCaptor = ArgumentCaptor.forClass(String[].class);
+        verify(setOperations, times(1)).add(startsWith("like:portfolio:1:loading:"), memberIdCaptor.capture());
+
+        assertThat(memberIdCaptor.getValue()).containsExactlyInAnyOrder("-", "3", "4");
+    }
+
+    @Test
+    @DisplayName("pending 변경 사항을 processing 으로 옮겨 likes 테이블에 반영")
+    void flush() {
+        // given
+        when(redisTemplate.hasKey("like:pending:processing")).thenReturn(false);
+        when(redisTemplate.hasKey("like:pending")).thenReturn(true);
+        when(hashOperations.entries("like:pending:processing")).thenReturn(Map.of("1:2", "1", "1:3", "0", "4:2", "1"));
+
+        // when
+        portfolioLikeBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<PortfolioLikeDTO.LikeChange>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<PortfolioLikeDTO.LikeChange>> deleteCaptor = ArgumentCaptor.forClass(List.class);
+
+        verify(redisTemplate, times(1)).rename("like:pending", "like:pending:processing");
+        verify(portfolioLikeJdbcRepository, times(1)).insertAll(insertCaptor.capture());
+        verify(portfolioLikeJdbcRepository, times(1)).deleteAll(deleteCaptor.capture());
+        verify(portfolioLikeJdbcRepository, times(1)).refreshLikeCount(argThat(ids -> ids.containsAll(List.of(1L, 4L)) && ids.size() == 2));
+        verify(redisTemplate, times(1)).delete("like:pending:processing");
+
+        assertThat(insertCaptor.getValue()).extracting("portfolioId", "memberId")
+                .containsExactlyInAnyOrder(tuple(1L, 2L), tuple(4L, 2L));
+        assertThat(deleteCaptor.getValue()).extracting("memberId").containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("이전 flush 에서 남은 processing 변경 사항부터 다시 반영")
+    void flushRecoverProcessing() {
+        // given
+        when(redisTemplate.hasKey("like:pending:processing")).thenReturn(true);
+        when(hashOperations.entries("like:pending:processing")).thenReturn(Map.of("1:2", "1"));
+
+        // when
+        portfolioLikeBuffer.flush();
+
+        // then
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+        verify(portfolioLikeJdbcRepository, times(1)).insertAll(anyList());
+        verify(redisTemplate, times(1)).delete("like:pending:processing");
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 processing 변경 사항을 유지")
+    void flushFailKeepProcessing() {
+        // given
+        when(redisTemplate.hasKey("like:pending:processing")).thenReturn(true);
+        when(hashOperations.entries("like:pending:processing")).thenReturn(Map.of("1:2", "1"));
+        doThrow(new RuntimeException("DB 오류")).when(portfolioLikeJdbcRepository).insertAll(anyList());
+
+        // when
+        try {
+            portfolioLikeBuffer.flush();
+        } catch (RuntimeException ignored) {
+        }
+
+        // then
+        verify(redisTemplate, never()).delete("like:pending:processing");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 flush 중이면 실행하지 않음")
+    void flushLocked() {
+        // given
+        when(valueOperations.setIfAbsent(eq("like:flush:lock"), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        portfolioLikeBuffer.flush();
+
+        // then
+        verify(hashOperations, never()).entries(anyString());
+        verifyNoInteractions(portfolioLikeJdbcRepository);
+    }
+
+    // field, value, field, value, ... 순서로 hash scan 결과 생성
+    private static Cursor<Map.Entry<Object, Object>> cursorOf(String... fieldValues) {
+        List<Map.Entry<Object, Object>> entryList = new ArrayList<>();
+        for(int i = 0; i < fieldValues.length; i += 2) {
+            entryList.add(Map.entry(fieldValues[i], fieldValues[i + 1]));
+        }
+
+        Iterator<Map.Entry<Object, Object>> iterator = entryList.iterator();
+        Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+
+        return cursor;
+    }
+}
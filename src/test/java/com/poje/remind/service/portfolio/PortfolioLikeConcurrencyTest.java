@@ -0,0 +1,186 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.config.CurrentMember;
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.repository.ability.JobRepository;
+import com.poje.remind.repository.member.MemberRepository;
+import com.poje.remind.repository.portfolio.PortfolioLikeJdbcRepository;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드에서 동시에 좋아요를 눌러도 likes 와 like_count 가 정확한지 확인
+ * 각 스레드의 트랜잭션이 실제로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않음
+ */
+@DataJpaTest
+@Import(PortfolioLikeConcurrencyTest.TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PortfolioLikeConcurrencyTest {
+
+    @TestConfiguration
+    public static class TestConfig {
+        @Bean
+        public PortfolioRepository portfolioRepository(EntityManager em) {
+            return new PortfolioRepository(em);
+        }
+
+        @Bean
+        public PortfolioLikeJdbcRepository portfolioLikeJdbcRepository(JdbcTemplate jdbcTemplate) {
+            return new PortfolioLikeJdbcRepository(jdbcTemplate);
+        }
+
+        @Bean
+        public PortfolioLikeService portfolioLikeService(PortfolioRepository portfolioRepository,
+                                                         PortfolioLikeBuffer portfolioLikeBuffer,
+                                                         PortfolioLikeJdbcRepository portfolioLikeJdbcRepository,
+                                                         PortfolioLikeIndex portfolioLikeIndex) {
+            return new PortfolioLikeService(portfolioRepository, portfolioLikeBuffer, portfolioLikeJdbcRepository, portfolioLikeIndex);
+        }
+    }
+
+    private static final int MEMBER_COUNT = 20;
+    private static final int TOGGLE_PER_MEMBER = 3;
+
+    @Autowired
+    private PortfolioLikeService portfolioLikeService;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PortfolioLikeBuffer portfolioLikeBuffer;
+
+    @MockBean
+    private PortfolioLikeIndex portfolioLikeIndex;
+
+    private List<Member> memberList;
+    private Portfolio portfolio;
+
+    @BeforeEach
+    void setup() {
+        memberList = new ArrayList<>();
+        for(int i = 0; i < MEMBER_COUNT; i++) {
+            memberList.add(memberRepository.save(Member.builder()
+                    .loginId("tester" + i)
+                    .nickName("tester" + i)
+                    .role(RoleType.ROLE_USER)
+                    .build()));
+        }
+
+        Job job = jobRepository.save(Job.builder()
+                .name("개발자")
+                .build());
+
+        portfolio = Portfolio.builder()
+                .title("포트폴리오 title")
+                .description("포트폴리오 description")
+                .backgroundImg("포트폴리오 IMG")
+                .writer(memberList.get(0))
+                .job(job)
+                .build();
+
+        portfolioRepository.save(portfolio);
+    }
+
+    @AfterEach
+    void end() {
+        jdbcTemplate.update("delete from likes");
+        jdbcTemplate.update("delete from portfolio");
+        jdbcTemplate.update("delete from job");
+        jdbcTemplate.update("delete from member");
+    }
+
+    @Test
+    @DisplayName("서로 다른 회원이 동시에 좋아요를 누르면 모두 반영")
+    void likeConcurrently() throws InterruptedException {
+        // when
+        runConcurrently(1);
+
+        // then
+        assertThat(countLikes()).isEqualTo(MEMBER_COUNT);
+        assertThat(portfolioRepository.findLikeCountById(portfolio.getId())).isEqualTo(MEMBER_COUNT);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 여러 번 좋아요를 눌러도 중복 저장되지 않고 좋아요 수가 일치")
+    void toggleConcurrently() throws InterruptedException {
+        // when
+        runConcurrently(TOGGLE_PER_MEMBER);
+
+        // then
+        Integer duplicateCount = jdbcTemplate.queryForObject("select count(*) from (" +
+                "select member_id from likes group by member_id, portfolio_id having count(*) > 1) d", Integer.class);
+
+        assertThat(duplicateCount).isEqualTo(0);
+        assertThat(portfolioRepository.findLikeCountById(portfolio.getId())).isEqualTo(countLikes());
+    }
+
+    private void runConcurrently(int togglePerMember) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(MEMBER_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(MEMBER_COUNT * togglePerMember);
+
+        for(Member member : memberList) {
+            for(int i = 0; i < togglePerMember; i++) {
+                executorService.submit(() -> {
+                    CurrentMember principal = new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole());
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+                    try {
+                        startLatch.await();
+                        portfolioLikeService.likePortfolio(portfolio.getId());
+                    } catch (Exception ignored) {
+                        // 락 대기 시간 초과 등으로 실패한 요청은 롤백되므로 결과 검증에 영향 없음
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        doneLatch.countDown();
+                    }
+                });
+            }
+        }
+
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+    }
+
+    private int countLikes() {
+        return jdbcTemplate.queryForObject("select count(*) from likes where portfolio_id = ?", Integer.class, portfolio.getId());
+    }
+}
@@ -0,0 +1,36 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(PortfolioLikeCountReconciler.class)
+class PortfolioLikeCountReconcilerTest {
+
+    @Autowired
+    private PortfolioLikeCountReconciler portfolioLikeCountReconciler;
+
+    @MockBean
+    private PortfolioRepository portfolioRepository;
+
+    @Test
+    @DisplayName("좋아요 수 보정 작업 실행 테스트")
+    void reconcile() {
+        // given
+        when(portfolioRepository.reconcileLikeCount()).thenReturn(2);
+
+        // when
+        portfolioLikeCountReconciler.reconcile();
+
+        // then
+        verify(portfolioRepository, times(1)).reconcileLikeCount();
+    }
+}
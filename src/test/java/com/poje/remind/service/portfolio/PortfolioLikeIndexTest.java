@@ -0,0 +1,127 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.repository.portfolio.PortfolioLikeJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(PortfolioLikeIndex.class)
+class PortfolioLikeIndexTest {
+
+    @Autowired
+    private PortfolioLikeIndex portfolioLikeIndex;
+
+    @MockBean
+    private PortfolioLikeJdbcRepository portfolioLikeJdbcRepository;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB 에서 회원의 좋아요 목록 로딩")
+    void loadOnce() {
+        // given
+        Long memberId = 1L;
+
+        // when
+        when(portfolioLikeJdbcRepository.findLikedPortfolioIdList(memberId)).thenReturn(List.of(2L, 5L));
+
+        // then
+        assertThat(portfolioLikeIndex.isLiked(memberId, 2L)).isTrue();
+        assertThat(portfolioLikeIndex.isLiked(memberId, 3L)).isFalse();
+        assertThat(portfolioLikeIndex.findLikedPortfolioIds(memberId, List.of(1L, 2L, 5L))).containsExactlyInAnyOrder(2L, 5L);
+        verify(portfolioLikeJdbcRepository, times(1)).findLikedPortfolioIdList(memberId);
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 결과가 캐시된 bitmap 에 반영")
+    void update() {
+        // given
+        Long memberId = 2L;
+
+        when(portfolioLikeJdbcRepository.findLikedPortfolioIdList(memberId)).thenReturn(List.of(2L));
+        portfolioLikeIndex.isLiked(memberId, 2L);
+
+        // when
+        portfolioLikeIndex.update(memberId, 2L, false);
+        portfolioLikeIndex.update(memberId, 7L, true);
+
+        // then
+        assertThat(portfolioLikeIndex.isLiked(memberId, 2L)).isFalse();
+        assertThat(portfolioLikeIndex.isLiked(memberId, 7L)).isTrue();
+        verify(portfolioLikeJdbcRepository, times(1)).findLikedPortfolioIdList(memberId);
+        verify(redisTemplate, times(2)).convertAndSend(eq(PortfolioLikeIndex.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("삭제된 포트폴리오는 모든 회원의 bitmap 에서 제거")
+    void removePortfolio() {
+        // given
+        when(portfolioLikeJdbcRepository.findLikedPortfolioIdList(4L)).thenReturn(List.of(1L, 2L));
+        when(portfolioLikeJdbcRepository.findLikedPortfolioIdList(5L)).thenReturn(List.of(2L));
+        portfolioLikeIndex.isLiked(4L, 1L);
+        portfolioLikeIndex.isLiked(5L, 2L);
+
+        // when
+        portfolioLikeIndex.removePortfolio(2L);
+
+        // then
+        assertThat(portfolioLikeIndex.findLikedPortfolioIds(4L, List.of(1L, 2L))).containsExactly(1L);
+        assertThat(portfolioLikeIndex.isLiked(5L, 2L)).isFalse();
+        verify(redisTemplate, times(1)).convertAndSend(eq(PortfolioLikeIndex.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 좋아요 토글 메시지를 받으면 회원 bitmap 을 다시 로딩")
+    void evictByMessage() {
+        // given
+        Long memberId = 6L;
+
+        when(portfolioLikeJdbcRepository.findLikedPortfolioIdList(memberId))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(1L, 3L));
+        portfolioLikeIndex.isLiked(memberId, 3L);
+
+        // when
+        portfolioLikeIndex.onMessage(message("other-node:M:" + memberId), null);
+
+        // then
+        assertThat(portfolioLikeIndex.isLiked(memberId, 3L)).isTrue();
+        verify(portfolioLikeJdbcRepository, times(2)).findLikedPortfolioIdList(memberId);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(PortfolioLikeIndex.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("로딩 중에 발생한 좋아요 토글도 로딩 후 반영")
+    void updateWhileLoading() {
+        // given
+        Long memberId = 3L;
+
+        // when
+        when(portfolioLikeJdbcRepository.findLikedPortfolioIdList(memberId)).thenAnswer(invocation -> {
+            portfolioLikeIndex.update(memberId, 4L, true);
+            return List.of(1L);
+        });
+
+        // then
+        assertThat(portfolioLikeIndex.findLikedPortfolioIds(memberId, List.of(1L, 4L))).containsExactlyInAnyOrder(1L, 4L);
+    }
+}
@@ -1,14 +1,17 @@
 package com.poje.remind.service.portfolio;
 
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
-import com.poje.remind.domain.portfolio.Like;
 import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
 import com.poje.remind.domain.portfolio.dto.PortfolioLikeDTO;
 import com.poje.remind.repository.ability.JobRepository;
 import com.poje.remind.repository.member.MemberRepository;
+import com.poje.remind.repository.portfolio.PortfolioLikeJdbcRepository;
 import com.poje.remind.repository.portfolio.PortfolioLikeRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -19,14 +22,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,6 +59,15 @@ class PortfolioLikeServiceTest {
     @MockBean
     private JobRepository jobRepository;
 
+    @MockBean
+    private PortfolioLikeBuffer portfolioLikeBuffer;
+
+    @MockBean
+    private PortfolioLikeJdbcRepository portfolioLikeJdbcRepository;
+
+    @MockBean
+    private PortfolioLikeIndex portfolioLikeIndex;
+
     @MockBean
     private BCryptPasswordEncoder passwordEncoder;
 
@@ -62,6 +78,7 @@ class PortfolioLikeServiceTest {
     @BeforeEach
     void setup() {
         member = Member.builder()
+                .id(1L)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -89,12 +106,12 @@ class PortfolioLikeServiceTest {
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
 
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
         when(jobRepository.findByName(job.getName())).thenReturn(Optional.of(job));
         when(portfolioRepository.findById(portfolio.getId())).thenReturn(Optional.of(portfolio));
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn(member.getLoginId());
+        when(authentication.getPrincipal()).thenReturn(new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole()));
 
         SecurityContextHolder.setContext(securityContext);
     }
@@ -109,12 +126,17 @@ class PortfolioLikeServiceTest {
     void likePortfolio() {
         // given
         // when
-        when(portfolioLikeRepository.findByMemberAndPortfolio(eq(member), eq(portfolio))).thenReturn(Optional.empty());
-        when(portfolioLikeRepository.countByPortfolio(portfolio)).thenReturn(1L);
+        when(portfolioLikeJdbcRepository.delete(eq(portfolio.getId()), any())).thenReturn(0);
+        when(portfolioLikeJdbcRepository.insert(eq(portfolio.getId()), any())).thenReturn(1);
+        when(portfolioRepository.findLikeCountById(portfolio.getId())).thenReturn(1);
 
         PortfolioLikeDTO.PortfolioLikeResp result = portfolioLikeService.likePortfolio(portfolio.getId());
 
         // then
+        verify(portfolioRepository, never()).findById(anyLong());
+        verify(portfolioRepository, times(1)).increaseLikeCount(portfolio.getId());
+        verify(portfolioRepository, never()).decreaseLikeCount(anyLong());
+        verify(portfolioLikeIndex, times(1)).update(member.getId(), portfolio.getId(), true);
         assertThat(result.isLikeStatus()).isTrue();
         assertThat(result.getLikeCount()).isEqualTo(1);
     }
@@ -123,42 +145,131 @@ class PortfolioLikeServiceTest {
     @DisplayName("포트폴리오 좋아요 취소 테스트")
     void unlikePortfolio() {
         // given
-        Like like = Like.builder()
-                .member(member)
-                .portfolio(portfolio)
-                .build();
-
         // when
-        when(portfolioLikeRepository.findByMemberAndPortfolio(eq(member), eq(portfolio))).thenReturn(Optional.of(like));
-        when(portfolioLikeRepository.countByPortfolio(portfolio)).thenReturn(0L);
-        doNothing().when(portfolioLikeRepository).delete(like);
+        when(portfolioLikeJdbcRepository.delete(eq(portfolio.getId()), any())).thenReturn(1);
+        when(portfolioRepository.findLikeCountById(portfolio.getId())).thenReturn(0);
 
         PortfolioLikeDTO.PortfolioLikeResp result = portfolioLikeService.likePortfolio(portfolio.getId());
 
         // then
+        verify(portfolioLikeJdbcRepository, never()).insert(anyLong(), any());
+        verify(portfolioRepository, times(1)).decreaseLikeCount(portfolio.getId());
+        verify(portfolioRepository, never()).increaseLikeCount(anyLong());
+        verify(portfolioLikeIndex, times(1)).update(member.getId(), portfolio.getId(), false);
         assertThat(result.isLikeStatus()).isFalse();
         assertThat(result.getLikeCount()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("동시 요청으로 이미 추가된 좋아요 클릭 테스트")
+    void likePortfolioAlreadyInserted() {
+        // given
+        // when
+        when(portfolioLikeJdbcRepository.delete(eq(portfolio.getId()), any())).thenReturn(0);
+        when(portfolioLikeJdbcRepository.insert(eq(portfolio.getId()), any())).thenReturn(0);
+        when(portfolioRepository.findLikeCountById(portfolio.getId())).thenReturn(1);
+
+        PortfolioLikeDTO.PortfolioLikeResp result = portfolioLikeService.likePortfolio(portfolio.getId());
+
+        // then
+        verify(portfolioRepository, never()).increaseLikeCount(anyLong());
+        assertThat(result.isLikeStatus()).isTrue();
+        assertThat(result.getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 포트폴리오 좋아요 클릭 테스트")
+    void likePortfolioNotFound() {
+        // given
+        Long portfolioId = 100L;
+
+        // when
+        when(portfolioRepository.findById(portfolioId)).thenReturn(Optional.empty());
+
+        // then
+        GlobalException exception = assertThrows(GlobalException.class, () -> portfolioLikeService.likePortfolio(portfolioId));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PORTFOLIO_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("write-behind 모드 포트폴리오 좋아요 클릭 테스트")
+    void likePortfolioWithWriteBehind() {
+        // given
+        // when
+        when(portfolioLikeBuffer.isEnabled()).thenReturn(true);
+        when(portfolioLikeBuffer.toggle(eq(portfolio.getId()), any())).thenReturn(new PortfolioLikeDTO.PortfolioLikeResp(true, 1L));
+
+        PortfolioLikeDTO.PortfolioLikeResp result = portfolioLikeService.likePortfolio(portfolio.getId());
+
+        // then
+        verify(portfolioLikeBuffer, times(1)).toggle(eq(portfolio.getId()), any());
+        verify(portfolioRepository, never()).findById(anyLong());
+        verify(portfolioLikeRepository, never()).save(any());
+        assertThat(result.isLikeStatus()).isTrue();
+        assertThat(result.getLikeCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("좋아요 누른 포트폴리오 목록 조회 테스트")
     void getPortfolioWhichLikes() {
         // given
         int page = 1;
 
+        PortfolioDTO.PortfolioAndMemberResp portfolioCard = new PortfolioDTO.PortfolioAndMemberResp(portfolio.getId(),
+                portfolio.getTitle(), portfolio.getDescription(), portfolio.getBackgroundImg(),
+                portfolio.getWriter().getNickName(), portfolio.getWriter().getProfileImg(), 1, portfolio.getCreatedDate());
+
         // when
-        when(portfolioRepository.findPortfolioWhichMemberLike(eq(member))).thenReturn(List.of(portfolio));
-        when(portfolioRepository.findPortfolioWhichMemberLike(eq(member), anyInt())).thenReturn(List.of(portfolio));
+        when(portfolioLikeJdbcRepository.countByMemberId(member.getId())).thenReturn(1);
+        when(portfolioRepository.findPortfolioCardListWhichMemberLike(eq(member.getId()), anyInt())).thenReturn(List.of(portfolioCard));
 
         PortfolioDTO.PortfolioAndMemberListResp result = portfolioLikeService.getPortfolioWhichLikes(page);
 
         // then
-        verify(portfolioRepository, times(1)).findPortfolioWhichMemberLike(member);
-        verify(portfolioRepository, times(1)).findPortfolioWhichMemberLike(member, 0);
+        verify(portfolioLikeJdbcRepository, times(1)).countByMemberId(member.getId());
+        verify(portfolioRepository, times(1)).findPortfolioCardListWhichMemberLike(member.getId(), 0);
         assertThat(result).isNotNull();
         assertThat(result.getPortfolioAndMemberRespList()).hasSize(1);
         assertThat(result.getPortfolioAndMemberRespList().get(0).getNickName()).isEqualTo(portfolio.getWriter().getNickName());
         assertThat(result.getPortfolioAndMemberRespList().get(0).getTitle()).isEqualTo(portfolio.getTitle());
         assertThat(result.getPortfolioAndMemberRespList().get(0).getDescription()).isEqualTo(portfolio.getDescription());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인한 사용자의 포트폴리오 카드 좋아요 여부 채우기 테스트")
+    void fillLikeStatus() {
+        // given
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioCardList = List.of(toCard(1L), toCard(2L), toCard(3L));
+
+        // when
+        when(portfolioLikeIndex.findLikedPortfolioIds(any(), eq(List.of(1L, 2L, 3L)))).thenReturn(Set.of(2L));
+
+        portfolioLikeService.fillLikeStatus(portfolioCardList);
+
+        // then
+        verify(portfolioLikeIndex, times(1)).findLikedPortfolioIds(any(), anyCollection());
+        assertThat(portfolioCardList).extracting("likeStatus").containsExactly(false, true, false);
+    }
+
+    @Test
+    @DisplayName("비로그인 요청이면 좋아요 여부를 조회하지 않음")
+    void fillLikeStatusAnonymous() {
+        // given
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioCardList = List.of(toCard(1L));
+
+        SecurityContextHolder.setContext(new SecurityContextImpl(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"))));
+
+        // when
+        portfolioLikeService.fillLikeStatus(portfolioCardList);
+
+        // then
+        verifyNoInteractions(portfolioLikeIndex, portfolioLikeJdbcRepository);
+        assertThat(portfolioCardList.get(0).isLikeStatus()).isFalse();
+    }
+
+    private PortfolioDTO.PortfolioAndMemberResp toCard(Long portfolioId) {
+        return new PortfolioDTO.PortfolioAndMemberResp(portfolioId, "POJE " + portfolioId, "포트폴리오 제작 및 공유",
+                "DEFAULT_IMG", member.getNickName(), member.getProfileImg(), 0, null);
+    }
+}
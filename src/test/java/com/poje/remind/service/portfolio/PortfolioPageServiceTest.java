@@ -0,0 +1,253 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.CurrentMember;
+import com.poje.remind.config.PortfolioPageExecutor;
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.PortfolioAward;
+import com.poje.remind.domain.portfolio.PortfolioSkill;
+import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
+import com.poje.remind.domain.project.Project;
+import com.poje.remind.domain.project.ProjectAward;
+import com.poje.remind.domain.project.ProjectImg;
+import com.poje.remind.domain.project.ProjectSkill;
+import com.poje.remind.repository.portfolio.PortfolioAwardRepository;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import com.poje.remind.repository.portfolio.PortfolioSkillRepository;
+import com.poje.remind.repository.project.ProjectImgRepository;
+import com.poje.remind.repository.project.ProjectSkillRepository;
+import com.poje.remind.service.image.ImageService;
+import com.poje.remind.service.project.ProjectAwardService;
+import com.poje.remind.service.project.ProjectImgService;
+import com.poje.remind.service.project.ProjectService;
+import com.poje.remind.service.project.ProjectSkillService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포트폴리오 전체 페이지 조회가 영역 수와 관계없이 정해진 쿼리 수 안에서 끝나는지 확인
+ * 영역은 다른 스레드의 트랜잭션에서 조회되므로 테스트 트랜잭션 없이 데이터를 커밋한 뒤 조회
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PortfolioPageServiceTest.TestConfig.class, PortfolioPageService.class, PortfolioAuthorizer.class,
+        ProjectService.class, ProjectSkillService.class, ProjectImgService.class})
+class PortfolioPageServiceTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public PortfolioRepository portfolioRepository(EntityManager em) {
+            return new PortfolioRepository(em);
+        }
+
+        @Bean
+        public PortfolioSkillRepository portfolioSkillRepository(EntityManager em) {
+            return new PortfolioSkillRepository(em);
+        }
+
+        @Bean
+        public PortfolioAwardRepository portfolioAwardRepository(EntityManager em) {
+            return new PortfolioAwardRepository(em);
+        }
+
+        @Bean
+        public ProjectSkillRepository projectSkillRepository(EntityManager em) {
+            return new ProjectSkillRepository(em);
+        }
+
+        @Bean
+        public ProjectImgRepository projectImgRepository(EntityManager em) {
+            return new ProjectImgRepository(em);
+        }
+
+        @Bean
+        public PortfolioPageExecutor portfolioPageExecutor() {
+            return new PortfolioPageExecutor(4, 32);
+        }
+    }
+
+    // 포트폴리오(작성자, 직무) 1 + 스킬 1 + 수상 1 + 프로젝트(수상) 1 + 프로젝트 사용 기술 1 + 프로젝트 이미지 1
+    private static final int QUERY_BUDGET = 6;
+    private static final int PROJECT_SIZE = 5;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PortfolioPageService portfolioPageService;
+
+    @MockBean
+    private PortfolioService portfolioService;
+
+    @MockBean
+    private ProjectAwardService projectAwardService;
+
+    @MockBean
+    private ImageService imageService;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long portfolioId;
+
+    @BeforeEach
+    void setup() {
+        portfolioId = new TransactionTemplate(transactionManager).execute(status -> savePortfolio());
+
+        // 좋아요 정보는 Redis 또는 메모리 색인에서 조회하므로 쿼리 수에서 제외
+        when(portfolioService.toPortfolioInfoResp(any(Portfolio.class), anyLong())).thenAnswer(invocation -> PortfolioDTO.PortfolioInfoResp.builder()
+                .portfolio(invocation.getArgument(0))
+                .likeStatus(true)
+                .likeCount(3)
+                .build());
+
+        CurrentMember currentMember = new CurrentMember(1L, "testId001", "", RoleType.ROLE_USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(currentMember, "", currentMember.getAuthorities()));
+    }
+
+    @AfterEach
+    void end() {
+        SecurityContextHolder.clearContext();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for(String entityName : List.of("ProjectImg", "ProjectSkill", "Project", "ProjectAward",
+                    "PortfolioSkill", "PortfolioAward", "Portfolio", "Member", "Job")) {
+                em.createQuery("delete from " + entityName).executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("포트폴리오 전체 페이지를 정해진 쿼리 수로 조회")
+    void getPortfolioFull() {
+        // given
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        PortfolioDTO.PortfolioFullResp result = portfolioPageService.getPortfolioFull(portfolioId);
+
+        // then
+        assertThat(result.getPortfolio().getTitle()).isEqualTo("포트폴리오 title");
+        assertThat(result.getPortfolio().getJobName()).isEqualTo("개발자");
+        assertThat(result.getPortfolio().getLikeCount()).isEqualTo(3);
+        assertThat(result.getAboutMe().getNickName()).isEqualTo("tester001");
+        assertThat(result.getSkills()).extracting("name").containsExactly("Java", "Spring");
+        assertThat(result.getAwards()).extracting("supervision").containsExactly("주최 기관");
+        assertThat(result.getProjects()).hasSize(PROJECT_SIZE);
+        assertThat(result.getProjects()).allSatisfy(projectResp -> {
+            assertThat(projectResp.getAward().getSupervision()).isEqualTo("프로젝트 주최 기관");
+            assertThat(projectResp.getSkills()).hasSize(3);
+            assertThat(projectResp.getImages()).hasSize(2);
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 포트폴리오는 다른 영역을 조회하지 않고 PORTFOLIO_NOT_FOUND")
+    void getPortfolioFullNotFound() {
+        // given
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        GlobalException exception = assertThrows(GlobalException.class, () -> portfolioPageService.getPortfolioFull(portfolioId + 1_000));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PORTFOLIO_NOT_FOUND);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Long savePortfolio() {
+        Member member = Member.builder()
+                .loginId("testId001")
+                .nickName("tester001")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Job job = Job.builder()
+                .name("개발자")
+                .build();
+
+        em.persist(member);
+        em.persist(job);
+
+        Portfolio portfolio = Portfolio.builder()
+                .title("포트폴리오 title")
+                .description("포트폴리오 description")
+                .backgroundImg("포트폴리오 IMG")
+                .writer(member)
+                .job(job)
+                .build();
+
+        em.persist(portfolio);
+
+        em.persist(PortfolioSkill.builder().name("Java").path("자바 경로").portfolio(portfolio).build());
+        em.persist(PortfolioSkill.builder().name("Spring").path("스프링 경로").portfolio(portfolio).build());
+        em.persist(PortfolioAward.builder().supervision("주최 기관").grade("대상").description("수상 설명").portfolio(portfolio).build());
+
+        for(int i = 0; i < PROJECT_SIZE; i++) {
+            Project project = Project.builder()
+                    .name("프로젝트 " + i)
+                    .portfolio(portfolio)
+                    .build();
+
+            ProjectAward projectAward = ProjectAward.builder()
+                    .supervision("프로젝트 주최 기관")
+                    .grade("금상")
+                    .description("프로젝트 수상 설명")
+                    .project(project)
+                    .build();
+
+            em.persist(projectAward);
+            em.persist(project);
+
+            for(int j = 0; j < 3; j++) {
+                em.persist(ProjectSkill.builder().name("SKILL " + j).project(project).build());
+            }
+
+            for(int j = 0; j < 2; j++) {
+                em.persist(ProjectImg.builder().url("이미지 url " + j).project(project).build());
+            }
+        }
+
+        return portfolio.getId();
+    }
+}
@@ -0,0 +1,163 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
+import com.poje.remind.repository.ability.JobRepository;
+import com.poje.remind.repository.member.MemberRepository;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * LIKE '%keyword%' JPQL 조회와 n-gram 색인 조회 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(PortfolioSearchBenchmarkTest.TestConfig.class)
+class PortfolioSearchBenchmarkTest {
+
+    @TestConfiguration
+    public static class TestConfig {
+        @Bean
+        public PortfolioRepository portfolioRepository(EntityManager em) {
+            return new PortfolioRepository(em);
+        }
+
+        @Bean
+        public PortfolioSearchEngine portfolioSearchEngine(PortfolioRepository portfolioRepository) {
+            return new PortfolioSearchEngine(portfolioRepository, mock(RedisTemplate.class));
+        }
+    }
+
+    private static final int PORTFOLIO_COUNT = 100_000;
+    private static final int ITERATIONS = 20;
+    private static final String[] WORDS = {"spring", "react", "kotlin", "쇼핑몰", "클론코딩", "데이터", "게임", "블로그", "포트폴리오", "알고리즘"};
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private PortfolioSearchEngine portfolioSearchEngine;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Test
+    @DisplayName("100,000 개 포트폴리오에서 키워드 검색 성능 비교")
+    void compareKeywordSearch() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .loginId("benchmark")
+                .nickName("benchmark")
+                .role(RoleType.ROLE_USER)
+                .build());
+
+        Job job = jobRepository.save(Job.builder()
+                .name("개발자")
+                .build());
+
+        em.flush();
+
+        List<Object[]> rowList = new ArrayList<>();
+        for(int i = 0; i < PORTFOLIO_COUNT; i++) {
+            String title = WORDS[i % WORDS.length] + " 프로젝트 " + i;
+            String description = WORDS[(i * 7) % WORDS.length] + " 설명 " + i;
+            rowList.add(new Object[]{title, description, "DEFAULT_PORTFOLIO_IMG", member.getId(), job.getId()});
+        }
+
+        jdbcTemplate.batchUpdate("insert into portfolio (portfolio_id, title, description, background_img, member_id, job_id) " +
+                "values (next value for portfolio_seq, ?, ?, ?, ?, ?)", rowList);
+
+        portfolioSearchEngine.rebuild();
+
+        String keyword = "클론코딩";
+        int deepLimit = 5_000;
+
+        // 색인 검색 결과 수와 DB 검색 결과 수가 같은지 확인
+        Long expectedCount = em.createQuery("select count(p) " +
+                        "from Portfolio p " +
+                        "where p.job = :job " +
+                        "and (p.title like CONCAT('%', :keyword, '%') " +
+                        "or p.description like CONCAT('%', :keyword, '%'))", Long.class)
+                .setParameter("job", job)
+                .setParameter("keyword", keyword)
+                .getSingleResult();
+
+        assertThat(portfolioSearchEngine.count(job.getId(), keyword)).isEqualTo(expectedCount.intValue());
+
+        // when
+        double jpqlFirstPage = measure(() -> searchPageWithLike(job, keyword, 0));
+        double jpqlDeepPage = measure(() -> searchPageWithLike(job, keyword, deepLimit));
+        double indexFirstPage = measure(() -> searchPage(job, keyword, 0));
+        double indexDeepPage = measure(() -> searchPage(job, keyword, deepLimit));
+
+        // then
+        System.out.printf("[portfolio search] portfolios=%d, matches=%d%n", PORTFOLIO_COUNT, expectedCount);
+        System.out.printf("[portfolio search] JPQL  first page: %.3f ms, deep page: %.3f ms%n", jpqlFirstPage, jpqlDeepPage);
+        System.out.printf("[portfolio search] index first page: %.3f ms, deep page: %.3f ms%n", indexFirstPage, indexDeepPage);
+    }
+
+    // 색인 도입 전의 LIKE '%keyword%' 조회 (비교 기준)
+    private List<Portfolio> searchPageWithLike(Job job, String keyword, int limit) {
+        return em.createQuery("select p " +
+                        "from Portfolio p " +
+                        "where p.job = :job " +
+                        "and p.title like CONCAT('%', :keyword, '%')", Portfolio.class)
+                .setParameter("job", job)
+                .setParameter("keyword", keyword)
+                .setFirstResult(limit)
+                .setMaxResults(12)
+                .getResultList();
+    }
+
+    private List<PortfolioDTO.PortfolioAndMemberResp> searchPage(Job job, String keyword, int limit) {
+        List<Long> pagingIdList = portfolioSearchEngine.search(job.getId(), keyword, limit, 12);
+
+        return portfolioRepository.findPortfolioCardListByIdList(pagingIdList);
+    }
+
+    private double measure(Supplier<List<?>> query) {
+        // warm up
+        for(int i = 0; i < ITERATIONS; i++) {
+            query.get();
+            em.clear();
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < ITERATIONS; i++) {
+            query.get();
+            em.clear();
+        }
+
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
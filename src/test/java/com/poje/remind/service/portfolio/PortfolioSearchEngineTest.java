@@ -0,0 +1,245 @@
+package com.poje.remind.service.portfolio;
+
+import com.poje.remind.common.PagingCursor;
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(PortfolioSearchEngine.class)
+class PortfolioSearchEngineTest {
+
+    @Autowired
+    private PortfolioSearchEngine portfolioSearchEngine;
+
+    @MockBean
+    private PortfolioRepository portfolioRepository;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    private static final Long JOB_ID = 1L;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @BeforeEach
+    void setup() {
+        // 서버 별로 id 를 미리 할당받으므로 id 순서와 생성 순서가 다를 수 있음
+        when(portfolioRepository.findAllSearchDocuments()).thenReturn(List.of(
+                new Object[]{1L, JOB_ID, "POJE 포트폴리오", "포트폴리오 제작 및 공유", BASE_DATE.plusHours(1)},
+                new Object[]{2L, JOB_ID, "Spring Boot Project", "백엔드 개발", BASE_DATE.plusHours(3)},
+                new Object[]{3L, JOB_ID, "이랜드몰 클론코딩", "Spring 기반 쇼핑몰", BASE_DATE.plusHours(2)},
+                new Object[]{4L, 2L, "Spring 디자인", "다른 직무", BASE_DATE},
+                new Object[]{5L, JOB_ID, "Spring Batch", "정산 배치", BASE_DATE.plusHours(2)}
+        ));
+
+        portfolioSearchEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("키워드가 없으면 직무의 전체 포트폴리오를 (생성일, id) 내림차순으로 반환")
+    void searchWithoutKeyword() {
+        List<Long> result = searchAll(JOB_ID, "");
+
+        assertThat(result).containsExactly(2L, 5L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("제목과 설명에서 대소문자 구분 없이 키워드 검색")
+    void searchWithKeyword() {
+        assertThat(searchAll(JOB_ID, "spring")).containsExactly(2L, 5L, 3L);
+        assertThat(searchAll(JOB_ID, "포트폴리오")).containsExactly(1L);
+        assertThat(searchAll(JOB_ID, "쇼핑몰")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("n-gram 보다 짧은 키워드 검색")
+    void searchWithShortKeyword() {
+        assertThat(searchAll(JOB_ID, "몰")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("n-gram 은 모두 포함하지만 연속되지 않은 문자열은 검색되지 않음")
+    void searchFalsePositive() {
+        // "boot", "project" 에 n-gram 은 모두 존재하지만 "prooject" 라는 문자열은 존재하지 않음
+        assertThat(searchAll(JOB_ID, "prooject")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 이후 검색은 id 가 아닌 (생성일, id) 기준으로 이어서 반환")
+    void searchAfter() {
+        // when
+        List<Long> firstPage = portfolioSearchEngine.searchAfter(JOB_ID, "spring", null, 2);
+        List<Long> secondPage = portfolioSearchEngine.searchAfter(JOB_ID, "spring", new PagingCursor(BASE_DATE.plusHours(2), 5L), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(2L, 5L);
+        assertThat(secondPage).containsExactly(3L);
+        assertThat(portfolioSearchEngine.searchAfter(JOB_ID, "", new PagingCursor(BASE_DATE.plusHours(3), 2L), 10))
+                .containsExactly(5L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 색인 추가, 수정, 삭제 테스트")
+    void indexAndRemove() {
+        // given
+        Member member = Member.builder()
+                .loginId("testId001")
+                .nickName("tester001")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Job job = mock(Job.class);
+        when(job.getId()).thenReturn(JOB_ID);
+
+        Portfolio portfolio = Portfolio.builder()
+                .id(10L)
+                .title("새 포트폴리오")
+                .description("Kotlin 프로젝트")
+                .writer(member)
+                .job(job)
+                .build();
+
+        // when
+        portfolioSearchEngine.index(portfolio);
+
+        // then
+        assertThat(searchAll(job.getId(), "kotlin")).containsExactly(10L);
+
+        portfolio.update("수정된 포트폴리오", "Java 프로젝트");
+        portfolioSearchEngine.index(portfolio);
+
+        assertThat(searchAll(job.getId(), "kotlin")).isEmpty();
+        assertThat(searchAll(job.getId(), "java")).containsExactly(10L);
+
+        portfolioSearchEngine.remove(portfolio);
+
+        assertThat(searchAll(job.getId(), "")).containsExactly(2L, 5L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("재생성 중에는 기존 색인으로 검색하고, 재생성 중에 커밋된 변경은 새 색인에 반영")
+    void rebuildWhileIndexing() {
+        // given
+        Member member = Member.builder()
+                .loginId("testId002")
+                .nickName("tester002")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Job job = mock(Job.class);
+        when(job.getId()).thenReturn(JOB_ID);
+
+        Portfolio portfolio = Portfolio.builder()
+                .id(20L)
+                .title("Kotlin 포트폴리오")
+                .description("재생성 중 추가")
+                .writer(member)
+                .job(job)
+                .build();
+
+        List<Long> searchedDuringRebuild = new ArrayList<>();
+        when(portfolioRepository.findAllSearchDocuments()).thenAnswer(invocation -> {
+            searchedDuringRebuild.addAll(searchAll(JOB_ID, "spring"));
+            portfolioSearchEngine.index(portfolio);
+            return List.<Object[]>of(new Object[]{2L, JOB_ID, "Spring Boot Project", "백엔드 개발", BASE_DATE.plusHours(3)});
+        });
+
+        // when
+        portfolioSearchEngine.rebuild();
+
+        // then
+        assertThat(searchedDuringRebuild).containsExactly(2L, 5L, 3L);
+        assertThat(searchAll(JOB_ID, "")).containsExactly(2L, 20L);
+        assertThat(searchAll(JOB_ID, "kotlin")).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 변경된 포트폴리오는 DB 에서 다시 읽어 반영하고, 삭제되었으면 제거")
+    void refreshByMessage() {
+        // given
+        when(portfolioRepository.findSearchDocument(6L)).thenReturn(Optional.of(
+                new Object[]{6L, JOB_ID, "Kotlin 포트폴리오", "다른 서버에서 추가", BASE_DATE.plusHours(4)}));
+        when(portfolioRepository.findSearchDocument(2L)).thenReturn(Optional.empty());
+
+        // when
+        portfolioSearchEngine.onMessage(message("other-node:6"), null);
+        portfolioSearchEngine.onMessage(message("other-node:2"), null);
+
+        // then
+        assertThat(searchAll(JOB_ID, "kotlin")).containsExactly(6L);
+        assertThat(searchAll(JOB_ID, "")).containsExactly(6L, 5L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("커밋한 서버는 색인 변경을 다른 서버에 전파하고 자신이 보낸 메시지는 무시")
+    void publishAndIgnoreOwnMessage() {
+        // given
+        Member member = Member.builder()
+                .loginId("testId003")
+                .nickName("tester003")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Job job = mock(Job.class);
+        when(job.getId()).thenReturn(JOB_ID);
+
+        Portfolio portfolio = Portfolio.builder()
+                .id(30L)
+                .title("전파 테스트")
+                .description("Kotlin")
+                .writer(member)
+                .job(job)
+                .build();
+
+        // when
+        portfolioSearchEngine.index(portfolio);
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(1)).convertAndSend(eq(PortfolioSearchEngine.CHANNEL), messageCaptor.capture());
+        portfolioSearchEngine.onMessage(message(messageCaptor.getValue()), null);
+
+        // then
+        assertThat(messageCaptor.getValue()).endsWith(":30");
+        verify(portfolioRepository, never()).findSearchDocument(anyLong());
+    }
+
+    @Test
+    @DisplayName("페이지 번호 기반 검색은 해당 페이지만 반환하고 수는 따로 집계")
+    void searchPage() {
+        assertThat(portfolioSearchEngine.count(JOB_ID, "spring")).isEqualTo(3);
+        assertThat(portfolioSearchEngine.search(JOB_ID, "spring", 1, 1)).containsExactly(5L);
+        assertThat(portfolioSearchEngine.search(JOB_ID, "", 2, 10)).containsExactly(3L, 1L);
+        assertThat(portfolioSearchEngine.search(JOB_ID, "spring", 3, 10)).isEmpty();
+    }
+
+    private List<Long> searchAll(Long jobId, String keyword) {
+        return portfolioSearchEngine.search(jobId, keyword, 0, Integer.MAX_VALUE);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(PortfolioSearchEngine.CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,7 @@
 package com.poje.remind.service.portfolio;
 
+import com.poje.remind.common.PagingCursor;
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
@@ -7,8 +9,8 @@ import com.poje.remind.domain.portfolio.Portfolio;
 import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
 import com.poje.remind.repository.ability.JobRepository;
 import com.poje.remind.repository.member.MemberRepository;
-import com.poje.remind.repository.portfolio.PortfolioLikeRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
+import com.poje.remind.service.image.ImageService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,12 +19,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,7 +36,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
-@Import(PortfolioService.class)
+@Import({PortfolioService.class, PortfolioAuthorizer.class})
 class PortfolioServiceTest {
 
     @Autowired
@@ -47,17 +52,36 @@ class PortfolioServiceTest {
     private JobRepository jobRepository;
 
     @MockBean
-    private PortfolioLikeRepository portfolioLikeRepository;
+    private PortfolioSearchEngine portfolioSearchEngine;
+
+    @MockBean
+    private PortfolioCounter portfolioCounter;
+
+    @MockBean
+    private PortfolioLikeBuffer portfolioLikeBuffer;
+
+    @MockBean
+    private PortfolioLikeService portfolioLikeService;
+
+    @MockBean
+    private PortfolioLikeIndex portfolioLikeIndex;
+
+    @MockBean
+    private ImageService imageService;
 
     @MockBean
     private BCryptPasswordEncoder passwordEncoder;
 
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
     private Member member;
     private Job job;
 
     @BeforeEach
     void setup() {
         member = Member.builder()
+                .id(1L)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -76,11 +100,12 @@ class PortfolioServiceTest {
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
 
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(member.getId())).thenReturn(member);
         when(jobRepository.findByName(job.getName())).thenReturn(Optional.of(job));
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn(member.getLoginId());
+        when(authentication.getPrincipal()).thenReturn(new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole()));
 
         SecurityContextHolder.setContext(securityContext);
     }
@@ -103,6 +128,8 @@ class PortfolioServiceTest {
         // then
         verify(jobRepository, times(1)).findByName(jobName);
         verify(portfolioRepository, times(1)).save(any(Portfolio.class));
+        verify(portfolioSearchEngine, times(1)).index(any(Portfolio.class));
+        verify(portfolioCounter, times(1)).increase(job.getId());
     }
 
     @Test
@@ -122,13 +149,13 @@ class PortfolioServiceTest {
 
         // when
         when(portfolioRepository.findById(portfolioId)).thenReturn(Optional.of(portfolio));
-        when(portfolioLikeRepository.existsByMemberAndPortfolio(member, portfolio)).thenReturn(true);
+        when(portfolioLikeIndex.isLiked(member.getId(), portfolioId)).thenReturn(true);
 
         PortfolioDTO.PortfolioInfoResp portfolioInfoResp = portfolioService.getPortfolio(portfolioId);
 
         // then
         verify(portfolioRepository, times(1)).findById(portfolioId);
-        verify(portfolioLikeRepository, times(1)).existsByMemberAndPortfolio(member, portfolio);
+        verify(portfolioLikeIndex, times(1)).isLiked(member.getId(), portfolioId);
         assertThat(portfolioInfoResp.getTitle()).isEqualTo(portfolio.getTitle());
         assertThat(portfolioInfoResp.isLikeStatus()).isTrue();
     }
@@ -151,8 +178,12 @@ class PortfolioServiceTest {
                 .job(job)
                 .build();
 
+        PortfolioDTO.PortfolioAndMemberResp portfolioCard = toCard(portfolio);
+
         // when
-        when(portfolioRepository.findPortfolioWithJobAndKeyword(eq(job), eq(keyword), anyInt())).thenReturn(List.of(portfolio));
+        when(portfolioSearchEngine.count(job.getId(), keyword)).thenReturn(1);
+        when(portfolioSearchEngine.search(job.getId(), keyword, 0, 12)).thenReturn(List.of(portfolioId));
+        when(portfolioRepository.findPortfolioCardListByIdList(List.of(portfolioId))).thenReturn(List.of(portfolioCard));
         PortfolioDTO.PortfolioAndMemberListResp result = portfolioService.getPortfolioList(jobName, page, keyword);
 
         // then
@@ -163,9 +194,101 @@ class PortfolioServiceTest {
         assertThat(result.getPortfolioAndMemberRespList().get(0).getTitle()).isEqualTo(portfolio.getTitle());
         assertThat(result.getPortfolioAndMemberRespList().get(0).getDescription()).isEqualTo(portfolio.getDescription());
         assertThat(result.getPortfolioAndMemberRespList().get(0).getNickName()).isEqualTo(portfolio.getWriter().getNickName());
+        assertThat(result.getPagingUtil().getTotalElements()).isEqualTo(1);
 
         verify(jobRepository, times(1)).findByName(jobName);
-        verify(portfolioRepository, times(1)).findPortfolioWithJobAndKeyword(job, keyword, 0);
+        verify(portfolioCounter, never()).countByJob(any());
+        verify(portfolioSearchEngine, times(1)).search(job.getId(), keyword, 0, 12);
+        verify(portfolioRepository, times(1)).findPortfolioCardListByIdList(List.of(portfolioId));
+        verify(portfolioLikeService, times(1)).fillLikeStatus(result.getPortfolioAndMemberRespList());
+    }
+
+    @Test
+    @DisplayName("키워드 없는 포트폴리오 목록은 검색 색인 없이 DB 에서 조회")
+    void getPortfolioListWithoutKeyword() {
+        // given
+        String jobName = job.getName();
+        int page = 2;
+
+        Portfolio portfolio = Portfolio.builder()
+                .id(13L)
+                .title("POJE 포트폴리오")
+                .description("포트폴리오 제작 및 공유")
+                .backgroundImg("DEFAULT_IMG")
+                .writer(member)
+                .job(job)
+                .build();
+
+        // when
+        when(portfolioCounter.countByJob(job.getId())).thenReturn(13L);
+        when(portfolioRepository.findPortfolioCardListWithJob(job.getId(), 12, 12)).thenReturn(List.of(toCard(portfolio)));
+        PortfolioDTO.PortfolioAndMemberListResp result = portfolioService.getPortfolioList(jobName, page, "");
+
+        // then
+        assertThat(result.getPortfolioAndMemberRespList()).hasSize(1);
+        assertThat(result.getPagingUtil().getTotalElements()).isEqualTo(13);
+
+        verify(portfolioSearchEngine, never()).search(any(), any(), anyInt(), anyInt());
+        verify(portfolioRepository, times(1)).findPortfolioCardListWithJob(job.getId(), 12, 12);
+    }
+
+    @Test
+    @DisplayName("커서 기반 포트폴리오 목록 조회 테스트")
+    void getPortfolioListByCursor() {
+        // given
+        String jobName = job.getName();
+
+        List<PortfolioDTO.PortfolioAndMemberResp> portfolioCardList = new ArrayList<>();
+        for(long id = 13; id >= 1; id--) {
+            portfolioCardList.add(toCard(Portfolio.builder()
+                    .id(id)
+                    .title("POJE 포트폴리오 " + id)
+                    .description("포트폴리오 제작 및 공유")
+                    .backgroundImg("DEFAULT_IMG")
+                    .writer(member)
+                    .job(job)
+                    .build()));
+        }
+
+        // when
+        when(portfolioRepository.findPortfolioCardListWithJobAfterCursor(eq(job.getId()), isNull(), eq(PagingCursor.SIZE + 1))).thenReturn(portfolioCardList);
+        PortfolioDTO.PortfolioAndMemberCursorResp result = portfolioService.getPortfolioListByCursor(jobName, "", "");
+
+        // then
+        assertThat(result.getPortfolioAndMemberRespList()).hasSize(PagingCursor.SIZE);
+        assertThat(result.getPortfolioAndMemberRespList().get(0).getPortfolioId()).isEqualTo(13L);
+        assertThat(result.getPortfolioAndMemberRespList().get(PagingCursor.SIZE - 1).getPortfolioId()).isEqualTo(2L);
+        assertThat(result.getNext()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커서 기반 포트폴리오 키워드 검색 테스트")
+    void getPortfolioListByCursorWithKeyword() {
+        // given
+        String jobName = job.getName();
+        String keyword = "포트폴리오";
+
+        Portfolio portfolio = Portfolio.builder()
+                .id(3L)
+                .title("POJE 포트폴리오")
+                .description("포트폴리오 제작 및 공유")
+                .backgroundImg("DEFAULT_IMG")
+                .writer(member)
+                .job(job)
+                .build();
+
+        String cursor = new PagingCursor(LocalDateTime.now(), 5L).encode();
+
+        // when
+        when(portfolioSearchEngine.searchAfter(eq(job.getId()), eq(keyword), any(PagingCursor.class), eq(PagingCursor.SIZE + 1))).thenReturn(List.of(3L));
+        when(portfolioRepository.findPortfolioCardListByIdList(List.of(3L))).thenReturn(List.of(toCard(portfolio)));
+        PortfolioDTO.PortfolioAndMemberCursorResp result = portfolioService.getPortfolioListByCursor(jobName, cursor, keyword);
+
+        // then
+        verify(portfolioSearchEngine, times(1)).searchAfter(eq(job.getId()), eq(keyword), any(PagingCursor.class), eq(PagingCursor.SIZE + 1));
+        verify(portfolioRepository, times(1)).findPortfolioCardListByIdList(List.of(3L));
+        assertThat(result.getPortfolioAndMemberRespList()).hasSize(1);
+        assertThat(result.getNext()).isNull();
     }
 
     @Test
@@ -211,10 +334,11 @@ class PortfolioServiceTest {
                 .build();
 
         // when
+        when(portfolioRepository.findPortfolioCardListByWriter(member.getId())).thenReturn(List.of(toCard(portfolio)));
         PortfolioDTO.PortfolioAndMemberListResp result = portfolioService.getMemberPortfolioList();
 
         // then
-        verify(memberRepository, times(1)).findByLoginId(member.getLoginId());
+        verify(portfolioRepository, times(1)).findPortfolioCardListByWriter(member.getId());
         assertThat(result).isNotNull();
         assertThat(result.getPortfolioAndMemberRespList()).isNotEmpty();
         assertThat(result.getPortfolioAndMemberRespList()).hasSize(1);
@@ -239,21 +363,24 @@ class PortfolioServiceTest {
                 .job(job)
                 .build();
 
-        PortfolioDTO.UpdateReq updateReq = new PortfolioDTO.UpdateReq("EMMERCE 포트폴리오", "이랜드몰 클론코딩");
+        String imageId = "a".repeat(64);
+        PortfolioDTO.UpdateReq updateReq = new PortfolioDTO.UpdateReq("EMMERCE 포트폴리오", "이랜드몰 클론코딩", imageId);
 
         // when
         when(portfolioRepository.findById(portfolioId)).thenReturn(Optional.of(portfolio));
-        when(portfolioLikeRepository.existsByMemberAndPortfolio(member, portfolio)).thenReturn(true);
+        when(imageService.toUrl(imageId)).thenReturn("/images/" + imageId);
+        when(portfolioLikeIndex.isLiked(member.getId(), portfolioId)).thenReturn(true);
 
         PortfolioDTO.PortfolioInfoResp result = portfolioService.updatePortfolio(portfolioId, updateReq);
 
         // then
         verify(portfolioRepository, times(1)).findById(portfolioId);
-        verify(portfolioLikeRepository, times(1)).existsByMemberAndPortfolio(member, portfolio);
+        verify(portfolioLikeIndex, times(1)).isLiked(member.getId(), portfolioId);
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(portfolio.getId());
         assertThat(result.getTitle()).isEqualTo(portfolio.getTitle());
         assertThat(result.getDescription()).isEqualTo(portfolio.getDescription());
+        assertThat(result.getBackgroundImg()).isEqualTo("/images/" + imageId);
         assertThat(result.isLikeStatus()).isTrue();
         System.out.println(result.getLikeCount());
     }
@@ -280,5 +407,14 @@ class PortfolioServiceTest {
         // then
         verify(portfolioRepository, times(1)).findById(portfolioId);
         verify(portfolioRepository, times(1)).delete(portfolio);
+        verify(portfolioSearchEngine, times(1)).remove(portfolio);
+        verify(portfolioCounter, times(1)).decrease(job.getId());
+        verify(portfolioLikeIndex, times(1)).removePortfolio(portfolioId);
+    }
+
+    private PortfolioDTO.PortfolioAndMemberResp toCard(Portfolio portfolio) {
+        return new PortfolioDTO.PortfolioAndMemberResp(portfolio.getId(), portfolio.getTitle(), portfolio.getDescription(),
+                portfolio.getBackgroundImg(), portfolio.getWriter().getNickName(), portfolio.getWriter().getProfileImg(),
+                0, portfolio.getCreatedDate());
     }
-}
\ No newline at end of file
+}
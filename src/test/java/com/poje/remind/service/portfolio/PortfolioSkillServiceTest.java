@@ -1,5 +1,6 @@
 package com.poje.remind.service.portfolio;
 
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
@@ -15,9 +16,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -32,7 +35,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
-@Import(PortfolioSkillService.class)
+@Import({PortfolioSkillService.class, PortfolioAuthorizer.class})
 class PortfolioSkillServiceTest {
 
     @Autowired
@@ -53,6 +56,9 @@ class PortfolioSkillServiceTest {
     @MockBean
     private BCryptPasswordEncoder passwordEncoder;
 
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
     private Member member;
     private Job job;
     private Portfolio portfolio;
@@ -60,6 +66,7 @@ class PortfolioSkillServiceTest {
     @BeforeEach
     void setup() {
         member = Member.builder()
+                .id(1L)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -87,12 +94,12 @@ class PortfolioSkillServiceTest {
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
 
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
         when(jobRepository.findByName(job.getName())).thenReturn(Optional.of(job));
         when(portfolioRepository.findById(portfolio.getId())).thenReturn(Optional.of(portfolio));
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn(member.getLoginId());
+        when(authentication.getPrincipal()).thenReturn(new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole()));
 
         SecurityContextHolder.setContext(securityContext);
     }
@@ -112,16 +119,27 @@ class PortfolioSkillServiceTest {
                 .portfolio(portfolio)
                 .build();
 
+        PortfolioSkill keptSkill = PortfolioSkill.builder()
+                .name("SPRING")
+                .path("SPRING Path")
+                .portfolio(portfolio)
+                .build();
+
+        PortfolioSkillDTO.UpdateReq javaReq = new PortfolioSkillDTO.UpdateReq("JAVA", "JAVA Path");
         PortfolioSkillDTO.UpdateReqList updateReqList = new PortfolioSkillDTO.UpdateReqList(
-                List.of(new PortfolioSkillDTO.UpdateReq("JAVA", "JAVA Path"),
-                        new PortfolioSkillDTO.UpdateReq("SPRING", "SPRING Path")));
+                List.of(javaReq, new PortfolioSkillDTO.UpdateReq("SPRING", "SPRING Path")));
 
         // when
         portfolioSkillService.updatePortfolioSkill(portfolio.getId(), updateReqList);
 
         // then
-        verify(portfolioSkillRepository, times(1)).delete(skill);
-        verify(portfolioSkillRepository, times(2)).save(any(PortfolioSkill.class));
+        // 삭제는 IN 쿼리 한 번, 추가는 한 번에 저장
+        ArgumentCaptor<List<PortfolioSkill>> savedSkillCaptor = ArgumentCaptor.forClass(List.class);
+
+        verify(portfolioSkillRepository, times(1)).deleteAll(List.of(skill));
+        verify(portfolioSkillRepository, times(1)).saveAll(savedSkillCaptor.capture());
+        verify(portfolioSkillRepository, never()).save(any(PortfolioSkill.class));
+        assertThat(savedSkillCaptor.getValue()).extracting(PortfolioSkill::getName).containsExactly(javaReq.getName());
     }
 
     @Test
@@ -0,0 +1,170 @@
+package com.poje.remind.service.portfolio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.portfolio.PortfolioSnapshot;
+import com.poje.remind.domain.portfolio.dto.PortfolioDTO;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import com.poje.remind.repository.portfolio.PortfolioSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import({PortfolioSnapshotService.class, ObjectMapper.class})
+class PortfolioSnapshotServiceTest {
+
+    @Autowired
+    private PortfolioSnapshotService portfolioSnapshotService;
+
+    @MockBean
+    private PortfolioPageService portfolioPageService;
+
+    @MockBean
+    private PortfolioRepository portfolioRepository;
+
+    @MockBean
+    private PortfolioSnapshotRepository portfolioSnapshotRepository;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    private Portfolio portfolio;
+
+    @BeforeEach
+    void setup() {
+        Member member = Member.builder()
+                .id(1L)
+                .loginId("testId001")
+                .nickName("tester001")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Job job = Job.builder()
+                .name("개발자")
+                .build();
+
+        portfolio = Portfolio.builder()
+                .id(1L)
+                .title("POJE")
+                .description("포트폴리오 제작 및 공유")
+                .backgroundImg("DEFAULT_IMG")
+                .writer(member)
+                .job(job)
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장된 스냅샷은 다시 직렬화하지 않고 version 과 함께 반환")
+    void getStoredSnapshot() {
+        // given
+        byte[] content = "{\"title\":\"POJE\"}".getBytes(StandardCharsets.UTF_8);
+        PortfolioSnapshot snapshot = PortfolioSnapshot.builder()
+                .portfolioId(portfolio.getId())
+                .content(content)
+                .build();
+
+        when(portfolioSnapshotRepository.findById(portfolio.getId())).thenReturn(Optional.of(snapshot));
+
+        // when
+        PortfolioSnapshotService.Snapshot result = portfolioSnapshotService.getSnapshot(portfolio.getId());
+
+        // then
+        assertThat(result.getContent()).isSameAs(content);
+        assertThat(result.getVersion()).isEqualTo(1L);
+        verify(portfolioPageService, never()).getPortfolioSnapshot(anyLong());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 바로 생성해서 반환하고 스냅샷 스레드에서 저장")
+    void getSnapshotWhenMissing() {
+        // given
+        when(portfolioSnapshotRepository.findById(portfolio.getId())).thenReturn(Optional.empty());
+        when(portfolioPageService.getPortfolioSnapshot(portfolio.getId())).thenReturn(Optional.of(snapshotResp()));
+
+        // when
+        PortfolioSnapshotService.Snapshot result = portfolioSnapshotService.getSnapshot(portfolio.getId());
+
+        // then
+        assertThat(new String(result.getContent(), StandardCharsets.UTF_8)).contains("\"title\":\"POJE\"", "\"jobName\":\"개발자\"");
+        assertThat(result.getVersion()).isNull();
+
+        ArgumentCaptor<byte[]> contentCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(portfolioSnapshotRepository, timeout(1000)).save(eq(portfolio.getId()), contentCaptor.capture());
+        assertThat(contentCaptor.getValue()).isEqualTo(result.getContent());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 포트폴리오의 스냅샷 조회 시 PORTFOLIO_NOT_FOUND")
+    void getSnapshotNotFound() {
+        // given
+        when(portfolioSnapshotRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(portfolioPageService.getPortfolioSnapshot(anyLong())).thenReturn(Optional.empty());
+
+        // when
+        GlobalException exception = assertThrows(GlobalException.class, () -> portfolioSnapshotService.getSnapshot(2L));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PORTFOLIO_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("삭제된 포트폴리오의 변경 이벤트는 스냅샷 삭제")
+    void refreshDeletedPortfolio() {
+        // given
+        when(portfolioPageService.getPortfolioSnapshot(portfolio.getId())).thenReturn(Optional.empty());
+
+        // when
+        portfolioSnapshotService.onPortfolioChanged(PortfolioChangedEvent.ofPortfolio(portfolio.getId()));
+
+        // then
+        verify(portfolioSnapshotRepository, timeout(1000)).deleteById(portfolio.getId());
+        verify(portfolioSnapshotRepository, never()).save(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("작성자 정보 변경 이벤트는 작성자의 모든 포트폴리오 스냅샷 재생성")
+    void refreshWriterPortfolios() {
+        // given
+        when(portfolioRepository.findIdListByWriterId(1L)).thenReturn(List.of(1L, 2L));
+        when(portfolioPageService.getPortfolioSnapshot(anyLong())).thenReturn(Optional.of(snapshotResp()));
+
+        // when
+        portfolioSnapshotService.onPortfolioChanged(PortfolioChangedEvent.ofWriter(1L));
+
+        // then
+        verify(portfolioSnapshotRepository, timeout(1000)).save(eq(1L), any());
+        verify(portfolioSnapshotRepository, timeout(1000)).save(eq(2L), any());
+    }
+
+    private PortfolioDTO.PortfolioSnapshotResp snapshotResp() {
+        return PortfolioDTO.PortfolioSnapshotResp.builder()
+                .portfolio(portfolio)
+                .skills(List.of())
+                .awards(List.of())
+                .projects(List.of())
+                .build();
+    }
+}
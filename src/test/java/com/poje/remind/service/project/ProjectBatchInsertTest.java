@@ -0,0 +1,155 @@
+package com.poje.remind.service.project;
+
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.project.Project;
+import com.poje.remind.domain.project.ProjectImg;
+import com.poje.remind.domain.project.ProjectSkill;
+import com.poje.remind.domain.project.dto.ProjectSkillDTO;
+import com.poje.remind.repository.project.ProjectImgRepository;
+import com.poje.remind.repository.project.ProjectSkillRepository;
+import com.poje.remind.service.image.ImageService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시퀀스 id 할당으로 프로젝트 스킬/이미지 insert 가 JDBC batch 로 묶이는지 statement 수로 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProjectBatchInsertTest.TestConfig.class, ProjectSkillService.class, ProjectImgService.class})
+class ProjectBatchInsertTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public ProjectSkillRepository projectSkillRepository(EntityManager em) {
+            return new ProjectSkillRepository(em);
+        }
+
+        @Bean
+        public ProjectImgRepository projectImgRepository(EntityManager em) {
+            return new ProjectImgRepository(em);
+        }
+    }
+
+    private static final int UPDATE_SIZE = 30;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private ProjectSkillService projectSkillService;
+
+    @Autowired
+    private ProjectImgService projectImgService;
+
+    @MockBean
+    private ImageService imageService;
+
+    @Test
+    @DisplayName("스킬/이미지 일괄 수정 시 추가되는 행 수와 관계없이 statement 수가 일정")
+    void updateSkillAndImageStatementCount() {
+        // given
+        Long projectId = saveProjectWithSkillAndImage();
+
+        em.flush();
+        em.clear();
+
+        Project project = em.find(Project.class, projectId);
+
+        List<ProjectSkillDTO.UpdateReq> updateSkills = IntStream.range(0, UPDATE_SIZE)
+                .mapToObj(i -> new ProjectSkillDTO.UpdateReq("SKILL " + i))
+                .collect(Collectors.toList());
+
+        List<String> updateImages = IntStream.range(0, UPDATE_SIZE)
+                .mapToObj(i -> "이미지 url " + i)
+                .collect(Collectors.toList());
+
+        // 이미지 id 검증은 제외하고 요청 값을 그대로 url 로 사용
+        when(imageService.toUrlList(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        projectSkillService.updateSkill(project, updateSkills);
+        projectImgService.updateImage(project, updateImages);
+        em.flush();
+
+        // then
+        // 테이블 별로 기존 목록 조회 1 + 일괄 삭제 1 + 컬렉션 초기화 1 + 시퀀스 조회 1 + batch insert 1
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(UPDATE_SIZE * 2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+
+        em.clear();
+        assertThat(em.createQuery("select count(ps) from ProjectSkill ps", Long.class).getSingleResult()).isEqualTo(UPDATE_SIZE);
+        assertThat(em.createQuery("select count(pi) from ProjectImg pi", Long.class).getSingleResult()).isEqualTo(UPDATE_SIZE);
+    }
+
+    private Long saveProjectWithSkillAndImage() {
+        Member member = Member.builder()
+                .loginId("testId001")
+                .nickName("tester001")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Job job = Job.builder()
+                .name("개발자")
+                .build();
+
+        em.persist(member);
+        em.persist(job);
+
+        Portfolio portfolio = Portfolio.builder()
+                .title("포트폴리오 title")
+                .description("포트폴리오 description")
+                .backgroundImg("포트폴리오 IMG")
+                .writer(member)
+                .job(job)
+                .build();
+
+        em.persist(portfolio);
+
+        Project project = Project.builder()
+                .name("POJE")
+                .portfolio(portfolio)
+                .build();
+
+        em.persist(project);
+
+        // 수정 요청에 없는 기존 스킬, 이미지
+        for(int i = 0; i < 5; i++) {
+            em.persist(ProjectSkill.builder()
+                    .name("OLD SKILL " + i)
+                    .project(project)
+                    .build());
+
+            em.persist(ProjectImg.builder()
+                    .url("기존 이미지 url " + i)
+                    .project(project)
+                    .build());
+        }
+
+        return project.getId();
+    }
+}
@@ -11,6 +11,7 @@ import com.poje.remind.repository.member.MemberRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
 import com.poje.remind.repository.project.ProjectImgRepository;
 import com.poje.remind.repository.project.ProjectRepository;
+import com.poje.remind.service.image.ImageService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +44,9 @@ class ProjectImgServiceTest {
     @MockBean
     private ProjectImgRepository projectImgRepository;
 
+    @MockBean
+    private ImageService imageService;
+
     @MockBean
     private ProjectRepository projectRepository;
 
@@ -133,9 +137,11 @@ class ProjectImgServiceTest {
                 .project(project)
                 .build();
 
-        List<String> updateImages = List.of("newImage1", "newImage2");
+        List<String> updateImages = List.of("newImage1", "newImage2", "newImage1");
+        when(imageService.toUrlList(updateImages)).thenReturn(List.of("/images/newImage1", "/images/newImage2", "/images/newImage1"));
 
-        ArgumentCaptor<ProjectImg> imgCaptor = ArgumentCaptor.forClass(ProjectImg.class);
+        ArgumentCaptor<List<ProjectImg>> imgCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<ProjectImg>> savedImgCaptor = ArgumentCaptor.forClass(List.class);
 
         // when
         when(projectImgRepository.findByProject(project)).thenReturn(List.of(projectImg1, projectImg2));
@@ -143,11 +149,47 @@ class ProjectImgServiceTest {
 
         // then
         verify(projectImgRepository, times(1)).findByProject(project);
-        verify(projectImgRepository, times(2)).save(any(ProjectImg.class));
-        verify(projectImgRepository, times(2)).delete(imgCaptor.capture());
+        // 중복된 이미지는 한 번만 저장
+        verify(projectImgRepository, times(1)).saveAll(savedImgCaptor.capture());
+        assertThat(savedImgCaptor.getValue()).extracting(ProjectImg::getUrl).containsExactly("/images/newImage1", "/images/newImage2");
+        verify(projectImgRepository, times(1)).deleteAll(imgCaptor.capture());
 
-        List<ProjectImg> capturedImgList = imgCaptor.getAllValues();
+        List<ProjectImg> capturedImgList = imgCaptor.getValue();
+        assertThat(capturedImgList).hasSize(2);
         assertTrue(capturedImgList.contains(projectImg1));
         assertTrue(capturedImgList.contains(projectImg2));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이미지 업로드 도입 전에 저장된 기존 url 은 그대로 유지")
+    void updateImageKeepLegacyUrl() {
+        // given
+        ProjectImg legacyImg = ProjectImg.builder()
+                .url("https://s3.amazonaws.com/poje/legacy.png")
+                .project(project)
+                .build();
+
+        ProjectImg removedImg = ProjectImg.builder()
+                .url("https://s3.amazonaws.com/poje/removed.png")
+                .project(project)
+                .build();
+
+        List<String> updateImages = List.of("https://s3.amazonaws.com/poje/legacy.png", "newImage1");
+        when(projectImgRepository.findByProject(project)).thenReturn(List.of(legacyImg, removedImg));
+        when(imageService.toUrlList(List.of("newImage1"))).thenReturn(List.of("/images/newImage1"));
+
+        ArgumentCaptor<List<ProjectImg>> removedImgCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<ProjectImg>> savedImgCaptor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        projectImgService.updateImage(project, updateImages);
+
+        // then
+        verify(imageService, times(1)).toUrlList(List.of("newImage1"));
+        verify(projectImgRepository, times(1)).deleteAll(removedImgCaptor.capture());
+        verify(projectImgRepository, times(1)).saveAll(savedImgCaptor.capture());
+
+        assertThat(removedImgCaptor.getValue()).containsExactly(removedImg);
+        assertThat(savedImgCaptor.getValue()).extracting(ProjectImg::getUrl).containsExactly("/images/newImage1");
+    }
+}
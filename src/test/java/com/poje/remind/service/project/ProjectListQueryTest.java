@@ -0,0 +1,162 @@
+package com.poje.remind.service.project;
+
+import com.poje.remind.domain.Member.Member;
+import com.poje.remind.domain.Member.RoleType;
+import com.poje.remind.domain.ability.Job;
+import com.poje.remind.domain.portfolio.Portfolio;
+import com.poje.remind.domain.project.Project;
+import com.poje.remind.domain.project.ProjectImg;
+import com.poje.remind.domain.project.ProjectSkill;
+import com.poje.remind.domain.project.dto.ProjectDTO;
+import com.poje.remind.repository.portfolio.PortfolioRepository;
+import com.poje.remind.repository.project.ProjectImgRepository;
+import com.poje.remind.repository.project.ProjectSkillRepository;
+import com.poje.remind.service.image.ImageService;
+import com.poje.remind.service.portfolio.PortfolioAuthorizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로젝트 목록 조회 시 사용 기술/이미지가 카테시안 곱 없이 조회되는지 statement 수와 조회 행 수로 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProjectListQueryTest.TestConfig.class, ProjectService.class, ProjectSkillService.class, ProjectImgService.class, PortfolioAuthorizer.class})
+class ProjectListQueryTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public PortfolioRepository portfolioRepository(EntityManager em) {
+            return new PortfolioRepository(em);
+        }
+
+        @Bean
+        public ProjectSkillRepository projectSkillRepository(EntityManager em) {
+            return new ProjectSkillRepository(em);
+        }
+
+        @Bean
+        public ProjectImgRepository projectImgRepository(EntityManager em) {
+            return new ProjectImgRepository(em);
+        }
+    }
+
+    private static final int PROJECT_SIZE = 10;
+    private static final int SKILL_SIZE = 15;
+    private static final int IMAGE_SIZE = 10;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @MockBean
+    private ProjectAwardService projectAwardService;
+
+    @MockBean
+    private ImageService imageService;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("프로젝트 목록 조회 시 조회 행 수가 (프로젝트 + 사용 기술 + 이미지) 수를 넘지 않음")
+    void getProjectListRowCount() {
+        // given
+        Long portfolioId = savePortfolioWithProjects();
+
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<ProjectDTO.ProjectResp> result = projectService.getProjectList(portfolioId);
+
+        // then
+        assertThat(result).hasSize(PROJECT_SIZE);
+        assertThat(result).allSatisfy(projectResp -> {
+            assertThat(projectResp.getSkills()).hasSize(SKILL_SIZE);
+            assertThat(projectResp.getImages()).hasSize(IMAGE_SIZE);
+        });
+        assertThat(result.get(0).getSkills().get(0).getName()).isEqualTo("SKILL 0-0");
+        assertThat(result.get(0).getImages().get(0)).isEqualTo("이미지 url 0-0");
+
+        // 포트폴리오 조회 1 + 프로젝트 목록 조회 1 + 사용 기술 IN 조회 1 + 이미지 IN 조회 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        // 기존 fetch join 은 프로젝트마다 15 x 10 행 (총 1,500 행), 분리 조회는 10 + 150 + 100 행
+        long rowCount = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        assertThat(rowCount).isEqualTo(PROJECT_SIZE + PROJECT_SIZE * SKILL_SIZE + PROJECT_SIZE * IMAGE_SIZE);
+    }
+
+    private Long savePortfolioWithProjects() {
+        Member member = Member.builder()
+                .loginId("testId001")
+                .nickName("tester001")
+                .role(RoleType.ROLE_USER)
+                .build();
+
+        Job job = Job.builder()
+                .name("개발자")
+                .build();
+
+        em.persist(member);
+        em.persist(job);
+
+        Portfolio portfolio = Portfolio.builder()
+                .title("포트폴리오 title")
+                .description("포트폴리오 description")
+                .backgroundImg("포트폴리오 IMG")
+                .writer(member)
+                .job(job)
+                .build();
+
+        em.persist(portfolio);
+
+        for(int i = 0; i < PROJECT_SIZE; i++) {
+            Project project = Project.builder()
+                    .name("프로젝트 " + i)
+                    .portfolio(portfolio)
+                    .build();
+
+            em.persist(project);
+
+            for(int j = 0; j < SKILL_SIZE; j++) {
+                em.persist(ProjectSkill.builder()
+                        .name("SKILL " + i + "-" + j)
+                        .project(project)
+                        .build());
+            }
+
+            for(int j = 0; j < IMAGE_SIZE; j++) {
+                em.persist(ProjectImg.builder()
+                        .url("이미지 url " + i + "-" + j)
+                        .project(project)
+                        .build());
+            }
+        }
+
+        return portfolio.getId();
+    }
+}
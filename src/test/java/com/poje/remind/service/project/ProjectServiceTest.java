@@ -1,5 +1,8 @@
 package com.poje.remind.service.project;
 
+import com.poje.remind.common.ErrorCode;
+import com.poje.remind.common.GlobalException;
+import com.poje.remind.config.CurrentMember;
 import com.poje.remind.domain.Member.Member;
 import com.poje.remind.domain.Member.RoleType;
 import com.poje.remind.domain.ability.Job;
@@ -12,6 +15,7 @@ import com.poje.remind.repository.ability.JobRepository;
 import com.poje.remind.repository.member.MemberRepository;
 import com.poje.remind.repository.portfolio.PortfolioRepository;
 import com.poje.remind.repository.project.ProjectRepository;
+import com.poje.remind.service.portfolio.PortfolioAuthorizer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -34,7 +39,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
-@Import(ProjectService.class)
+@Import({ProjectService.class, PortfolioAuthorizer.class})
 class ProjectServiceTest {
 
     @Autowired
@@ -64,6 +69,9 @@ class ProjectServiceTest {
     @MockBean
     private BCryptPasswordEncoder passwordEncoder;
 
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
     private Member member;
     private Job job;
     private Portfolio portfolio;
@@ -71,6 +79,7 @@ class ProjectServiceTest {
     @BeforeEach
     void setup() {
         member = Member.builder()
+                .id(1L)
                 .loginId("testId001")
                 .password(passwordEncoder.encode("1234"))
                 .nickName("tester001")
@@ -98,12 +107,13 @@ class ProjectServiceTest {
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
 
-        when(memberRepository.findByLoginId(member.getLoginId())).thenReturn(Optional.of(member));
         when(jobRepository.findByName(job.getName())).thenReturn(Optional.of(job));
         when(portfolioRepository.findById(portfolio.getId())).thenReturn(Optional.of(portfolio));
+        when(portfolioRepository.existsByIdAndWriterId(portfolio.getId(), member.getId())).thenReturn(true);
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn(member.getLoginId());
+        when(authentication.getPrincipal()).thenReturn(new CurrentMember(member.getId(), member.getLoginId(), "", member.getRole()));
 
         SecurityContextHolder.setContext(securityContext);
     }
@@ -124,7 +134,6 @@ class ProjectServiceTest {
         // then
         verify(projectRepository, times(1)).save(any(Project.class));
         verify(portfolioRepository, times(1)).findById(portfolio.getId());
-        verify(memberRepository, times(1)).findByLoginId(member.getLoginId());
     }
 
     @Test
@@ -195,8 +204,7 @@ class ProjectServiceTest {
         projectService.updateProject(portfolio.getId(), project.getId(), updateReq);
 
         // then
-        verify(memberRepository, times(1)).findByLoginId(member.getLoginId());
-        verify(portfolioRepository, times(1)).findById(portfolio.getId());
+        verify(portfolioRepository, never()).findById(portfolio.getId());
         verify(projectRepository, times(1)).findByProjectIdAndMemberId(project.getId(), member.getId());
         verify(projectAwardService, times(1)).updateAward(project, updateReq.getAward());
         verify(projectSkillService, times(1)).updateSkill(project, updateReq.getSkills());
@@ -224,4 +232,28 @@ class ProjectServiceTest {
         // then
         verify(projectRepository, times(1)).delete(project);
     }
+
+    @Test
+    @DisplayName("다른 포트폴리오의 프로젝트 삭제 시 PROJECT_NOT_FOUND")
+    void deleteProjectOfOtherPortfolio() {
+        // given
+        Project project = Project.builder()
+                .id(1L)
+                .name("POJE")
+                .portfolio(portfolio)
+                .build();
+
+        // 작성자의 다른 포트폴리오
+        Long otherPortfolioId = portfolio.getId() + 1;
+
+        // when
+        when(portfolioRepository.existsByIdAndWriterId(otherPortfolioId, member.getId())).thenReturn(true);
+        when(projectRepository.findByProjectIdAndMemberId(project.getId(), member.getId())).thenReturn(Optional.of(project));
+        GlobalException exception = assertThrows(GlobalException.class,
+                () -> projectService.deleteProject(otherPortfolioId, project.getId()));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PROJECT_NOT_FOUND);
+        verify(projectRepository, never()).delete(any());
+    }
 }
\ No newline at end of file
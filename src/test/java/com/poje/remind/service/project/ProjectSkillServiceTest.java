@@ -135,25 +135,30 @@ class ProjectSkillServiceTest {
 
         List<ProjectSkillDTO.UpdateReq> updateReqList = List.of(
                 new ProjectSkillDTO.UpdateReq("JAVA"),
-                new ProjectSkillDTO.UpdateReq("SPRING"));
+                new ProjectSkillDTO.UpdateReq("SPRING"),
+                new ProjectSkillDTO.UpdateReq("DJANGO"));
 
         // ArgumentCaptor 생성
-        ArgumentCaptor<ProjectSkill> skillCaptor = ArgumentCaptor.forClass(ProjectSkill.class);
+        ArgumentCaptor<List<ProjectSkill>> skillCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<ProjectSkill>> savedSkillCaptor = ArgumentCaptor.forClass(List.class);
 
         // when
         when(projectSkillRepository.findByProject(project)).thenReturn(List.of(skill1, skill2));
         projectSkillService.updateSkill(project, updateReqList);
 
         // then
-        verify(projectSkillRepository, times(2)).save(any(ProjectSkill.class));
-        // delete 메소드에 전달된 인수들을 포착
-        verify(projectSkillRepository, times(2)).delete(skillCaptor.capture());
+        // 새로운 스킬은 한 번에 저장
+        verify(projectSkillRepository, times(1)).saveAll(savedSkillCaptor.capture());
+        verify(projectSkillRepository, never()).save(any(ProjectSkill.class));
+        assertEquals(List.of("JAVA", "SPRING"), savedSkillCaptor.getValue().stream().map(ProjectSkill::getName).toList());
 
-        // 포착된 인수들의 리스트를 가져옴
-        List<ProjectSkill> capturedSkills = skillCaptor.getAllValues();
+        // 삭제할 스킬은 한 번에 삭제 (deleteAll 메소드에 전달된 인수를 포착)
+        verify(projectSkillRepository, times(1)).deleteAll(skillCaptor.capture());
+        verify(projectSkillRepository, never()).delete(any(ProjectSkill.class));
 
-        // 특정 skill1, skill2가 포착된 인수들 중에 있는지 확인
+        // 업데이트 목록에 없는 skill1 만 삭제
+        List<ProjectSkill> capturedSkills = skillCaptor.getValue();
         assertTrue(capturedSkills.contains(skill1));
-        assertTrue(capturedSkills.contains(skill2));
+        assertFalse(capturedSkills.contains(skill2));
     }
 }
\ No newline at end of file